@@ -0,0 +1,44 @@
+package kr.ulsan.dreamshowchoir.dungeong.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 로컬 캐시(Caffeine) 설정
+ * - 게시글/공지사항 상세 응답 DTO를 캐싱 (수정은 드물고 조회는 잦음)
+ * - 크기(maximumSize) + TTL(expireAfterWrite)로 메모리 사용량과 최대 지연(stale) 시간을 제한
+ * - recordStats()로 히트/미스 통계를 기록 -> Actuator(/actuator/metrics/cache.gets)로 노출
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String POST_DETAIL = "postDetail";
+    public static final String NOTICE_DETAIL = "noticeDetail";
+
+    private static final long MAXIMUM_SIZE = 1_000;
+    private static final Duration EXPIRE_AFTER_WRITE = Duration.ofMinutes(10);
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .expireAfterWrite(EXPIRE_AFTER_WRITE)
+                .recordStats());
+
+        // 캐시 이름을 미리 등록 (시작 시점에 생성되어 메트릭에 자동 등록됨, 그 외 이름은 생성 불가)
+        cacheManager.setCacheNames(List.of(POST_DETAIL, NOTICE_DETAIL));
+
+        // 트랜잭션 안에서의 put/evict는 커밋 이후에 반영 (롤백된 변경으로 캐시가 지워지거나 채워지지 않도록)
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,29 @@
+package kr.ulsan.dreamshowchoir.dungeong.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.nio.file.Path;
+
+/**
+ * 로컬 파일 저장소("local-storage" 프로필)의 파일을 정적 리소스로 제공
+ * (S3 공개 URL 대신 /local-storage/{key} 로 접근)
+ */
+@Configuration
+@Profile("local-storage")
+public class LocalStorageWebConfig implements WebMvcConfigurer {
+
+    @Value("${storage.local.root-dir:${java.io.tmpdir}/dungeong-storage}")
+    private Path rootDir;
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        // 디렉터리 위치는 "/"로 끝나야 함 (디렉터리가 아직 없으면 toUri()가 "/"를 붙이지 않음)
+        String location = rootDir.toAbsolutePath().normalize().toUri().toString();
+        registry.addResourceHandler("/local-storage/**")
+                .addResourceLocations(location.endsWith("/") ? location : location + "/");
+    }
+}
@@ -5,6 +5,7 @@ import kr.ulsan.dreamshowchoir.dungeong.config.auth.HttpCookieOAuth2Authorizatio
 import kr.ulsan.dreamshowchoir.dungeong.config.auth.OAuth2LoginFailureHandler;
 import kr.ulsan.dreamshowchoir.dungeong.config.auth.OAuth2LoginSuccessHandler;
 import kr.ulsan.dreamshowchoir.dungeong.config.jwt.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -56,6 +57,9 @@ public class SecurityConfig {
         // --------------- API 엔드포인트별 접근 권한 설정
 
         http.authorizeHttpRequests(auth -> auth
+                // (비동기 디스패치) 스트리밍 응답(StreamingResponseBody) 완료 시의 ASYNC 디스패치는 허용
+                // (최초 요청에서 이미 인가를 통과했고, JWT 필터는 ASYNC 디스패치에서 다시 실행되지 않음)
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 // (공개 허용) 루트(/), OAuth2 로그인 과정(/oauth2/**) 등은 모두 허용
                 .requestMatchers(
                         "/",
@@ -67,7 +71,8 @@ public class SecurityConfig {
                         "/v3/api-docs/**",  // Springdoc API 문서
                         "/api-docs/**",
                         "/api/activity-materials/**",   // 활동 자료 조회
-                        "/api/auth/refresh"
+                        "/api/auth/refresh",
+                        "/actuator/health"              // 헬스 체크
                 ).permitAll()
                 .requestMatchers(HttpMethod.GET,        // 읽기
                         "/api/banners",             // 배너
@@ -77,9 +82,11 @@ public class SecurityConfig {
                         "/api/faq/**",              // FAQ
                         "/api/history",             // 연혁
                         "/api/content/**",           // 통합 콘텐츠
-                        "/api/donations/donors"
+                        "/api/donations/donors",
+                        "/local-storage/**"         // 로컬 파일 저장소 (local-storage 프로필에서만 존재)
                 ).permitAll()
                 .requestMatchers(HttpMethod.POST, "/api/inquiry").permitAll()   // 문의 생성
+                .requestMatchers(HttpMethod.PUT, "/local-storage-upload/**").permitAll()   // 로컬 저장소 직접 업로드 (URL 서명으로 검증)
 
                 // "GUEST"만 (최초 가입)
                 .requestMatchers("/api/users/sign-up").hasRole("GUEST")
@@ -106,6 +113,7 @@ public class SecurityConfig {
 
                 // (관리자 권한) /api/admin/** 은 'ADMIN' 역할(Role)이 있어야만 허용
                 .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                .requestMatchers("/actuator/**").hasRole("ADMIN")   // 메트릭/캐시 정보
 
 
                 // 그 외 모든 요청은 '인증'된 사용자만 접근 가능
@@ -35,14 +35,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // Request Header에서 토큰을 꺼냄
         String jwt = resolveToken(request);
 
-        // 토큰 유효성 검증
+        // 토큰 검증 + 인증 정보 생성 (서명 검증은 한 번만, 이미 검증한 토큰은 캐시 사용)
         // (StringUtils.hasText: null, "", " "가 아닌지 확인)
         try {
-            if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-
-                // 토큰이 유효하면, 토큰에서 Authentication(인증 정보) 객체를 가져옴
-                Authentication authentication = jwtTokenProvider.getAuthentication(jwt);
+            Authentication authentication = StringUtils.hasText(jwt) ? jwtTokenProvider.authenticate(jwt) : null;
 
+            if (authentication != null) {
                 // SecurityContextHolder에 인증 정보를 저장
                 // (이 코드가 실행되면, Spring Security는 이 요청을 '인증된 사용자'로 간주)
                 SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -1,8 +1,13 @@
 package kr.ulsan.dreamshowchoir.dungeong.config.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import kr.ulsan.dreamshowchoir.dungeong.config.auth.UserPrincipal;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -13,12 +18,17 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -26,6 +36,13 @@ import java.util.stream.Collectors;
 public class JwtTokenProvider {
 
     private final Key key;
+    // 서명 키가 고정이므로 파서는 한 번만 만들어 재사용 (생성 후에는 thread-safe)
+    private final JwtParser jwtParser;
+
+    // 검증을 마친 Access Token의 Claims 캐시 (Key: 토큰의 SHA-256, 토큰 만료 시각까지만 보관)
+    // 같은 토큰으로 들어오는 연속 요청은 파싱/HMAC 검증 없이 인증 정보를 만듦
+    private final Cache<String, VerifiedClaims> verifiedClaimsCache;
+
     // Access Token 만료 시간 Getter
     @Getter
     private final long tokenValidityInMilliseconds;
@@ -39,11 +56,43 @@ public class JwtTokenProvider {
     // application-oauth.properties에서 설정값 주입
     public JwtTokenProvider(
             @Value("${jwt.secret-key}") String secretKey,
-            @Value("${jwt.token-validity-in-milliseconds}") long tokenValidityInMilliseconds) {
+            @Value("${jwt.token-validity-in-milliseconds}") long tokenValidityInMilliseconds,
+            @Value("${jwt.claims-cache.max-size:10000}") long claimsCacheMaxSize,
+            MeterRegistry meterRegistry) {
 
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes); // HMAC-SHA 키 생성
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
         this.tokenValidityInMilliseconds = tokenValidityInMilliseconds;
+
+        this.verifiedClaimsCache = Caffeine.newBuilder()
+                .maximumSize(claimsCacheMaxSize)
+                .expireAfter(new Expiry<String, VerifiedClaims>() {
+                    @Override
+                    public long expireAfterCreate(String tokenDigest, VerifiedClaims claims, long currentTime) {
+                        long remainingMillis = claims.expiresAtMillis() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String tokenDigest, VerifiedClaims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String tokenDigest, VerifiedClaims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedClaimsCache, "jwt.claims");
+    }
+
+    /**
+     * 검증된 Access Token에서 인증에 필요한 값만 추린 것
+     */
+    private record VerifiedClaims(Long userId, List<SimpleGrantedAuthority> authorities, long expiresAtMillis) {
     }
 
     /**
@@ -74,34 +123,47 @@ public class JwtTokenProvider {
     }
 
     /**
-     * JWT 토큰을 복호화하여 인증(Authentication) 객체를 생성
+     * Access Token을 한 번만 검증하고 인증(Authentication) 객체를 생성 (요청 필터용)
+     * 이미 검증한 토큰이면 캐시된 Claims를 사용하고, 유효하지 않은 토큰이면 null 반환
      */
-    public Authentication getAuthentication(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    public Authentication authenticate(String token) {
+        String tokenDigest = digest(token);
+        VerifiedClaims verified = verifiedClaimsCache.getIfPresent(tokenDigest);
+
+        if (verified == null) {
+            Claims claims = parseValidClaims(token);
+            if (claims == null) {
+                return null;
+            }
+            verified = toVerifiedClaims(claims);
+            verifiedClaimsCache.put(tokenDigest, verified);
+        }
 
-        Collection<? extends GrantedAuthority> authorities =
-                Arrays.stream(claims.get("auth").toString().split(","))
-                        .map(SimpleGrantedAuthority::new)
-                        .collect(Collectors.toList());
+        // 인증 객체는 요청마다 새로 만듦 (필터 체인에서 details 설정 등으로 변경될 수 있음)
+        return new UsernamePasswordAuthenticationToken(verified.userId(), token, verified.authorities());
+    }
 
-        // Payload에서 userId 가져오기
-        Long userId = claims.get("userId", Long.class);
+    /**
+     * JWT 토큰을 복호화하여 인증(Authentication) 객체를 생성
+     */
+    public Authentication getAuthentication(String token) {
+        VerifiedClaims verified = toVerifiedClaims(jwtParser.parseClaimsJws(token).getBody());
 
         // UserPrincipal 대신 userId를 principal로 사용 (컨트롤러에서 @AuthenticationPrincipal Long userId로 받기 위함)
-        return new UsernamePasswordAuthenticationToken(userId, token, authorities);
+        return new UsernamePasswordAuthenticationToken(verified.userId(), token, verified.authorities());
     }
 
     /**
      * JWT 토큰의 유효성을 검증
      */
     public boolean validateToken(String token) {
+        return parseValidClaims(token) != null;
+    }
+
+    // 서명/만료 검증 후 Claims 반환 (유효하지 않으면 로그를 남기고 null)
+    private Claims parseValidClaims(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (SecurityException | MalformedJwtException e) {
             log.info("잘못된 JWT 서명입니다.");
         } catch (ExpiredJwtException e) {
@@ -111,7 +173,30 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.info("JWT 토큰이 잘못되었습니다.");
         }
-        return false;
+        return null;
+    }
+
+    private VerifiedClaims toVerifiedClaims(Claims claims) {
+        List<SimpleGrantedAuthority> authorities = Arrays.stream(claims.get("auth").toString().split(","))
+                .map(SimpleGrantedAuthority::new)
+                .toList();
+
+        // Payload에서 userId 가져오기
+        Long userId = claims.get("userId", Long.class);
+
+        // 만료 시각이 없는 토큰은 캐시하지 않음 (바로 만료 처리)
+        long expiresAtMillis = claims.getExpiration() != null ? claims.getExpiration().getTime() : 0;
+        return new VerifiedClaims(userId, authorities, expiresAtMillis);
+    }
+
+    // 캐시 Key: 토큰 원문 대신 SHA-256 (메모리 절약, 힙에 토큰 원문을 오래 남기지 않음)
+    private String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
     }
 
     // Refresh Token 생성 메소드 (Access Token과 만료 시간만 다름)
@@ -126,8 +211,7 @@ public class JwtTokenProvider {
 
     // Refresh Token 만료 시간 가져오기 (DB 저장용)
     public LocalDateTime getRefreshTokenExpiryDate(String token) {
-        Date expiration = Jwts.parserBuilder().setSigningKey(key).build()
-                .parseClaimsJws(token).getBody().getExpiration();
+        Date expiration = jwtParser.parseClaimsJws(token).getBody().getExpiration();
         return expiration.toInstant()
                 .atZone(ZoneId.systemDefault())
                 .toLocalDateTime();
@@ -5,15 +5,19 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import kr.ulsan.dreamshowchoir.dungeong.dto.activity.ActivityMaterialResponseDto;
 import kr.ulsan.dreamshowchoir.dungeong.dto.common.PageResponseDto;
 import kr.ulsan.dreamshowchoir.dungeong.service.ActivityMaterialService;
+import kr.ulsan.dreamshowchoir.dungeong.service.FileDownloadService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Tag(name = "Activity-Material(활동자료)", description = "활동자료 API")
 @RestController
@@ -22,6 +26,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class ActivityMaterialController {
 
     private final ActivityMaterialService activityMaterialService;
+    private final FileDownloadService fileDownloadService;
 
     /**
      * 활동자료 목록 조회 API
@@ -65,4 +70,25 @@ public class ActivityMaterialController {
         // 200 OK 상태와 함께 상세 정보 반환
         return ResponseEntity.ok(materialDetail);
     }
-}
\ No newline at end of file
+
+    /**
+     * 활동자료 파일을 스트리밍으로 다운로드하는 API
+     * (GET /api/activity-materials/{materialId}/download)
+     * (전체 공개 - Range 요청 시 206 Partial Content로 요청한 구간만 응답)
+     *
+     * @param materialId URL 경로에서 추출한 자료 ID
+     * @param range      (선택) Range 헤더 (예: "bytes=0-1048575")
+     * @param ifRange    (선택) If-Range 헤더 (ETag 또는 Last-Modified)
+     * @return 파일 본문 (스트리밍)
+     */
+    @Operation(summary = "활동자료 다운로드", description = "활동자료 파일을 스트리밍으로 내려받습니다. Range 요청(206)을 지원합니다.")
+    @GetMapping("/{materialId}/download")
+    public ResponseEntity<StreamingResponseBody> downloadMaterial(
+            @PathVariable Long materialId,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange
+    ) {
+        ActivityMaterialResponseDto material = activityMaterialService.getMaterialDetail(materialId);
+        return fileDownloadService.download(material.getFileKey(), material.getFileName(), range, ifRange);
+    }
+}
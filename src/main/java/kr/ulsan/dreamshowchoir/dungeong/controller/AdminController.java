@@ -15,6 +15,7 @@ import kr.ulsan.dreamshowchoir.dungeong.dto.common.StatusUpdateRequestDto;
 import kr.ulsan.dreamshowchoir.dungeong.dto.content.SiteContentCreateRequestDto;
 import kr.ulsan.dreamshowchoir.dungeong.dto.content.SiteContentResponseDto;
 import kr.ulsan.dreamshowchoir.dungeong.dto.content.SiteContentUpdateRequestDto;
+import kr.ulsan.dreamshowchoir.dungeong.dto.admin.OrphanGcReportDto;
 import kr.ulsan.dreamshowchoir.dungeong.dto.donation.DonationResponseDto;
 import kr.ulsan.dreamshowchoir.dungeong.dto.faq.FaqCreateRequestDto;
 import kr.ulsan.dreamshowchoir.dungeong.dto.faq.FaqResponseDto;
@@ -31,6 +32,7 @@ import kr.ulsan.dreamshowchoir.dungeong.dto.notice.NoticeCreateRequestDto;
 import kr.ulsan.dreamshowchoir.dungeong.dto.notice.NoticeResponseDto;
 import kr.ulsan.dreamshowchoir.dungeong.dto.notice.NoticeUpdateRequestDto;
 import kr.ulsan.dreamshowchoir.dungeong.dto.sheet.SheetResponseDto;
+import kr.ulsan.dreamshowchoir.dungeong.dto.upload.UploadFinalizeRequestDto;
 import kr.ulsan.dreamshowchoir.dungeong.dto.user.JoinApplicationResponseDto;
 import kr.ulsan.dreamshowchoir.dungeong.dto.user.UserAdminListResponseDto;
 import kr.ulsan.dreamshowchoir.dungeong.dto.user.UserResponseDto;
@@ -68,6 +70,7 @@ public class AdminController {
     private final UserService userService;
     private final SheetService sheetService;
     private final PostService postService;
+    private final OrphanObjectGcService orphanObjectGcService;
 
     // ---------------------------------- 가입 신청 ----------------------------------
 
@@ -406,6 +409,21 @@ public class AdminController {
         return ResponseEntity.ok(updatedGallery);
     }
 
+    /**
+     * (관리자용) 직접 업로드(Presigned URL)한 미디어를 갤러리에 등록
+     * (POST /api/admin/gallery/{galleryId}/media)
+     */
+    @Operation(summary = "갤러리 미디어 등록 (직접 업로드)", description = "POST /api/s3/presign 으로 발급받은 URL로 업로드를 마친 이미지/비디오를 갤러리에 등록합니다.")
+    @PostMapping("/gallery/{galleryId}/media")
+    public ResponseEntity<GalleryResponseDto> attachUploadedMedia(
+            @PathVariable Long galleryId,
+            @Valid @RequestBody UploadFinalizeRequestDto requestDto,
+            @AuthenticationPrincipal Long userId
+    ) {
+        GalleryResponseDto updatedGallery = galleryService.attachUploadedMedia(galleryId, requestDto.getFileKeys(), userId);
+        return ResponseEntity.ok(updatedGallery);
+    }
+
     /**
      * (관리자용) 갤러리 게시글 삭제 (논리 삭제)
      * (DELETE /api/admin/gallery)
@@ -673,4 +691,19 @@ public class AdminController {
 
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    // ---------------------------------- 저장소 정리 ----------------------------------
+
+    /**
+     * (관리자용) 고아 객체 GC 수동 실행
+     * POST /api/admin/storage/gc?dryRun=true
+     * dryRun=true(기본)면 삭제하지 않고 대상만 집계해서 반환
+     */
+    @Operation(summary = "고아 파일 정리", description = "어떤 데이터도 참조하지 않는 S3 파일을 찾아 정리합니다. (dryRun=true면 대상만 보고)")
+    @PostMapping("/storage/gc")
+    public ResponseEntity<OrphanGcReportDto> collectOrphanObjects(
+            @RequestParam(defaultValue = "true") boolean dryRun
+    ) {
+        return ResponseEntity.ok(orphanObjectGcService.collect(dryRun));
+    }
+}
@@ -2,13 +2,16 @@ package kr.ulsan.dreamshowchoir.dungeong.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import kr.ulsan.dreamshowchoir.dungeong.domain.common.ContentVersion;
 import kr.ulsan.dreamshowchoir.dungeong.dto.banner.BannerResponseDto;
 import kr.ulsan.dreamshowchoir.dungeong.service.BannerService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -25,11 +28,19 @@ public class BannerController {
      * (GET /api/banners)
      * (전체 공개)
      *
-     * @return 활성화된 배너 목록 (JSON List)
+     * @return 활성화된 배너 목록 (JSON List), 변경이 없으면 304 Not Modified
      */
     @Operation(summary = "활성화된 배너 목록 조회", description = "메인 페이지에 표시될 활성화된 배너 목록을 조회합니다.")
     @GetMapping
-    public ResponseEntity<List<BannerResponseDto>> getBanners() {
-        return ResponseEntity.ok(bannerService.getActiveBanners());
+    public ResponseEntity<List<BannerResponseDto>> getBanners(WebRequest webRequest) {
+        // ETag / Last-Modified가 일치하면 목록 조회 없이 304 응답
+        ContentVersion version = bannerService.getBannersVersion();
+        if (webRequest.checkNotModified(version.getEtag(), version.getLastModifiedMillis())) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache()) // 매번 재검증
+                .body(bannerService.getActiveBanners());
     }
 }
\ No newline at end of file
@@ -6,12 +6,15 @@ import jakarta.validation.Valid;
 import kr.ulsan.dreamshowchoir.dungeong.dto.comment.CommentCreateRequestDto;
 import kr.ulsan.dreamshowchoir.dungeong.dto.comment.CommentResponseDto;
 import kr.ulsan.dreamshowchoir.dungeong.dto.comment.CommentUpdateRequestDto;
+import kr.ulsan.dreamshowchoir.dungeong.dto.common.CursorResponseDto;
 import kr.ulsan.dreamshowchoir.dungeong.service.CommentService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -69,6 +72,54 @@ public class CommentController {
         return ResponseEntity.ok(commentList);
     }
 
+    /**
+     * 특정 게시글의 댓글 목록을 커서(Keyset) 방식으로 조회하는 API
+     * (GET /api/posts/{postId}/comments/cursor?cursor=...&size=20)
+     *
+     * @param postId URL 경로에서 추출한 게시글 ID
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 생략)
+     * @param size   페이지 크기 (기본 10, 최대 100)
+     * @return 커서 정보와 댓글 목록 (JSON)
+     */
+    @Operation(summary = "댓글 목록 커서 조회", description = "특정 게시글의 댓글을 오래된 순으로 나누어 조회합니다.")
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorResponseDto<CommentResponseDto>> getCommentListByCursor(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+
+        CursorResponseDto<CommentResponseDto> commentList = commentService.getCommentListByCursor(postId, cursor, size);
+
+        // 200 OK 상태와 함께 목록 반환
+        return ResponseEntity.ok(commentList);
+    }
+
+    /**
+     * 특정 게시글의 댓글 전체를 스트리밍으로 조회하는 API
+     * (GET /api/posts/{postId}/comments/stream)
+     * (댓글이 매우 많은 게시글용 - 서버가 전체 목록을 메모리에 모으지 않고 JSON 배열을 바로 흘려보냄)
+     *
+     * @param postId URL 경로에서 추출한 게시글 ID
+     * @return 댓글 목록 (JSON Array, 스트리밍)
+     */
+    @Operation(summary = "댓글 목록 스트리밍 조회", description = "특정 게시글의 모든 댓글을 스트리밍 JSON 배열로 조회합니다.")
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamCommentList(
+            @PathVariable Long postId
+    ) {
+
+        // 응답을 쓰기 시작하기 전에 게시글 존재 여부 확인 (없으면 404 처리 가능하도록)
+        commentService.checkPostExists(postId);
+
+        // 실제 JSON 작성은 비동기 스레드에서 트랜잭션과 함께 수행
+        StreamingResponseBody body = outputStream -> commentService.writeCommentList(postId, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
     /**
      * 댓글 수정 API
      * (PATCH /api/posts/{postId}/comments/{commentId})
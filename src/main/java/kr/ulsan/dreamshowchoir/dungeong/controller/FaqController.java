@@ -2,14 +2,17 @@ package kr.ulsan.dreamshowchoir.dungeong.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import kr.ulsan.dreamshowchoir.dungeong.domain.common.ContentVersion;
 import kr.ulsan.dreamshowchoir.dungeong.dto.faq.FaqResponseDto;
 import kr.ulsan.dreamshowchoir.dungeong.service.FaqService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -27,9 +30,17 @@ public class FaqController {
      */
     @Operation(summary = "FAQ 목록 전체 조회", description = "모든 FAQ 목록을 조회합니다.")
     @GetMapping
-    public ResponseEntity<List<FaqResponseDto>> getFaqList() {
+    public ResponseEntity<List<FaqResponseDto>> getFaqList(WebRequest webRequest) {
+        // ETag / Last-Modified가 일치하면 목록 조회 없이 304 응답
+        ContentVersion version = faqService.getFaqListVersion();
+        if (webRequest.checkNotModified(version.getEtag(), version.getLastModifiedMillis())) {
+            return null;
+        }
+
         List<FaqResponseDto> faqList = faqService.getFaqList();
-        return ResponseEntity.ok(faqList);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache()) // 매번 재검증
+                .body(faqList);
     }
 
     /**
@@ -3,6 +3,7 @@ package kr.ulsan.dreamshowchoir.dungeong.controller;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import kr.ulsan.dreamshowchoir.dungeong.domain.gallery.GalleryType;
+import kr.ulsan.dreamshowchoir.dungeong.dto.common.CursorResponseDto;
 import kr.ulsan.dreamshowchoir.dungeong.dto.common.PageResponseDto;
 import kr.ulsan.dreamshowchoir.dungeong.dto.gallery.GalleryListResponseDto;
 import kr.ulsan.dreamshowchoir.dungeong.dto.gallery.GalleryResponseDto;
@@ -37,6 +38,21 @@ public class GalleryController {
         return ResponseEntity.ok(galleryList);
     }
 
+    /**
+     * 갤러리 목록 커서 조회 (무한 스크롤)
+     * (전체 공개)
+     */
+    @Operation(summary = "갤러리 목록 커서 조회", description = "갤러리 게시글 목록을 커서(무한 스크롤) 방식으로 조회합니다.")
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorResponseDto<GalleryListResponseDto>> getGalleryListByCursor(
+            @RequestParam(required = false) GalleryType type,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        CursorResponseDto<GalleryListResponseDto> galleryList = galleryService.getGalleryListByCursor(type, cursor, size);
+        return ResponseEntity.ok(galleryList);
+    }
+
     /**
      * 갤러리 상세 조회
      * (전체 공개)
@@ -2,13 +2,16 @@ package kr.ulsan.dreamshowchoir.dungeong.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import kr.ulsan.dreamshowchoir.dungeong.domain.common.ContentVersion;
 import kr.ulsan.dreamshowchoir.dungeong.dto.history.HistoryResponseDto;
 import kr.ulsan.dreamshowchoir.dungeong.service.HistoryService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -26,8 +29,16 @@ public class HistoryController {
      */
     @Operation(summary = "연혁 목록 조회", description = "전체 연혁 목록을 조회합니다.")
     @GetMapping
-    public ResponseEntity<List<HistoryResponseDto>> getHistoryList() {
+    public ResponseEntity<List<HistoryResponseDto>> getHistoryList(WebRequest webRequest) {
+        // ETag / Last-Modified가 일치하면 목록 조회 없이 304 응답
+        ContentVersion version = historyService.getHistoryListVersion();
+        if (webRequest.checkNotModified(version.getEtag(), version.getLastModifiedMillis())) {
+            return null;
+        }
+
         List<HistoryResponseDto> historyList = historyService.getHistoryList();
-        return ResponseEntity.ok(historyList);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache()) // 매번 재검증
+                .body(historyList);
     }
 }
\ No newline at end of file
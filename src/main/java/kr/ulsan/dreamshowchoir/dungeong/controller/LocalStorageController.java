@@ -0,0 +1,73 @@
+package kr.ulsan.dreamshowchoir.dungeong.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import kr.ulsan.dreamshowchoir.dungeong.service.storage.LocalStorageBackend;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 로컬 파일 저장소("local-storage" 프로필)의 직접 업로드 (S3 Presigned PUT 대체)
+ * 인증 대신 LocalStorageBackend가 발급한 URL 서명으로 검증 (S3와 같이 Content-Type, x-amz-meta-* 헤더까지 일치해야 함)
+ */
+@Tag(name = "Local Storage", description = "로컬 파일 저장소 직접 업로드 API (local-storage 프로필)")
+@RestController
+@Profile("local-storage")
+@RequiredArgsConstructor
+public class LocalStorageController {
+
+    private static final String METADATA_HEADER_PREFIX = "x-amz-meta-";
+
+    private final LocalStorageBackend localStorageBackend;
+
+    /**
+     * 서명된 URL로 파일 업로드
+     * (PUT /local-storage-upload/{key}?expires=...&signature=...)
+     *
+     * @return 200 (성공) / 403 (만료 또는 서명 불일치)
+     */
+    @Operation(summary = "직접 업로드 (로컬 저장소)", description = "POST /api/s3/presign 으로 발급받은 URL과 헤더로 파일을 업로드합니다.")
+    @PutMapping("/local-storage-upload/{*key}")
+    public ResponseEntity<Void> upload(
+            @PathVariable String key,
+            @RequestParam long expires,
+            @RequestParam String signature,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            HttpServletRequest request
+    ) throws IOException {
+        String fileKey = key.startsWith("/") ? key.substring(1) : key;
+
+        // S3와 같이 사용자 메타데이터 헤더 이름은 소문자로 저장
+        Map<String, String> metadata = new LinkedHashMap<>();
+        for (String name : Collections.list(request.getHeaderNames())) {
+            String lowerName = name.toLowerCase();
+            if (lowerName.startsWith(METADATA_HEADER_PREFIX)) {
+                metadata.put(lowerName.substring(METADATA_HEADER_PREFIX.length()), request.getHeader(name));
+            }
+        }
+
+        if (!localStorageBackend.verifyPresignedPut(fileKey, contentType, metadata, expires, signature)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        try (InputStream inputStream = request.getInputStream()) {
+            localStorageBackend.upload(fileKey, inputStream, request.getContentLengthLong(), contentType, metadata);
+        }
+        return ResponseEntity.ok().build();
+    }
+}
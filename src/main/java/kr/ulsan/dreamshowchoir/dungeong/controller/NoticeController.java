@@ -2,6 +2,7 @@ package kr.ulsan.dreamshowchoir.dungeong.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import kr.ulsan.dreamshowchoir.dungeong.dto.common.CursorResponseDto;
 import kr.ulsan.dreamshowchoir.dungeong.dto.common.PageResponseDto;
 import kr.ulsan.dreamshowchoir.dungeong.dto.notice.NoticeListResponseDto;
 import kr.ulsan.dreamshowchoir.dungeong.dto.notice.NoticeResponseDto;
@@ -10,11 +11,14 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @Tag(name = "Notice (공지사항)", description = "공지사항 관련 API")
 @RestController
@@ -43,20 +47,70 @@ public class NoticeController {
         return ResponseEntity.ok(noticeList);
     }
 
+    /**
+     * 공지사항 목록 커서(Keyset) 조회 API
+     * (GET /api/notices/cursor?cursor=...&size=10)
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 생략)
+     * @param size   페이지 크기 (기본 10, 최대 100)
+     * @return 커서 정보와 공지사항 목록 (JSON)
+     */
+    @Operation(summary = "공지사항 목록 커서 조회", description = "공지사항 목록을 커서(무한 스크롤) 방식으로 조회합니다.")
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorResponseDto<NoticeListResponseDto>> getNoticeListByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        CursorResponseDto<NoticeListResponseDto> noticeList = noticeService.getNoticeListByCursor(cursor, size);
+
+        return ResponseEntity.ok(noticeList);
+    }
+
+    /**
+     * 공지사항 검색 API (제목 + 본문)
+     * (GET /api/notices/search?keyword=연습&cursor=...&size=10)
+     *
+     * @param keyword 검색어
+     * @param cursor  이전 응답의 nextCursor (첫 페이지면 생략)
+     * @param size    페이지 크기 (기본 10, 최대 100)
+     * @return 커서 정보와 검색된 공지사항 목록 (JSON)
+     */
+    @Operation(summary = "공지사항 검색", description = "제목/본문으로 공지사항을 검색합니다. (관련도 순)")
+    @GetMapping("/search")
+    public ResponseEntity<CursorResponseDto<NoticeListResponseDto>> searchNotices(
+            @RequestParam String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        CursorResponseDto<NoticeListResponseDto> result = noticeService.searchNotices(keyword, cursor, size);
+
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * 공지사항 상세 조회 API
      * (GET /api/notices/{noticeId})
      *
      * @param noticeId URL 경로에서 추출한 공지사항 ID
-     * @return 공지사항 상세 정보 (JSON)
+     * @return 공지사항 상세 정보 (JSON), 변경이 없으면 304 Not Modified
      */
     @Operation(summary = "공지사항 상세 조회", description = "특정 공지사항의 상세 정보를 조회합니다.")
     @GetMapping("/{noticeId}")
     public ResponseEntity<NoticeResponseDto> getNoticeDetail(
-            @PathVariable Long noticeId
+            @PathVariable Long noticeId,
+            WebRequest webRequest
     ) {
+        // 캐시 히트면 DB 조회 없음 (조회수 증가)
         NoticeResponseDto noticeDetail = noticeService.getNoticeDetail(noticeId);
-        return ResponseEntity.ok(noticeDetail);
+
+        // 캐시된 DTO의 ETag로 판단 (상세는 Last-Modified 없음), 일치하면 본문 없이 304 응답
+        if (webRequest.checkNotModified(noticeDetail.getVersion().getEtag())) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(noticeDetail);
     }
 
 
@@ -3,21 +3,25 @@ package kr.ulsan.dreamshowchoir.dungeong.controller;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import kr.ulsan.dreamshowchoir.dungeong.dto.common.CursorResponseDto;
 import kr.ulsan.dreamshowchoir.dungeong.dto.common.PageResponseDto;
 import kr.ulsan.dreamshowchoir.dungeong.dto.post.PostCreateRequestDto;
 import kr.ulsan.dreamshowchoir.dungeong.dto.post.PostListResponseDto;
 import kr.ulsan.dreamshowchoir.dungeong.dto.post.PostResponseDto;
 import kr.ulsan.dreamshowchoir.dungeong.dto.post.PostUpdateRequestDto;
+import kr.ulsan.dreamshowchoir.dungeong.dto.upload.UploadFinalizeRequestDto;
 import kr.ulsan.dreamshowchoir.dungeong.service.PostService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
@@ -76,24 +80,78 @@ public class PostController {
         return ResponseEntity.ok(postList);
     }
 
+    /**
+     * 게시글 목록을 커서(Keyset) 방식으로 조회하는 API
+     * (GET /api/posts/cursor?cursor=...&size=10)
+     * (깊은 페이지에서도 OFFSET 스캔/count 쿼리 없이 일정한 속도로 조회)
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 생략)
+     * @param size   페이지 크기 (기본 10, 최대 100)
+     * @return 커서 정보와 게시글 목록 (JSON)
+     */
+    @Operation(summary = "게시글 목록 커서 조회", description = "게시글 목록을 커서(무한 스크롤) 방식으로 조회합니다.")
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorResponseDto<PostListResponseDto>> getPostListByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+
+        CursorResponseDto<PostListResponseDto> postList = postService.getPostListByCursor(cursor, size);
+
+        // 200 OK 상태와 함께 목록 반환
+        return ResponseEntity.ok(postList);
+    }
+
+    /**
+     * 게시글을 검색하는 API (제목 + 본문)
+     * (GET /api/posts/search?keyword=정기공연&cursor=...&size=10)
+     * (관련도 순 정렬, 커서 방식 페이징)
+     *
+     * @param keyword 검색어
+     * @param cursor  이전 응답의 nextCursor (첫 페이지면 생략)
+     * @param size    페이지 크기 (기본 10, 최대 100)
+     * @return 커서 정보와 검색된 게시글 목록 (JSON)
+     */
+    @Operation(summary = "게시글 검색", description = "제목/본문으로 게시글을 검색합니다. (관련도 순)")
+    @GetMapping("/search")
+    public ResponseEntity<CursorResponseDto<PostListResponseDto>> searchPosts(
+            @RequestParam String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+
+        CursorResponseDto<PostListResponseDto> result = postService.searchPosts(keyword, cursor, size);
+
+        // 200 OK 상태와 함께 검색 결과 반환
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * 게시글 1건을 상세 조회하는 API
      * (GET /api/posts/{postId})
      * (MEMBER 권한 필요 - SecurityConfig에서 설정됨)
      *
      * @param postId URL 경로에서 추출한 게시글 ID
-     * @return 게시글 상세 정보 (JSON)
+     * @return 게시글 상세 정보 (JSON), 변경이 없으면 304 Not Modified
      */
     @Operation(summary = "게시글 상세 조회", description = "특정 게시글의 상세 정보를 조회합니다.")
     @GetMapping("/{postId}")
     public ResponseEntity<PostResponseDto> getPostDetail(
-            @PathVariable Long postId // URL 경로의 {postId} 값을 Long postId 변수에 주입
+            @PathVariable Long postId, // URL 경로의 {postId} 값을 Long postId 변수에 주입
+            WebRequest webRequest
     ) {
-        // Service를 호출하여 상세 정보 DTO를 받아옴
+        // Service를 호출하여 상세 정보 DTO를 받아옴 (캐시 히트면 DB 조회 없음, 조회수 증가)
         PostResponseDto postDetail = postService.getPostDetail(postId);
 
-        // 200 OK 상태와 함께 상세 정보 반환
-        return ResponseEntity.ok(postDetail);
+        // 캐시된 DTO의 ETag로 판단 (상세는 Last-Modified 없음), 일치하면 본문 없이 304 응답
+        if (webRequest.checkNotModified(postDetail.getVersion().getEtag())) {
+            return null;
+        }
+
+        // 200 OK 상태와 함께 상세 정보 반환 (단원 전용이므로 private 캐시만 허용)
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(postDetail);
     }
 
     /**
@@ -120,6 +178,26 @@ public class PostController {
         return ResponseEntity.ok(updatedPost);
     }
 
+    /**
+     * 직접 업로드(Presigned URL)한 이미지를 게시글에 등록하는 API
+     * (POST /api/posts/{postId}/images)
+     *
+     * @param postId     URL 경로에서 추출한 게시글 ID
+     * @param requestDto S3에 업로드를 마친 fileKey 목록 (JSON)
+     * @param userId     JWT 토큰에서 추출한 현재 로그인한 사용자의 ID
+     * @return 수정된 게시글의 상세 정보 (JSON)
+     */
+    @Operation(summary = "게시글 이미지 등록 (직접 업로드)", description = "POST /api/s3/presign 으로 발급받은 URL로 업로드를 마친 이미지를 게시글에 등록합니다.")
+    @PostMapping("/{postId}/images")
+    public ResponseEntity<PostResponseDto> attachUploadedImages(
+            @PathVariable Long postId,
+            @Valid @RequestBody UploadFinalizeRequestDto requestDto,
+            @AuthenticationPrincipal Long userId
+    ) {
+        PostResponseDto updatedPost = postService.attachUploadedImages(postId, requestDto.getFileKeys(), userId);
+        return ResponseEntity.ok(updatedPost);
+    }
+
     /**
      * 게시글을 삭제하는 API
      * (DELETE /api/posts/{postId})
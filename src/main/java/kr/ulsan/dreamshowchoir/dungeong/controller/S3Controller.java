@@ -2,13 +2,23 @@ package kr.ulsan.dreamshowchoir.dungeong.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import kr.ulsan.dreamshowchoir.dungeong.domain.common.UploadDirectory;
+import kr.ulsan.dreamshowchoir.dungeong.dto.upload.PresignedUploadRequestDto;
+import kr.ulsan.dreamshowchoir.dungeong.dto.upload.PresignedUploadResponseDto;
+import kr.ulsan.dreamshowchoir.dungeong.dto.upload.StreamUploadResponseDto;
 import kr.ulsan.dreamshowchoir.dungeong.service.S3Service;
+import kr.ulsan.dreamshowchoir.dungeong.service.UploadService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -19,6 +29,7 @@ import java.util.Map;
 public class S3Controller {
 
     private final S3Service s3Service;
+    private final UploadService uploadService;
 
     /**
      * 이미지 업로드 API
@@ -43,4 +54,50 @@ public class S3Controller {
 
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    /**
+     * 직접 업로드용 Presigned URL 발급 API
+     * (POST /api/s3/presign)
+     * 클라이언트는 응답의 uploadUrl로 headers를 포함해 PUT 요청을 보낸 뒤,
+     * 받은 fileKey로 각 도메인의 등록(finalize) API를 호출
+     *
+     * @param requestDto 업로드 폴더, 파일 이름/형식/크기 (JSON)
+     * @param userId     JWT 토큰에서 추출한 현재 로그인한 사용자의 ID (폴더별 권한 검사)
+     * @return 업로드 URL, 필수 헤더, fileKey, 만료 시각
+     */
+    @Operation(summary = "직접 업로드 URL 발급", description = "파일을 S3로 직접 업로드할 수 있는 Presigned PUT URL을 발급합니다. (gallery: ADMIN, post/sheet: MEMBER 이상)")
+    @PostMapping("/presign")
+    public ResponseEntity<PresignedUploadResponseDto> createPresignedUpload(
+            @Valid @RequestBody PresignedUploadRequestDto requestDto,
+            @AuthenticationPrincipal Long userId
+    ) {
+        return ResponseEntity.ok(uploadService.createPresignedUpload(requestDto, userId));
+    }
+
+    /**
+     * 스트리밍 업로드 API
+     * (PUT /api/s3/stream?dir=GALLERY&fileName=video.mp4)
+     * 요청 본문에 파일 바이트를 그대로 담아 보내면 임시 파일 없이 S3로 바로 전송
+     * (Content-Type: 파일 형식, Content-Length 필수)
+     * 받은 fileKey로 각 도메인의 등록(finalize) API를 호출 (직접 업로드와 동일)
+     *
+     * @param dir      업로드 폴더 (GALLERY, POST, SHEET)
+     * @param fileName 원본 파일 이름
+     * @param request  요청 (본문 스트림, Content-Type, Content-Length)
+     * @param userId   JWT 토큰에서 추출한 현재 로그인한 사용자의 ID (폴더별 권한 검사)
+     * @return fileKey, 업로드된 파일 URL, 크기
+     */
+    @Operation(summary = "스트리밍 업로드", description = "요청 본문(파일 바이트)을 임시 파일 없이 S3로 바로 업로드합니다. Content-Type/Content-Length 헤더가 필요하며, 받은 fileKey로 등록 API를 호출합니다.")
+    @PutMapping("/stream")
+    public ResponseEntity<StreamUploadResponseDto> uploadStream(
+            @RequestParam UploadDirectory dir,
+            @RequestParam String fileName,
+            HttpServletRequest request,
+            @AuthenticationPrincipal Long userId
+    ) throws IOException {
+        try (InputStream inputStream = request.getInputStream()) {
+            return ResponseEntity.ok(uploadService.uploadStream(dir, fileName, request.getContentType(),
+                    request.getContentLengthLong(), inputStream, userId));
+        }
+    }
+}
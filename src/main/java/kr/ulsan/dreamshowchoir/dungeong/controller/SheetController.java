@@ -2,19 +2,26 @@ package kr.ulsan.dreamshowchoir.dungeong.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import kr.ulsan.dreamshowchoir.dungeong.dto.common.PageResponseDto;
 import kr.ulsan.dreamshowchoir.dungeong.dto.sheet.SheetResponseDto;
+import kr.ulsan.dreamshowchoir.dungeong.dto.upload.UploadFinalizeRequestDto;
+import kr.ulsan.dreamshowchoir.dungeong.service.FileDownloadService;
 import kr.ulsan.dreamshowchoir.dungeong.service.SheetService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 @Tag(name = "Sheet (악보/자료)", description = "단원 전용 악보/자료실 관련 API")
 @RestController
@@ -23,6 +30,7 @@ import org.springframework.web.multipart.MultipartFile;
 public class SheetController {
 
     private final SheetService sheetService;
+    private final FileDownloadService fileDownloadService;
 
     /**
      * 악보/자료실 목록을 페이징하여 조회하는 API
@@ -47,6 +55,27 @@ public class SheetController {
         return ResponseEntity.ok(sheetList);
     }
 
+    /**
+     * 악보/음원 파일을 스트리밍으로 다운로드하는 API
+     * (GET /api/sheets/{sheetId}/download)
+     * (MEMBER 권한 필요 - Range 요청 시 206 Partial Content로 요청한 구간만 응답)
+     *
+     * @param sheetId URL 경로에서 추출한 악보 ID
+     * @param range   (선택) Range 헤더 (예: "bytes=0-1048575")
+     * @param ifRange (선택) If-Range 헤더 (ETag 또는 Last-Modified)
+     * @return 파일 본문 (스트리밍)
+     */
+    @Operation(summary = "악보/자료 다운로드", description = "악보/음원 파일을 스트리밍으로 내려받습니다. Range 요청(206)을 지원하여 오디오 탐색, PDF 부분 로딩이 가능합니다.")
+    @GetMapping("/{sheetId}/download")
+    public ResponseEntity<StreamingResponseBody> downloadSheet(
+            @PathVariable Long sheetId,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange
+    ) {
+        SheetResponseDto sheet = sheetService.getSheet(sheetId);
+        return fileDownloadService.download(sheet.getFileKey(), sheet.getFileName(), range, ifRange);
+    }
+
     /**
      * 새로운 악보를 업로드하는 API
      * (POST /api/sheets)
@@ -70,6 +99,25 @@ public class SheetController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdSheet);
     }
 
+    /**
+     * 직접 업로드(Presigned URL)한 악보 파일들을 등록하는 API
+     * (POST /api/sheets/uploads)
+     * (단원 전용 - MEMBER 권한 필요)
+     *
+     * @param requestDto S3에 업로드를 마친 fileKey 목록 (JSON)
+     * @param userId     JWT 토큰에서 추출한 현재 로그인한 사용자의 ID
+     * @return 생성된 악보들의 상세 정보 (JSON)
+     */
+    @Operation(summary = "악보/자료 등록 (직접 업로드)", description = "POST /api/s3/presign 으로 발급받은 URL로 업로드를 마친 파일들을 악보/자료로 등록합니다.")
+    @PostMapping("/uploads")
+    public ResponseEntity<List<SheetResponseDto>> createSheetsFromUploads(
+            @Valid @RequestBody UploadFinalizeRequestDto requestDto,
+            @AuthenticationPrincipal Long userId
+    ) {
+        List<SheetResponseDto> createdSheets = sheetService.createSheetsFromUploads(requestDto.getFileKeys(), userId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(createdSheets);
+    }
+
     /**
      * 악보를 삭제하는 API
      * (DELETE /api/sheets/{sheetId})
@@ -2,14 +2,17 @@ package kr.ulsan.dreamshowchoir.dungeong.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import kr.ulsan.dreamshowchoir.dungeong.domain.common.ContentVersion;
 import kr.ulsan.dreamshowchoir.dungeong.dto.content.SiteContentResponseDto;
 import kr.ulsan.dreamshowchoir.dungeong.service.SiteContentService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @Tag(name = "Site Content (통합 콘텐츠)", description = "사이트 소개, 모집 안내 등 정적 콘텐츠 관련 API")
 @RestController
@@ -27,10 +30,19 @@ public class SiteContentController {
     @Operation(summary = "통합 콘텐츠 조회", description = "contentKey를 사용하여 특정 통합 콘텐츠를 조회합니다.")
     @GetMapping("/{contentKey}")
     public ResponseEntity<SiteContentResponseDto> getSiteContent(
-            @PathVariable String contentKey
+            @PathVariable String contentKey,
+            WebRequest webRequest
     ) {
+        // ETag / Last-Modified가 일치하면 본문 조회 없이 304 응답
+        ContentVersion version = siteContentService.getSiteContentVersion(contentKey);
+        if (webRequest.checkNotModified(version.getEtag(), version.getLastModifiedMillis())) {
+            return null;
+        }
+
         SiteContentResponseDto content = siteContentService.getSiteContent(contentKey);
-        return ResponseEntity.ok(content);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache()) // 매번 재검증
+                .body(content);
     }
 
 }
\ No newline at end of file
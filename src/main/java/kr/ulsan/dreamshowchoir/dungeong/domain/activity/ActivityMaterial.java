@@ -31,7 +31,7 @@ public class ActivityMaterial extends BaseTimeEntity {
     @Column(name = "TITLE", nullable = false)
     private String title;
 
-    @Column(name = "FILE_KEY", nullable = false, unique = true)
+    @Column(name = "FILE_KEY", nullable = false)
     private String fileKey;
 
     @Column(name = "FILE_NAME", nullable = false)
@@ -2,11 +2,15 @@ package kr.ulsan.dreamshowchoir.dungeong.domain.banner;
 
 import jakarta.persistence.*;
 import kr.ulsan.dreamshowchoir.dungeong.domain.common.BaseTimeEntity;
+import kr.ulsan.dreamshowchoir.dungeong.domain.common.ImageVariants;
+import kr.ulsan.dreamshowchoir.dungeong.domain.common.ImageVariantsConverter;
 import lombok.*;
 import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 
+import java.util.List;
+
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -23,12 +27,17 @@ public class Banner extends BaseTimeEntity {
     @Column(name = "BANNER_ID")
     private Long bannerId;
 
-    @Column(name = "IMAGE_KEY", nullable = false, unique = true)
+    @Column(name = "IMAGE_KEY", nullable = false)
     private String imageKey;
 
     @Column(name = "IMAGE_NAME", nullable = false)
     private String imageName;
 
+    // 리사이즈 변환본 URL (업로드 커밋 후 ImageVariantService가 비동기로 채움, 생성 전/이미지가 아니면 null)
+    @Convert(converter = ImageVariantsConverter.class)
+    @Column(name = "VARIANT_KEYS", columnDefinition = "TEXT")
+    private ImageVariants variants;
+
     @Column(name = "TITLE")
     private String title;
 
@@ -45,6 +54,9 @@ public class Banner extends BaseTimeEntity {
 
     // 수정
     public void update(String imageKey, String imageName, String title, String description, Integer orderIndex) {
+        if (!imageKey.equals(this.imageKey)) {
+            this.variants = null; // 이미지가 바뀌면 기존 변환본은 더 이상 유효하지 않음
+        }
         this.imageKey = imageKey;
         this.imageName = imageName;
         this.title = title;
@@ -60,4 +72,9 @@ public class Banner extends BaseTimeEntity {
     public void deactivate() {
         this.isActive = false;
     }
+
+    // 원본 + 변환본 URL 목록 (S3 파일 삭제용)
+    public List<String> getFileKeys() {
+        return ImageVariants.withOriginal(imageKey, variants);
+    }
 }
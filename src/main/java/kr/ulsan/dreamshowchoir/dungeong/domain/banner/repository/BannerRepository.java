@@ -1,8 +1,14 @@
 package kr.ulsan.dreamshowchoir.dungeong.domain.banner.repository;
 
 import kr.ulsan.dreamshowchoir.dungeong.domain.banner.Banner;
+import kr.ulsan.dreamshowchoir.dungeong.domain.common.ContentVersion;
+import kr.ulsan.dreamshowchoir.dungeong.domain.common.ImageVariants;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface BannerRepository extends JpaRepository<Banner, Long> {
@@ -11,4 +17,17 @@ public interface BannerRepository extends JpaRepository<Banner, Long> {
 
     // 전체 배너 목록 조회
     List<Banner> findAllByOrderByOrderIndexAsc();
+
+    // 조건부 GET용 버전 정보 (최종 수정 시각 + 개수)
+    @Query("SELECT new kr.ulsan.dreamshowchoir.dungeong.domain.common.ContentVersion(MAX(b.updatedAt), COUNT(b)) FROM Banner b")
+    ContentVersion findVersion();
+
+    /**
+     * 변환본 URL 저장 (ImageVariantService에서 호출)
+     * 목록 ETag가 바뀌도록 수정 시각도 함께 갱신, 그 사이 이미지가 교체/삭제되었으면 0을 반환
+     */
+    @Modifying
+    @Query("UPDATE Banner b SET b.variants = :variants, b.updatedAt = :now WHERE b.bannerId = :bannerId AND b.imageKey = :imageKey")
+    int updateVariants(@Param("bannerId") Long bannerId, @Param("imageKey") String imageKey,
+                       @Param("variants") ImageVariants variants, @Param("now") LocalDateTime now);
 }
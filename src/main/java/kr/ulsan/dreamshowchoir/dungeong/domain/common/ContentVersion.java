@@ -0,0 +1,61 @@
+package kr.ulsan.dreamshowchoir.dungeong.domain.common;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Objects;
+
+/**
+ * 조건부 GET(ETag / Last-Modified) 판단용 버전 정보 (JPQL 생성자 프로젝션)
+ * 본문 조회 없이 수정 시각, 개수만으로 계산함
+ */
+@Getter
+public class ContentVersion {
+
+    private final LocalDateTime lastModified; // 최종 수정 시각 (없으면 null)
+    private final String etag;                // Weak ETag (W/"...")
+
+    /**
+     * 목록용: 최종 수정 시각 + 행 개수
+     * (행 삭제는 개수로, 추가/수정은 수정 시각으로 감지)
+     */
+    public ContentVersion(LocalDateTime lastModified, Long count) {
+        this.lastModified = lastModified;
+        this.etag = toEtag(toEpochMilli(lastModified), count);
+    }
+
+    /**
+     * 상세용: 본문 수정 시각 + 첨부 개수/변환본 생성된 첨부 개수/최종 첨부 시각 + 댓글 수
+     * (첨부만 추가/삭제되거나 변환본이 나중에 채워지면 본문 UPDATED_AT이 바뀌지 않으므로 함께 반영)
+     * 댓글/첨부 삭제, 변환본 생성은 어떤 시각도 바꾸지 않으므로 Last-Modified 없이 ETag로만 판단
+     * (If-Modified-Since만 보내는 클라이언트가 예전 댓글 수/srcset으로 304를 받지 않도록)
+     */
+    public ContentVersion(LocalDateTime updatedAt, Long attachmentCount, Long attachmentVariantCount,
+                          LocalDateTime attachmentLastCreatedAt, Integer commentCount) {
+        this.lastModified = null;
+        this.etag = toEtag(toEpochMilli(updatedAt), attachmentCount, attachmentVariantCount, toEpochMilli(attachmentLastCreatedAt), commentCount);
+    }
+
+    /**
+     * Last-Modified 헤더용 epoch millis (없으면 -1, WebRequest.checkNotModified 규약)
+     */
+    public long getLastModifiedMillis() {
+        return lastModified == null ? -1 : toEpochMilli(lastModified);
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime == null ? 0 : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static String toEtag(Object... parts) {
+        StringBuilder sb = new StringBuilder("W/\"");
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                sb.append('-');
+            }
+            sb.append(Objects.requireNonNullElse(parts[i], 0));
+        }
+        return sb.append('"').toString();
+    }
+}
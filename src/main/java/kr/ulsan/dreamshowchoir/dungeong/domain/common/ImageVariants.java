@@ -0,0 +1,74 @@
+package kr.ulsan.dreamshowchoir.dungeong.domain.common;
+
+import lombok.EqualsAndHashCode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+
+/**
+ * 이미지 변환본(리사이즈 JPEG) URL 목록 (가로 폭 -> URL, 폭 오름차순)
+ * DB에는 ImageVariantsConverter로 "320=url,800=url" 형태의 문자열로 저장
+ */
+@EqualsAndHashCode
+public class ImageVariants {
+
+    private final TreeMap<Integer, String> urlsByWidth;
+
+    private ImageVariants(Map<Integer, String> urlsByWidth) {
+        this.urlsByWidth = new TreeMap<>(urlsByWidth);
+    }
+
+    public static ImageVariants of(Map<Integer, String> urlsByWidth) {
+        return new ImageVariants(urlsByWidth);
+    }
+
+    public Map<Integer, String> getUrlsByWidth() {
+        return Collections.unmodifiableMap(urlsByWidth);
+    }
+
+    public boolean isEmpty() {
+        return urlsByWidth.isEmpty();
+    }
+
+    /**
+     * 가장 작은 변환본 URL (목록 썸네일용)
+     */
+    public String getSmallestUrl() {
+        return urlsByWidth.firstEntry().getValue();
+    }
+
+    /**
+     * <img srcset> 속성 값 (예: "https://.../a-w320.jpg 320w, https://.../a-w800.jpg 800w")
+     */
+    public String toSrcset() {
+        StringJoiner joiner = new StringJoiner(", ");
+        urlsByWidth.forEach((width, url) -> joiner.add(url + " " + width + "w"));
+        return joiner.toString();
+    }
+
+    /**
+     * 원본 URL + 변환본 URL 목록 (파일 삭제용)
+     *
+     * @param originalUrl 원본 파일 URL
+     * @param variants    변환본 (아직 생성되지 않았으면 null)
+     */
+    public static List<String> withOriginal(String originalUrl, ImageVariants variants) {
+        List<String> urls = new ArrayList<>();
+        urls.add(originalUrl);
+        if (variants != null) {
+            urls.addAll(variants.urlsByWidth.values());
+        }
+        return urls;
+    }
+
+    /**
+     * srcset 값 (변환본이 없으면 null -> 프론트는 원본 URL 사용)
+     */
+    public static String srcsetOf(ImageVariants variants) {
+        return variants == null || variants.isEmpty() ? null : variants.toSrcset();
+    }
+}
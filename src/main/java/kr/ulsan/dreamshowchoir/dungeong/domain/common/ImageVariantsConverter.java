@@ -0,0 +1,41 @@
+package kr.ulsan.dreamshowchoir.dungeong.domain.common;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * ImageVariants <-> "320=url,800=url" 문자열 변환
+ * (변환본 Key는 서버에서 생성하므로 ',' / '='가 포함되지 않음)
+ */
+@Converter
+public class ImageVariantsConverter implements AttributeConverter<ImageVariants, String> {
+
+    @Override
+    public String convertToDatabaseColumn(ImageVariants variants) {
+        if (variants == null || variants.isEmpty()) {
+            return null;
+        }
+
+        StringJoiner joiner = new StringJoiner(",");
+        variants.getUrlsByWidth().forEach((width, url) -> joiner.add(width + "=" + url));
+        return joiner.toString();
+    }
+
+    @Override
+    public ImageVariants convertToEntityAttribute(String dbData) {
+        if (dbData == null || dbData.isBlank()) {
+            return null;
+        }
+
+        Map<Integer, String> urlsByWidth = new LinkedHashMap<>();
+        for (String entry : dbData.split(",")) {
+            int separator = entry.indexOf('=');
+            urlsByWidth.put(Integer.parseInt(entry.substring(0, separator)), entry.substring(separator + 1));
+        }
+        return ImageVariants.of(urlsByWidth);
+    }
+}
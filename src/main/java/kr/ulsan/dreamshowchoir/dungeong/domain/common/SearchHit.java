@@ -0,0 +1,14 @@
+package kr.ulsan.dreamshowchoir.dungeong.domain.common;
+
+import java.math.BigDecimal;
+
+/**
+ * 전문 검색 결과 (ID + 관련도 점수) 인터페이스 프로젝션
+ * 네이티브 검색 쿼리의 별칭(id, score)과 매핑됨
+ */
+public interface SearchHit {
+
+    Long getId();
+
+    BigDecimal getScore();
+}
@@ -0,0 +1,43 @@
+package kr.ulsan.dreamshowchoir.dungeong.domain.common;
+
+import kr.ulsan.dreamshowchoir.dungeong.domain.user.Role;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 직접 업로드(Presigned URL) 가능한 S3 폴더와 폴더별 업로드 정책
+ * (기존 서버 경유 업로드와 같은 폴더명을 사용)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum UploadDirectory {
+    GALLERY("gallery", Set.of(Role.ADMIN), List.of("image/", "video/"), DataSize.ofMegabytes(200)),
+    POST("post", Set.of(Role.MEMBER, Role.ADMIN), List.of("image/"), DataSize.ofMegabytes(20)),
+    SHEET("sheet", Set.of(Role.MEMBER, Role.ADMIN), List.of(), DataSize.ofMegabytes(200));
+
+    private final String dirName;
+    private final Set<Role> allowedRoles;          // 업로드 가능한 역할
+    private final List<String> contentTypePrefixes; // 허용 Content-Type (비어있으면 제한 없음)
+    private final DataSize maxFileSize;
+
+    /**
+     * 허용된 Content-Type인지 확인
+     */
+    public boolean allowsContentType(String contentType) {
+        if (contentTypePrefixes.isEmpty()) {
+            return true;
+        }
+        return contentType != null && contentTypePrefixes.stream().anyMatch(contentType.toLowerCase()::startsWith);
+    }
+
+    /**
+     * 허용된 크기인지 확인
+     */
+    public boolean allowsFileSize(long fileSize) {
+        return fileSize > 0 && fileSize <= maxFileSize.toBytes();
+    }
+}
@@ -1,11 +1,17 @@
 package kr.ulsan.dreamshowchoir.dungeong.domain.communicate.repository;
 
+import kr.ulsan.dreamshowchoir.dungeong.domain.common.ContentVersion;
 import kr.ulsan.dreamshowchoir.dungeong.domain.communicate.Faq;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
 public interface FaqRepository extends JpaRepository<Faq, Long> {
     // FAQ 목록 전체 조회
     List<Faq> findAllByOrderByCreatedAtDesc();
+
+    // 조건부 GET용 버전 정보 (최종 수정 시각 + 개수)
+    @Query("SELECT new kr.ulsan.dreamshowchoir.dungeong.domain.common.ContentVersion(MAX(f.updatedAt), COUNT(f)) FROM Faq f")
+    ContentVersion findVersion();
 }
@@ -1,8 +1,16 @@
 package kr.ulsan.dreamshowchoir.dungeong.domain.content.repository;
 
+import kr.ulsan.dreamshowchoir.dungeong.domain.common.ContentVersion;
 import kr.ulsan.dreamshowchoir.dungeong.domain.content.SiteContent;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Optional;
 
 public interface SiteContentRepository extends JpaRepository<SiteContent, String> {
     // findById(contentKey)는 기본 제공됨
-}
\ No newline at end of file
+
+    // 조건부 GET용 버전 정보 (수정 시각)
+    @Query("SELECT new kr.ulsan.dreamshowchoir.dungeong.domain.common.ContentVersion(s.updatedAt, 1L) FROM SiteContent s WHERE s.contentKey = :contentKey")
+    Optional<ContentVersion> findVersionByContentKey(String contentKey);
+}
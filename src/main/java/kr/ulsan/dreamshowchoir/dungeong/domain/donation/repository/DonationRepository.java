@@ -2,6 +2,7 @@ package kr.ulsan.dreamshowchoir.dungeong.domain.donation.repository;
 
 import kr.ulsan.dreamshowchoir.dungeong.domain.donation.Donation;
 import kr.ulsan.dreamshowchoir.dungeong.domain.donation.DonationStatus;
+import kr.ulsan.dreamshowchoir.dungeong.dto.donation.DonationResponseDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -14,8 +15,12 @@ public interface DonationRepository extends JpaRepository<Donation, Long> {
     // 특정 유저의 후원 내역 전체 조회 (마이페이지용)
     List<Donation> findByUser_UserIdOrderByCreatedAtDesc(Long userId);
 
-    // 특정 상태의 후원 목록을 페이징하여 조회 (관리자용)
-    Page<Donation> findByStatus(DonationStatus status, Pageable pageable);
+    // 특정 상태의 후원 목록 조회 (관리자용) - 생성자 프로젝션 (후원자 정보는 필요한 컬럼만)
+    @Query(value = "SELECT new kr.ulsan.dreamshowchoir.dungeong.dto.donation.DonationResponseDto(" +
+            "d.donationId, u.userId, d.amount, d.type, d.status, d.createdAt, u.name, u.email, u.phoneNumber) " +
+            "FROM Donation d LEFT JOIN d.user u WHERE d.status = :status",
+            countQuery = "SELECT COUNT(d) FROM Donation d WHERE d.status = :status")
+    Page<DonationResponseDto> findDonationListByStatus(@Param("status") DonationStatus status, Pageable pageable);
 
     // 완료된 후원 목록 조회 (금액 내림차순 -> 최신순)
     @Query("SELECT d FROM Donation d LEFT JOIN FETCH d.user " +  // <--- LEFT 추가!
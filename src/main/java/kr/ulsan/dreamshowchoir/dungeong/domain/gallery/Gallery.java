@@ -2,6 +2,7 @@ package kr.ulsan.dreamshowchoir.dungeong.domain.gallery;
 
 import jakarta.persistence.*;
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.OrderBy;
 import jakarta.persistence.Table;
 import kr.ulsan.dreamshowchoir.dungeong.domain.common.BaseTimeEntity;
 import kr.ulsan.dreamshowchoir.dungeong.domain.user.User;
@@ -45,8 +46,22 @@ public class Gallery extends BaseTimeEntity {
     // 양방향 관계 설정
     @OneToMany(mappedBy = "gallery", cascade = CascadeType.ALL, orphanRemoval = true)
     @BatchSize(size = 100)
+    @OrderBy("createdAt ASC, mediaId ASC") // 등록순 (첫 번째 미디어가 썸네일)
     private final List<GalleryMedia> galleryMedia = new ArrayList<>();
 
+    // 썸네일 Key / 미디어 개수 (비정규화 컬럼, 목록 조회 시 미디어를 로딩하지 않기 위함)
+    // 미디어 추가/삭제 시 updateMediaSummary로 갱신
+    @Column(name = "THUMBNAIL_KEY")
+    private String thumbnailKey;
+
+    @Column(name = "MEDIA_COUNT", nullable = false)
+    private int mediaCount = 0;
+
+    // 조회수 (비정규화 컬럼)
+    // 값 변경은 ViewCountService의 일괄 UPDATE로만 수행 (dirty checking으로 덮어쓰지 않도록 updatable = false)
+    @Column(name = "VIEW_COUNT", nullable = false, updatable = false)
+    private long viewCount = 0;
+
     // 생성자
     @Builder
     public Gallery(User user, String type, String title, String description) {
@@ -61,4 +76,10 @@ public class Gallery extends BaseTimeEntity {
         this.title = title;
         this.description = description;
     }
+
+    // 썸네일 / 미디어 개수 갱신
+    public void updateMediaSummary(String thumbnailKey, int mediaCount) {
+        this.thumbnailKey = thumbnailKey;
+        this.mediaCount = mediaCount;
+    }
 }
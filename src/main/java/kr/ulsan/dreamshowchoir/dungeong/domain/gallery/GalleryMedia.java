@@ -1,6 +1,8 @@
 package kr.ulsan.dreamshowchoir.dungeong.domain.gallery;
 
 import jakarta.persistence.*;
+import kr.ulsan.dreamshowchoir.dungeong.domain.common.ImageVariants;
+import kr.ulsan.dreamshowchoir.dungeong.domain.common.ImageVariantsConverter;
 import kr.ulsan.dreamshowchoir.dungeong.domain.common.MediaType;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -10,6 +12,7 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -19,7 +22,8 @@ import java.time.LocalDateTime;
 public class GalleryMedia {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "galleryMediaSeq")
+    @SequenceGenerator(name = "galleryMediaSeq", sequenceName = "\"GalleryMedia_MEDIA_ID_seq\"", allocationSize = 50) // JDBC 배치 INSERT를 위해 시퀀스 사용 (pooled)
     @Column(name = "MEDIA_ID")
     private Long mediaId;
 
@@ -27,7 +31,7 @@ public class GalleryMedia {
     @JoinColumn(name = "GALLERY_ID", nullable = false)
     private Gallery gallery;
 
-    @Column(name = "FILE_KEY", nullable = false, unique = true)
+    @Column(name = "FILE_KEY", nullable = false)
     private String fileKey;
 
     @Column(name = "FILE_NAME", nullable = false)
@@ -40,6 +44,11 @@ public class GalleryMedia {
     @Column(name = "FILE_SIZE")
     private Long fileSize;
 
+    // 리사이즈 변환본 URL (업로드 커밋 후 ImageVariantService가 비동기로 채움, 생성 전/이미지가 아니면 null)
+    @Convert(converter = ImageVariantsConverter.class)
+    @Column(name = "VARIANT_KEYS", columnDefinition = "TEXT")
+    private ImageVariants variants;
+
     @CreatedDate
     @Column(name = "CREATED_AT", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -53,4 +62,14 @@ public class GalleryMedia {
         this.mediaType = mediaType;
         this.fileSize = fileSize;
     }
+
+    // 목록 썸네일용 URL (가장 작은 변환본, 아직 없으면 원본)
+    public String getThumbnailKey() {
+        return variants == null || variants.isEmpty() ? fileKey : variants.getSmallestUrl();
+    }
+
+    // 원본 + 변환본 URL 목록 (S3 파일 삭제용)
+    public List<String> getFileKeys() {
+        return ImageVariants.withOriginal(fileKey, variants);
+    }
 }
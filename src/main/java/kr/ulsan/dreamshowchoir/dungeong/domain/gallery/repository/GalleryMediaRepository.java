@@ -1,8 +1,12 @@
 package kr.ulsan.dreamshowchoir.dungeong.domain.gallery.repository;
 
+import kr.ulsan.dreamshowchoir.dungeong.domain.common.ImageVariants;
 import kr.ulsan.dreamshowchoir.dungeong.domain.gallery.Gallery;
 import kr.ulsan.dreamshowchoir.dungeong.domain.gallery.GalleryMedia;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -11,4 +15,15 @@ public interface GalleryMediaRepository extends JpaRepository<GalleryMedia, Long
 
     // 특정 갤러리에 속한 모든 미디어 조회
     List<GalleryMedia> findAllByGallery(Gallery gallery);
+
+    // 특정 갤러리의 미디어를 등록순으로 조회 (썸네일 = 첫 번째 미디어)
+    List<GalleryMedia> findAllByGalleryOrderByCreatedAtAscMediaIdAsc(Gallery gallery);
+
+    /**
+     * 변환본 URL 저장 (ImageVariantService에서 호출)
+     * 그 사이 이미지가 삭제/교체되었으면 0을 반환 (호출 측에서 생성한 변환본을 정리)
+     */
+    @Modifying
+    @Query("UPDATE GalleryMedia m SET m.variants = :variants WHERE m.mediaId = :mediaId AND m.fileKey = :fileKey")
+    int updateVariants(@Param("mediaId") Long mediaId, @Param("fileKey") String fileKey, @Param("variants") ImageVariants variants);
 }
\ No newline at end of file
@@ -1,13 +1,17 @@
 package kr.ulsan.dreamshowchoir.dungeong.domain.gallery.repository;
 
 import kr.ulsan.dreamshowchoir.dungeong.domain.gallery.Gallery;
+import kr.ulsan.dreamshowchoir.dungeong.dto.gallery.GalleryListResponseDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface GalleryRepository extends JpaRepository<Gallery, Long> {
@@ -20,22 +24,56 @@ public interface GalleryRepository extends JpaRepository<Gallery, Long> {
     Page<Gallery> findAll(Pageable pageable);
 
     /**
-     * 목록 타입별 조회 (Type 필터 있음) - User Fetch Join
-     * Enum 파라미터 바인딩 문제를 피하기 위해 수동으로 넣음
+     * 목록 조회 (최신순) - 생성자 프로젝션
+     * type이 null이면 전체, 값이 있으면 해당 타입만 조회
+     * 썸네일/미디어 개수는 비정규화 컬럼을 사용하므로 GalleryMedia를 읽지 않음
      */
-    @Query(value = """
-            SELECT * FROM "Gallery" 
-            WHERE "TYPE" = :typeStr 
-            AND "DELETED_AT" IS NULL
-            ORDER BY "CREATED_AT" DESC 
-            """,
-            countQuery = "SELECT count(*) FROM \"Gallery\" WHERE \"TYPE\" = :typeStr AND \"DELETED_AT\" IS NULL",
-            nativeQuery = true)
-    Page<Gallery> findByType(@Param("typeStr") String typeStr, Pageable pageable);
+    @Query(value = "SELECT new kr.ulsan.dreamshowchoir.dungeong.dto.gallery.GalleryListResponseDto(" +
+            "g.galleryId, g.type, g.title, u.name, g.createdAt, g.thumbnailKey, g.mediaCount, g.viewCount) " +
+            "FROM Gallery g LEFT JOIN g.user u " +
+            "WHERE g.deletedAt IS NULL AND (:type IS NULL OR g.type = :type) " +
+            "ORDER BY g.createdAt DESC, g.galleryId DESC",
+            countQuery = "SELECT COUNT(g) FROM Gallery g WHERE g.deletedAt IS NULL AND (:type IS NULL OR g.type = :type)")
+    Page<GalleryListResponseDto> findGalleryList(@Param("type") String type, Pageable pageable);
 
     /**
-     * 상세 조회
+     * 상세 조회 (작성자, 프로필, 미디어를 한 번에 Fetch Join)
+     * 작성자가 탈퇴한 경우(USER_ID = NULL)에도 조회되도록 LEFT JOIN
      */
-    @Query("SELECT g FROM Gallery g JOIN FETCH g.user LEFT JOIN FETCH g.galleryMedia WHERE g.galleryId = :galleryId")
+    @Query("SELECT g FROM Gallery g LEFT JOIN FETCH g.user u LEFT JOIN FETCH u.memberProfile LEFT JOIN FETCH g.galleryMedia WHERE g.galleryId = :galleryId")
     Optional<Gallery> findByIdWithUserAndMedia(@Param("galleryId") Long galleryId);
+
+    /**
+     * 썸네일을 변환본으로 교체 (ImageVariantService에서 호출)
+     * 현재 썸네일이 해당 원본일 때만 변경 (그 사이 썸네일이 바뀌었으면 0 반환)
+     */
+    @Modifying
+    @Query("UPDATE Gallery g SET g.thumbnailKey = :thumbnailKey WHERE g.galleryId = :galleryId AND g.thumbnailKey = :originalKey")
+    int updateThumbnailKey(@Param("galleryId") Long galleryId, @Param("originalKey") String originalKey, @Param("thumbnailKey") String thumbnailKey);
+
+    /**
+     * 목록 커서 조회 - 첫 페이지 (count 쿼리 없음, 생성자 프로젝션)
+     * type이 null이면 전체, 값이 있으면 해당 타입만 조회
+     */
+    @Query("SELECT new kr.ulsan.dreamshowchoir.dungeong.dto.gallery.GalleryListResponseDto(" +
+            "g.galleryId, g.type, g.title, u.name, g.createdAt, g.thumbnailKey, g.mediaCount, g.viewCount) " +
+            "FROM Gallery g LEFT JOIN g.user u " +
+            "WHERE g.deletedAt IS NULL AND (:type IS NULL OR g.type = :type) " +
+            "ORDER BY g.createdAt DESC, g.galleryId DESC")
+    List<GalleryListResponseDto> findFirstPageList(@Param("type") String type, Pageable pageable);
+
+    /**
+     * 목록 커서 조회 - 다음 페이지
+     * (createdAt, galleryId)가 커서보다 작은 행부터 조회
+     */
+    @Query("SELECT new kr.ulsan.dreamshowchoir.dungeong.dto.gallery.GalleryListResponseDto(" +
+            "g.galleryId, g.type, g.title, u.name, g.createdAt, g.thumbnailKey, g.mediaCount, g.viewCount) " +
+            "FROM Gallery g LEFT JOIN g.user u " +
+            "WHERE g.deletedAt IS NULL AND (:type IS NULL OR g.type = :type) " +
+            "AND (g.createdAt < :createdAt OR (g.createdAt = :createdAt AND g.galleryId < :galleryId)) " +
+            "ORDER BY g.createdAt DESC, g.galleryId DESC")
+    List<GalleryListResponseDto> findNextPageList(@Param("type") String type,
+                                                  @Param("createdAt") LocalDateTime createdAt,
+                                                  @Param("galleryId") Long galleryId,
+                                                  Pageable pageable);
 }
@@ -3,6 +3,7 @@ package kr.ulsan.dreamshowchoir.dungeong.domain.info;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
@@ -34,6 +35,10 @@ public class History {
     @Column(name = "CREATED_AT", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    @LastModifiedDate // 조건부 GET(Last-Modified) 판단용
+    @Column(name = "UPDATED_AT", nullable = false)
+    private LocalDateTime updatedAt;
+
     // 연혁 수정
     public void update(Integer year, Integer month, String content) {
         this.year = year;
@@ -1,11 +1,17 @@
 package kr.ulsan.dreamshowchoir.dungeong.domain.info.repository;
 
+import kr.ulsan.dreamshowchoir.dungeong.domain.common.ContentVersion;
 import kr.ulsan.dreamshowchoir.dungeong.domain.info.History;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
 public interface HistoryRepository extends JpaRepository<History, Long> {
     // 연혁 목록 조회 (연도, 월 오름차순)
     List<History> findAllByOrderByYearAscMonthAsc();
+
+    // 조건부 GET용 버전 정보 (최종 수정 시각 + 개수)
+    @Query("SELECT new kr.ulsan.dreamshowchoir.dungeong.domain.common.ContentVersion(MAX(h.updatedAt), COUNT(h)) FROM History h")
+    ContentVersion findVersion();
 }
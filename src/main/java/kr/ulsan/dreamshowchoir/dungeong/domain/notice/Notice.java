@@ -43,6 +43,11 @@ public class Notice extends BaseTimeEntity {
     @OneToMany(mappedBy = "notice", cascade = CascadeType.ALL, orphanRemoval = true)
     private final List<NoticeImage> noticeImages = new ArrayList<>();
 
+    // 조회수 (비정규화 컬럼)
+    // 값 변경은 ViewCountService의 일괄 UPDATE로만 수행 (dirty checking으로 덮어쓰지 않도록 updatable = false)
+    @Column(name = "VIEW_COUNT", nullable = false, updatable = false)
+    private long viewCount = 0;
+
     // 생성자
     @Builder
     public Notice(User user, String title, String content) {
@@ -1,6 +1,8 @@
 package kr.ulsan.dreamshowchoir.dungeong.domain.notice;
 
 import jakarta.persistence.*;
+import kr.ulsan.dreamshowchoir.dungeong.domain.common.ImageVariants;
+import kr.ulsan.dreamshowchoir.dungeong.domain.common.ImageVariantsConverter;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -9,6 +11,7 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -18,7 +21,8 @@ import java.time.LocalDateTime;
 public class NoticeImage {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "noticeImageSeq")
+    @SequenceGenerator(name = "noticeImageSeq", sequenceName = "\"NoticeImage_IMAGE_ID_seq\"", allocationSize = 50) // JDBC 배치 INSERT를 위해 시퀀스 사용 (pooled)
     @Column(name = "IMAGE_ID")
     private Long imageId;
 
@@ -26,7 +30,7 @@ public class NoticeImage {
     @JoinColumn(name = "NOTICE_ID", nullable = false)
     private Notice notice;
 
-    @Column(name = "IMAGE_KEY", nullable = false, unique = true)
+    @Column(name = "IMAGE_KEY", nullable = false)
     private String imageKey;
 
     @Column(name = "IMAGE_NAME", nullable = false)
@@ -35,6 +39,11 @@ public class NoticeImage {
     @Column(name = "FILE_SIZE")
     private Long fileSize;
 
+    // 리사이즈 변환본 URL (업로드 커밋 후 ImageVariantService가 비동기로 채움, 생성 전/이미지가 아니면 null)
+    @Convert(converter = ImageVariantsConverter.class)
+    @Column(name = "VARIANT_KEYS", columnDefinition = "TEXT")
+    private ImageVariants variants;
+
     @CreatedDate
     @Column(name = "CREATED_AT", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -47,4 +56,9 @@ public class NoticeImage {
         this.imageName = imageName;
         this.fileSize = fileSize;
     }
+
+    // 원본 + 변환본 URL 목록 (S3 파일 삭제용)
+    public List<String> getFileKeys() {
+        return ImageVariants.withOriginal(imageKey, variants);
+    }
 }
@@ -1,7 +1,19 @@
 package kr.ulsan.dreamshowchoir.dungeong.domain.notice.repository;
 
+import kr.ulsan.dreamshowchoir.dungeong.domain.common.ImageVariants;
 import kr.ulsan.dreamshowchoir.dungeong.domain.notice.NoticeImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface NoticeImageRepository extends JpaRepository<NoticeImage, Long> {
+
+    /**
+     * 변환본 URL 저장 (ImageVariantService에서 호출)
+     * 그 사이 이미지가 삭제/교체되었으면 0을 반환 (호출 측에서 생성한 변환본을 정리)
+     */
+    @Modifying
+    @Query("UPDATE NoticeImage i SET i.variants = :variants WHERE i.imageId = :imageId AND i.imageKey = :imageKey")
+    int updateVariants(@Param("imageId") Long imageId, @Param("imageKey") String imageKey, @Param("variants") ImageVariants variants);
 }
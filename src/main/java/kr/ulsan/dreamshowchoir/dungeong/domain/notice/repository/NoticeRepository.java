@@ -1,19 +1,70 @@
 package kr.ulsan.dreamshowchoir.dungeong.domain.notice.repository;
 
+import kr.ulsan.dreamshowchoir.dungeong.domain.common.SearchHit;
 import kr.ulsan.dreamshowchoir.dungeong.domain.notice.Notice;
+import kr.ulsan.dreamshowchoir.dungeong.dto.notice.NoticeListResponseDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface NoticeRepository extends JpaRepository<Notice, Long> {
-    // 공지사항 목록 조회 (최신순) - User 정보 함께 Fetch Join
-    @Query("SELECT n FROM Notice n JOIN FETCH n.user WHERE n.deletedAt IS NULL ORDER BY n.createdAt DESC")
-    Page<Notice> findAllWithUser(Pageable pageable);
 
-    // 공지사항 상세 조회 - User 정보 함께 Fetch Join
-    @Query("SELECT n FROM Notice n JOIN FETCH n.user WHERE n.noticeId = :noticeId AND n.deletedAt IS NULL")
+    // 전문 검색 공통 SELECT (점수 계산 후 서브쿼리로 감싸서 keyset 조건 적용)
+    String SEARCH_SELECT = """
+            SELECT s.id AS id, s.score AS score
+            FROM (SELECT t."NOTICE_ID" AS id,
+                         ROUND(CAST(ts_rank(t."SEARCH_VECTOR", plainto_tsquery('simple', :keyword))
+                                    + similarity(t."TITLE", :keyword) AS numeric), 6) AS score
+                  FROM "Notice" t
+                  WHERE t."DELETED_AT" IS NULL
+                    AND (t."SEARCH_VECTOR" @@ plainto_tsquery('simple', :keyword)
+                         OR t."TITLE" ILIKE :pattern
+                         OR t."CONTENT" ILIKE :pattern)) s
+            """;
+
+    // 공지사항 목록 조회 (최신순) - 생성자 프로젝션 (목록에 필요한 컬럼만 조회)
+    @Query(value = "SELECT new kr.ulsan.dreamshowchoir.dungeong.dto.notice.NoticeListResponseDto(n.noticeId, n.title, u.name, n.createdAt, n.viewCount) " +
+            "FROM Notice n LEFT JOIN n.user u WHERE n.deletedAt IS NULL ORDER BY n.createdAt DESC",
+            countQuery = "SELECT COUNT(n) FROM Notice n WHERE n.deletedAt IS NULL")
+    Page<NoticeListResponseDto> findNoticeList(Pageable pageable);
+
+    // 공지사항 상세 조회 - User, 이미지 함께 Fetch Join (탈퇴한 작성자의 공지도 조회되도록 LEFT JOIN)
+    @Query("SELECT n FROM Notice n LEFT JOIN FETCH n.user LEFT JOIN FETCH n.noticeImages WHERE n.noticeId = :noticeId AND n.deletedAt IS NULL")
     Optional<Notice> findByIdWithUser(Long noticeId);
+
+    // 공지사항 목록 커서 조회 - 첫 페이지 (count 쿼리 없음, Pageable은 LIMIT 용도)
+    @Query("SELECT new kr.ulsan.dreamshowchoir.dungeong.dto.notice.NoticeListResponseDto(n.noticeId, n.title, u.name, n.createdAt, n.viewCount) " +
+            "FROM Notice n LEFT JOIN n.user u WHERE n.deletedAt IS NULL ORDER BY n.createdAt DESC, n.noticeId DESC")
+    List<NoticeListResponseDto> findFirstPageList(Pageable pageable);
+
+    // 공지사항 목록 커서 조회 - 다음 페이지 ((createdAt, noticeId)가 커서보다 작은 행부터)
+    @Query("SELECT new kr.ulsan.dreamshowchoir.dungeong.dto.notice.NoticeListResponseDto(n.noticeId, n.title, u.name, n.createdAt, n.viewCount) " +
+            "FROM Notice n LEFT JOIN n.user u " +
+            "WHERE n.deletedAt IS NULL " +
+            "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.noticeId < :noticeId)) " +
+            "ORDER BY n.createdAt DESC, n.noticeId DESC")
+    List<NoticeListResponseDto> findNextPageList(@Param("createdAt") LocalDateTime createdAt, @Param("noticeId") Long noticeId, Pageable pageable);
+
+    // 공지사항 전문 검색 - 첫 페이지 (tsvector/trigram 후보 + 관련도 점수 내림차순, ID와 점수만 조회)
+    @Query(value = SEARCH_SELECT + "ORDER BY s.score DESC, s.id DESC LIMIT :limit", nativeQuery = true)
+    List<SearchHit> searchFirstPage(@Param("keyword") String keyword, @Param("pattern") String pattern, @Param("limit") int limit);
+
+    // 공지사항 전문 검색 - 다음 페이지 ((score, id)가 커서보다 작은 행부터)
+    @Query(value = SEARCH_SELECT +
+            "WHERE s.score < :score OR (s.score = :score AND s.id < :id) " +
+            "ORDER BY s.score DESC, s.id DESC LIMIT :limit", nativeQuery = true)
+    List<SearchHit> searchNextPage(@Param("keyword") String keyword, @Param("pattern") String pattern,
+                                   @Param("score") BigDecimal score, @Param("id") Long id, @Param("limit") int limit);
+
+    // 검색 결과 ID 목록으로 목록 DTO 조회 (생성자 프로젝션)
+    @Query("SELECT new kr.ulsan.dreamshowchoir.dungeong.dto.notice.NoticeListResponseDto(n.noticeId, n.title, u.name, n.createdAt, n.viewCount) " +
+            "FROM Notice n LEFT JOIN n.user u WHERE n.noticeId IN :noticeIds")
+    List<NoticeListResponseDto> findListByIds(@Param("noticeIds") List<Long> noticeIds);
 }
@@ -18,7 +18,8 @@ import java.time.LocalDateTime;
 public class Notification {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notificationSeq")
+    @SequenceGenerator(name = "notificationSeq", sequenceName = "\"Notification_NOTIFICATION_ID_seq\"", allocationSize = 50) // JDBC 배치 INSERT를 위해 시퀀스 사용 (pooled)
     @Column(name = "NOTIFICATION_ID")
     private Long notificationId;
 
@@ -0,0 +1,84 @@
+package kr.ulsan.dreamshowchoir.dungeong.domain.outbox;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭셔널 아웃박스 이벤트
+ * 업무 트랜잭션 안에서 함께 저장되고, 커밋된 뒤 OutboxDispatcher가 꺼내서 실행함
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Entity
+@Table(name = "\"OutboxEvent\"")
+@EntityListeners(AuditingEntityListener.class)
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "EVENT_ID")
+    private Long eventId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "EVENT_TYPE", nullable = false, length = 30)
+    private OutboxEventType eventType;
+
+    @Column(name = "PAYLOAD", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "STATUS", nullable = false, length = 20)
+    @Builder.Default
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    @Column(name = "ATTEMPTS", nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "NEXT_ATTEMPT_AT", nullable = false)
+    @Builder.Default
+    private LocalDateTime nextAttemptAt = LocalDateTime.now();
+
+    // 선점 만료 시각 (IN_PROGRESS일 때만 사용, 지나면 다른 디스패처가 회수)
+    @Column(name = "LOCKED_UNTIL")
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "LAST_ERROR", columnDefinition = "TEXT")
+    private String lastError;
+
+    @CreatedDate
+    @Column(name = "CREATED_AT", updatable = false, nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "PROCESSED_AT")
+    private LocalDateTime processedAt;
+
+    // 처리 완료
+    public void markAsDone() {
+        this.status = OutboxStatus.DONE;
+        this.lockedUntil = null;
+        this.attempts++;
+        this.lastError = null;
+        this.processedAt = LocalDateTime.now();
+    }
+
+    // 처리 실패: 다음 시도 시각을 미뤄 대기로 되돌리거나, 재시도 한도를 넘으면 FAILED로 종료
+    public void markAsFailed(String error, LocalDateTime nextAttemptAt, int maxAttempts) {
+        this.attempts++;
+        this.lastError = error;
+        this.lockedUntil = null;
+        if (this.attempts >= maxAttempts) {
+            this.status = OutboxStatus.FAILED;
+            this.processedAt = LocalDateTime.now();
+        } else {
+            this.status = OutboxStatus.PENDING;
+            this.nextAttemptAt = nextAttemptAt;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package kr.ulsan.dreamshowchoir.dungeong.domain.outbox;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum OutboxEventType {
+    S3_DELETE("S3_DELETE", "S3 파일 삭제"),
+    S3_DELETE_BATCH("S3_DELETE_BATCH", "S3 파일 일괄 삭제"),
+    EMAIL("EMAIL", "이메일 발송");
+
+    private final String key;
+    private final String title;
+}
@@ -0,0 +1,16 @@
+package kr.ulsan.dreamshowchoir.dungeong.domain.outbox;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum OutboxStatus {
+    PENDING("PENDING", "처리 대기"),
+    IN_PROGRESS("IN_PROGRESS", "처리 중 (디스패처가 선점)"),
+    DONE("DONE", "처리 완료"),
+    FAILED("FAILED", "처리 실패 (재시도 한도 초과)");
+
+    private final String key;
+    private final String title;
+}
@@ -0,0 +1,57 @@
+package kr.ulsan.dreamshowchoir.dungeong.domain.outbox.repository;
+
+import kr.ulsan.dreamshowchoir.dungeong.domain.outbox.OutboxEvent;
+import kr.ulsan.dreamshowchoir.dungeong.domain.outbox.OutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 실행 시각이 지난 대기 이벤트를 배치로 선점 (IN_PROGRESS + 선점 만료 시각으로 변경 후 반환)
+     * SKIP LOCKED: 다른 인스턴스/스레드가 선점 중인 행은 건너뛰므로 여러 디스패처가 동시에 돌아도 중복 실행되지 않음
+     * 행 잠금은 이 문장을 실행한 트랜잭션이 커밋되면 풀리고, 이후에는 상태(IN_PROGRESS)가 선점을 표시
+     */
+    @Query(value = "UPDATE \"OutboxEvent\" SET \"STATUS\" = 'IN_PROGRESS', \"LOCKED_UNTIL\" = :lockedUntil " +
+            "WHERE \"EVENT_ID\" IN (" +
+            "SELECT \"EVENT_ID\" FROM \"OutboxEvent\" " +
+            "WHERE \"STATUS\" = 'PENDING' AND \"NEXT_ATTEMPT_AT\" <= :now " +
+            "ORDER BY \"NEXT_ATTEMPT_AT\" ASC, \"EVENT_ID\" ASC " +
+            "LIMIT :batchSize " +
+            "FOR UPDATE SKIP LOCKED) " +
+            "RETURNING *",
+            nativeQuery = true)
+    List<OutboxEvent> claimDueEvents(@Param("now") LocalDateTime now, @Param("lockedUntil") LocalDateTime lockedUntil,
+                                     @Param("batchSize") int batchSize);
+
+    /**
+     * 선점 만료 시각이 지난 IN_PROGRESS 이벤트를 대기로 되돌림 (처리 도중 서버가 종료된 경우, 바로 재실행 대상)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OutboxEvent e SET e.status = kr.ulsan.dreamshowchoir.dungeong.domain.outbox.OutboxStatus.PENDING, e.lockedUntil = null " +
+            "WHERE e.status = kr.ulsan.dreamshowchoir.dungeong.domain.outbox.OutboxStatus.IN_PROGRESS AND e.lockedUntil <= :now")
+    int releaseExpiredLeases(@Param("now") LocalDateTime now);
+
+    /**
+     * 상태별 이벤트 수 (큐 깊이 메트릭)
+     */
+    long countByStatus(OutboxStatus status);
+
+    /**
+     * 가장 오래된 대기 이벤트의 생성 시각 (지연 메트릭, 없으면 null)
+     */
+    @Query("SELECT MIN(e.createdAt) FROM OutboxEvent e WHERE e.status = kr.ulsan.dreamshowchoir.dungeong.domain.outbox.OutboxStatus.PENDING")
+    LocalDateTime findOldestPendingCreatedAt();
+
+    /**
+     * 처리 완료 후 보관 기간이 지난 이벤트 삭제
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM OutboxEvent e WHERE e.status = kr.ulsan.dreamshowchoir.dungeong.domain.outbox.OutboxStatus.DONE AND e.processedAt < :threshold")
+    int deleteDoneBefore(@Param("threshold") LocalDateTime threshold);
+}
@@ -0,0 +1,26 @@
+package kr.ulsan.dreamshowchoir.dungeong.domain.post;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 목록 조회용 인터페이스 프로젝션
+ * (Comment/User 엔티티를 로딩하지 않고 응답에 필요한 컬럼만 조회)
+ */
+public interface CommentProjection {
+
+    Long getPostId();
+
+    Long getCommentId();
+
+    String getContent();
+
+    Long getAuthorId();
+
+    String getAuthorName();
+
+    String getAuthorProfileImage();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
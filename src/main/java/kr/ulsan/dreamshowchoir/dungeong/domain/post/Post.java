@@ -42,11 +42,21 @@ public class Post extends BaseTimeEntity {
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
     private final List<PostImage> postImages = new ArrayList<>();
 
-    // 댓글 리스트 매핑 + 성능 최적화(@BatchSize)
+    // 댓글 리스트 매핑 (목록 조회에서는 사용하지 않음 - 개수는 commentCount 사용)
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
-    @BatchSize(size = 100) // 목록 조회 시 댓글 개수 셀 때 쿼리 한 번으로 해결
+    @BatchSize(size = 100)
     private final List<Comment> comments = new ArrayList<>();
 
+    // 댓글 수 (비정규화 컬럼)
+    // 값 변경은 PostRepository의 원자적 UPDATE 쿼리로만 수행 (엔티티 dirty checking으로 덮어쓰지 않도록 updatable = false)
+    @Column(name = "COMMENT_COUNT", nullable = false, updatable = false)
+    private int commentCount = 0;
+
+    // 조회수 (비정규화 컬럼)
+    // 값 변경은 ViewCountService의 일괄 UPDATE로만 수행 (dirty checking으로 덮어쓰지 않도록 updatable = false)
+    @Column(name = "VIEW_COUNT", nullable = false, updatable = false)
+    private long viewCount = 0;
+
     // 생성자
     @Builder
     public Post(User user, String title, String content) {
@@ -2,6 +2,8 @@ package kr.ulsan.dreamshowchoir.dungeong.domain.post;
 
 
 import jakarta.persistence.*;
+import kr.ulsan.dreamshowchoir.dungeong.domain.common.ImageVariants;
+import kr.ulsan.dreamshowchoir.dungeong.domain.common.ImageVariantsConverter;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -10,6 +12,7 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Getter
 @NoArgsConstructor
@@ -19,7 +22,8 @@ import java.time.LocalDateTime;
 public class PostImage {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "postImageSeq")
+    @SequenceGenerator(name = "postImageSeq", sequenceName = "\"PostImage_IMAGE_ID_seq\"", allocationSize = 50) // JDBC 배치 INSERT를 위해 시퀀스 사용 (pooled)
     @Column(name = "IMAGE_ID")
     private Long imageId;
 
@@ -28,7 +32,7 @@ public class PostImage {
     @JoinColumn(name = "POST_ID", nullable = false)
     private kr.ulsan.dreamshowchoir.dungeong.domain.post.Post post;
 
-    @Column(name = "IMAGE_KEY", nullable = false, unique = true)
+    @Column(name = "IMAGE_KEY", nullable = false)
     private String imageKey;
 
     @Column(name = "IMAGE_NAME", nullable = false)
@@ -37,6 +41,11 @@ public class PostImage {
     @Column(name = "FILE_SIZE")
     private Long fileSize;
 
+    // 리사이즈 변환본 URL (업로드 커밋 후 ImageVariantService가 비동기로 채움, 생성 전/이미지가 아니면 null)
+    @Convert(converter = ImageVariantsConverter.class)
+    @Column(name = "VARIANT_KEYS", columnDefinition = "TEXT")
+    private ImageVariants variants;
+
     @CreatedDate
     @Column(name = "CREATED_AT", nullable = false)
     private LocalDateTime createdAt;
@@ -49,4 +58,9 @@ public class PostImage {
         this.imageName = imageName;
         this.fileSize = fileSize;
     }
+
+    // 원본 + 변환본 URL 목록 (S3 파일 삭제용)
+    public List<String> getFileKeys() {
+        return ImageVariants.withOriginal(imageKey, variants);
+    }
 }
@@ -1,13 +1,68 @@
 package kr.ulsan.dreamshowchoir.dungeong.domain.post.repository;
 
+import jakarta.persistence.QueryHint;
 import kr.ulsan.dreamshowchoir.dungeong.domain.post.Comment;
+import kr.ulsan.dreamshowchoir.dungeong.domain.post.CommentProjection;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     // 특정 게시글(postId)의 모든 댓글 조회 (User 정보 함께 Fetch Join)
     @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.post.postId = :postId AND c.deletedAt IS NULL ORDER BY c.createdAt ASC")
     List<Comment> findAllByPostIdWithUser(Long postId);
+
+    /**
+     * 댓글 커서 조회 - 첫 페이지 (게시글 존재 확인 + 댓글 조회를 쿼리 1번으로 처리)
+     * - Post 기준 LEFT JOIN: 게시글이 없으면 0행, 댓글이 없으면 commentId가 null인 1행
+     * - Pageable은 LIMIT 용도로만 사용 (size + 1)
+     */
+    @Query("SELECT p.postId AS postId, c.commentId AS commentId, c.content AS content, " +
+            "u.userId AS authorId, u.name AS authorName, u.profileImageKey AS authorProfileImage, " +
+            "c.createdAt AS createdAt, c.updatedAt AS updatedAt " +
+            "FROM Post p " +
+            "LEFT JOIN Comment c ON c.post = p AND c.deletedAt IS NULL " +
+            "LEFT JOIN c.user u " +
+            "WHERE p.postId = :postId AND p.deletedAt IS NULL " +
+            "ORDER BY c.createdAt ASC, c.commentId ASC")
+    List<CommentProjection> findFirstPageByPostId(@Param("postId") Long postId, Pageable pageable);
+
+    /**
+     * 댓글 커서 조회 - 다음 페이지 ((createdAt, commentId)가 커서보다 큰 댓글부터, 오래된 순)
+     * 커서 조건을 JOIN ON 절에 두어 게시글 존재 여부는 그대로 판별 가능
+     */
+    @Query("SELECT p.postId AS postId, c.commentId AS commentId, c.content AS content, " +
+            "u.userId AS authorId, u.name AS authorName, u.profileImageKey AS authorProfileImage, " +
+            "c.createdAt AS createdAt, c.updatedAt AS updatedAt " +
+            "FROM Post p " +
+            "LEFT JOIN Comment c ON c.post = p AND c.deletedAt IS NULL " +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.commentId > :commentId)) " +
+            "LEFT JOIN c.user u " +
+            "WHERE p.postId = :postId AND p.deletedAt IS NULL " +
+            "ORDER BY c.createdAt ASC, c.commentId ASC")
+    List<CommentProjection> findNextPageByPostId(@Param("postId") Long postId,
+                                                 @Param("createdAt") LocalDateTime createdAt,
+                                                 @Param("commentId") Long commentId,
+                                                 Pageable pageable);
+
+    /**
+     * 특정 게시글의 댓글 전체를 스트림으로 조회 (대용량 스레드 스트리밍 응답용)
+     * - fetch size 단위로 DB 커서에서 가져오므로 전체 결과를 메모리에 올리지 않음
+     * - 반드시 트랜잭션 안에서 사용하고, 사용 후 close 해야 함
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "200"))
+    @Query("SELECT c.post.postId AS postId, c.commentId AS commentId, c.content AS content, " +
+            "u.userId AS authorId, u.name AS authorName, u.profileImageKey AS authorProfileImage, " +
+            "c.createdAt AS createdAt, c.updatedAt AS updatedAt " +
+            "FROM Comment c JOIN c.user u " +
+            "WHERE c.post.postId = :postId AND c.deletedAt IS NULL " +
+            "ORDER BY c.createdAt ASC, c.commentId ASC")
+    Stream<CommentProjection> streamAllByPostId(@Param("postId") Long postId);
 }
@@ -1,8 +1,12 @@
 package kr.ulsan.dreamshowchoir.dungeong.domain.post.repository;
 
+import kr.ulsan.dreamshowchoir.dungeong.domain.common.ImageVariants;
 import kr.ulsan.dreamshowchoir.dungeong.domain.post.Post;
 import kr.ulsan.dreamshowchoir.dungeong.domain.post.PostImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -11,4 +15,12 @@ public interface PostImageRepository extends JpaRepository<PostImage, Long> {
      * 특정 게시글(Post)에 포함된 모든 이미지 리스트를 조회
      */
     List<PostImage> findAllByPost(Post post);
+
+    /**
+     * 변환본 URL 저장 (ImageVariantService에서 호출)
+     * 그 사이 이미지가 삭제/교체되었으면 0을 반환 (호출 측에서 생성한 변환본을 정리)
+     */
+    @Modifying
+    @Query("UPDATE PostImage i SET i.variants = :variants WHERE i.imageId = :imageId AND i.imageKey = :imageKey")
+    int updateVariants(@Param("imageId") Long imageId, @Param("imageKey") String imageKey, @Param("variants") ImageVariants variants);
 }
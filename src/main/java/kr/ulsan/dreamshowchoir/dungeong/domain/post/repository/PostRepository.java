@@ -1,24 +1,50 @@
 package kr.ulsan.dreamshowchoir.dungeong.domain.post.repository;
 
+import kr.ulsan.dreamshowchoir.dungeong.domain.common.SearchHit;
 import kr.ulsan.dreamshowchoir.dungeong.domain.post.Post;
+import kr.ulsan.dreamshowchoir.dungeong.dto.post.PostListResponseDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
+
+    // 전문 검색 공통 SELECT (점수 계산 후 서브쿼리로 감싸서 keyset 조건 적용)
+    String SEARCH_SELECT = """
+            SELECT s.id AS id, s.score AS score
+            FROM (SELECT t."POST_ID" AS id,
+                         ROUND(CAST(ts_rank(t."SEARCH_VECTOR", plainto_tsquery('simple', :keyword))
+                                    + similarity(t."TITLE", :keyword) AS numeric), 6) AS score
+                  FROM "Post" t
+                  WHERE t."DELETED_AT" IS NULL
+                    AND (t."SEARCH_VECTOR" @@ plainto_tsquery('simple', :keyword)
+                         OR t."TITLE" ILIKE :pattern
+                         OR t."CONTENT" ILIKE :pattern)) s
+            """;
+
     /**
-     * 게시글 목록 조회 (최신순) 킻 페이징
+     * 게시글 목록 조회 (최신순) - 생성자 프로젝션
+     * 목록 DTO에 필요한 컬럼만 SELECT (엔티티를 영속성 컨텍스트에 올리지 않음)
      */
-    @Query("SELECT p FROM Post p JOIN FETCH p.user WHERE p.deletedAt IS NULL ORDER BY p.createdAt DESC")
-    Page<Post> findAllWithUser(Pageable pageable);
+    @Query(value = "SELECT new kr.ulsan.dreamshowchoir.dungeong.dto.post.PostListResponseDto(" +
+            "p.postId, p.title, u.name, p.createdAt, p.commentCount, p.viewCount, u.profileImageKey) " +
+            "FROM Post p JOIN p.user u WHERE p.deletedAt IS NULL ORDER BY p.createdAt DESC",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE p.deletedAt IS NULL")
+    Page<PostListResponseDto> findPostList(Pageable pageable);
 
     /**
-     * 게시글 상세 조회 (N+1 방지를 위해 User와 Fetch Join)
+     * 게시글 상세 조회 (N+1 방지를 위해 User, 이미지와 Fetch Join)
+     * (이미지까지 초기화해두므로 트랜잭션 밖에서도 상세 DTO 변환 가능)
      */
-    @Query("SELECT p FROM Post p JOIN FETCH p.user WHERE p.postId = :postId AND p.deletedAt IS NULL")
+    @Query("SELECT p FROM Post p JOIN FETCH p.user LEFT JOIN FETCH p.postImages WHERE p.postId = :postId AND p.deletedAt IS NULL")
     Optional<Post> findByIdWithUser(Long postId);
 
     /**
@@ -26,4 +52,67 @@ public interface PostRepository extends JpaRepository<Post, Long> {
      */
     @Query("SELECT p FROM Post p JOIN FETCH p.user WHERE p.deletedAt IS NULL ORDER BY p.createdAt DESC")
     java.util.List<Post> findTop5ByDeletedAtIsNullOrderByCreatedAtDesc(Pageable pageable);
+
+    /**
+     * 댓글 수 1 증가 (댓글 작성 시)
+     * 동시 작성에도 값이 유실되지 않도록 DB에서 원자적으로 증가
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + 1 WHERE p.postId = :postId")
+    int increaseCommentCount(@Param("postId") Long postId);
+
+    /**
+     * 댓글 수 1 감소 (댓글 논리 삭제 시)
+     * 0 미만으로 내려가지 않도록 조건 추가
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount - 1 WHERE p.postId = :postId AND p.commentCount > 0")
+    int decreaseCommentCount(@Param("postId") Long postId);
+
+    /**
+     * 게시글 목록 커서 조회 - 첫 페이지 (count 쿼리 없음, 생성자 프로젝션)
+     * Pageable은 LIMIT 용도로만 사용 (size + 1)
+     */
+    @Query("SELECT new kr.ulsan.dreamshowchoir.dungeong.dto.post.PostListResponseDto(" +
+            "p.postId, p.title, u.name, p.createdAt, p.commentCount, p.viewCount, u.profileImageKey) " +
+            "FROM Post p JOIN p.user u WHERE p.deletedAt IS NULL ORDER BY p.createdAt DESC, p.postId DESC")
+    List<PostListResponseDto> findFirstPageList(Pageable pageable);
+
+    /**
+     * 게시글 목록 커서 조회 - 다음 페이지
+     * (createdAt, postId)가 커서보다 작은 행부터 조회 (OFFSET 없이 인덱스로 바로 이동)
+     */
+    @Query("SELECT new kr.ulsan.dreamshowchoir.dungeong.dto.post.PostListResponseDto(" +
+            "p.postId, p.title, u.name, p.createdAt, p.commentCount, p.viewCount, u.profileImageKey) " +
+            "FROM Post p JOIN p.user u " +
+            "WHERE p.deletedAt IS NULL " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.postId < :postId)) " +
+            "ORDER BY p.createdAt DESC, p.postId DESC")
+    List<PostListResponseDto> findNextPageList(@Param("createdAt") LocalDateTime createdAt, @Param("postId") Long postId, Pageable pageable);
+
+    /**
+     * 게시글 전문 검색 - 첫 페이지
+     * tsvector(GIN) 일치 또는 제목/본문 부분 일치(trigram GIN)로 후보를 찾고,
+     * ts_rank + 제목 유사도로 점수를 매겨 (score, id) 내림차순으로 정렬
+     * (ID와 점수만 조회, 목록 DTO는 findListByIds로 별도 조회)
+     */
+    @Query(value = SEARCH_SELECT + "ORDER BY s.score DESC, s.id DESC LIMIT :limit", nativeQuery = true)
+    List<SearchHit> searchFirstPage(@Param("keyword") String keyword, @Param("pattern") String pattern, @Param("limit") int limit);
+
+    /**
+     * 게시글 전문 검색 - 다음 페이지 ((score, id)가 커서보다 작은 행부터)
+     */
+    @Query(value = SEARCH_SELECT +
+            "WHERE s.score < :score OR (s.score = :score AND s.id < :id) " +
+            "ORDER BY s.score DESC, s.id DESC LIMIT :limit", nativeQuery = true)
+    List<SearchHit> searchNextPage(@Param("keyword") String keyword, @Param("pattern") String pattern,
+                                   @Param("score") BigDecimal score, @Param("id") Long id, @Param("limit") int limit);
+
+    /**
+     * 검색 결과 ID 목록으로 목록 DTO 조회 (생성자 프로젝션)
+     */
+    @Query("SELECT new kr.ulsan.dreamshowchoir.dungeong.dto.post.PostListResponseDto(" +
+            "p.postId, p.title, u.name, p.createdAt, p.commentCount, p.viewCount, u.profileImageKey) " +
+            "FROM Post p JOIN p.user u WHERE p.postId IN :postIds")
+    List<PostListResponseDto> findListByIds(@Param("postIds") List<Long> postIds);
 }
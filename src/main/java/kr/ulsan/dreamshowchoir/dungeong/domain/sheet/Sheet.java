@@ -28,7 +28,7 @@ public class Sheet extends BaseTimeEntity {
     @OnDelete(action = OnDeleteAction.SET_NULL)
     private User user;
 
-    @Column(name = "FILE_KEY", nullable = false, unique = true)
+    @Column(name = "FILE_KEY", nullable = false)
     private String fileKey;
 
     @Column(name = "FILE_NAME", nullable = false)
@@ -1,7 +1,22 @@
 package kr.ulsan.dreamshowchoir.dungeong.domain.sheet.repository;
 
 import kr.ulsan.dreamshowchoir.dungeong.domain.sheet.Sheet;
+import kr.ulsan.dreamshowchoir.dungeong.dto.sheet.SheetResponseDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface SheetRepository extends JpaRepository<Sheet, Long> {
+
+    /**
+     * 악보 목록 조회 - 생성자 프로젝션
+     * 업로더 이름만 LEFT JOIN으로 가져옴 (User 엔티티 N+1 로딩 없음)
+     * 정렬은 Pageable의 sort(createdAt 등)를 그대로 사용
+     */
+    @Query(value = "SELECT new kr.ulsan.dreamshowchoir.dungeong.dto.sheet.SheetResponseDto(" +
+            "s.sheetId, s.fileName, s.fileKey, s.fileSize, u.name, s.createdAt) " +
+            "FROM Sheet s LEFT JOIN s.user u",
+            countQuery = "SELECT COUNT(s) FROM Sheet s")
+    Page<SheetResponseDto> findSheetList(Pageable pageable);
 }
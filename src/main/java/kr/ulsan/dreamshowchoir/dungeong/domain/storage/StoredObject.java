@@ -0,0 +1,63 @@
+package kr.ulsan.dreamshowchoir.dungeong.domain.storage;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 업로드된 S3 객체의 내용 해시 인덱스 (중복 제거 + 참조 카운트)
+ * 같은 폴더에 같은 내용(SHA-256)이 다시 업로드되면 이 객체를 재사용하고 refCount만 증가
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Entity
+@Table(name = "\"StoredObject\"")
+@EntityListeners(AuditingEntityListener.class)
+public class StoredObject {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "OBJECT_ID")
+    private Long objectId;
+
+    @Column(name = "DIR_NAME", nullable = false, length = 50)
+    private String dirName;
+
+    @Column(name = "CONTENT_HASH", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "OBJECT_KEY", nullable = false, length = 512)
+    private String objectKey;
+
+    @Column(name = "OBJECT_URL", nullable = false, columnDefinition = "TEXT")
+    private String objectUrl;
+
+    @Column(name = "FILE_SIZE", nullable = false)
+    private Long fileSize;
+
+    @Column(name = "REF_COUNT", nullable = false)
+    @Builder.Default
+    private Integer refCount = 1;
+
+    @CreatedDate
+    @Column(name = "CREATED_AT", updatable = false, nullable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(name = "UPDATED_AT", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // 참조 반납 (남은 참조 수 반환)
+    public int release() {
+        if (this.refCount > 0) {
+            this.refCount--;
+        }
+        return this.refCount;
+    }
+}
@@ -0,0 +1,116 @@
+package kr.ulsan.dreamshowchoir.dungeong.domain.storage.repository;
+
+import jakarta.persistence.LockModeType;
+import kr.ulsan.dreamshowchoir.dungeong.domain.storage.StoredObject;
+import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface StoredObjectRepository extends JpaRepository<StoredObject, Long> {
+
+    // 살아있는 행이 참조 중인 파일 Key/URL (원본, 고아 객체 GC용)
+    // 논리 삭제된 게시글/공지/갤러리의 첨부는 참조로 보지 않음 (삭제 시 S3 파일을 남겨두는 경로의 정리 대상)
+    String REFERENCED_FILE_KEYS =
+            "SELECT pi.\"IMAGE_KEY\" AS \"KEY\" FROM \"PostImage\" pi JOIN \"Post\" p ON p.\"POST_ID\" = pi.\"POST_ID\" WHERE p.\"DELETED_AT\" IS NULL " +
+            "UNION ALL SELECT ni.\"IMAGE_KEY\" FROM \"NoticeImage\" ni JOIN \"Notice\" n ON n.\"NOTICE_ID\" = ni.\"NOTICE_ID\" WHERE n.\"DELETED_AT\" IS NULL " +
+            "UNION ALL SELECT gm.\"FILE_KEY\" FROM \"GalleryMedia\" gm JOIN \"Gallery\" g ON g.\"GALLERY_ID\" = gm.\"GALLERY_ID\" WHERE g.\"DELETED_AT\" IS NULL " +
+            "UNION ALL SELECT \"THUMBNAIL_KEY\" FROM \"Gallery\" WHERE \"DELETED_AT\" IS NULL AND \"THUMBNAIL_KEY\" IS NOT NULL " +
+            "UNION ALL SELECT \"FILE_KEY\" FROM \"Sheet\" WHERE \"DELETED_AT\" IS NULL " +
+            "UNION ALL SELECT \"FILE_KEY\" FROM \"ActivityMaterial\" WHERE \"DELETED_AT\" IS NULL " +
+            "UNION ALL SELECT \"IMAGE_KEY\" FROM \"Banner\" WHERE \"DELETED_AT\" IS NULL " +
+            "UNION ALL SELECT \"PROFILE_IMAGE_KEY\" FROM \"User\" WHERE \"PROFILE_IMAGE_KEY\" IS NOT NULL " +
+            "UNION ALL SELECT \"PROFILE_IMAGE_KEY\" FROM \"MemberProfile\" WHERE \"PROFILE_IMAGE_KEY\" IS NOT NULL " +
+            "UNION ALL SELECT \"PROFILE_IMAGE\" FROM \"JoinApplication\" WHERE \"PROFILE_IMAGE\" IS NOT NULL";
+
+    /**
+     * 같은 폴더/같은 내용의 객체가 있으면 참조 수를 1 늘리고 URL 반환 (없으면 빈 목록)
+     * 행 잠금 후 갱신하므로, 동시에 진행 중인 마지막 참조 반납과 겹쳐도 삭제된 객체를 참조하지 않음
+     */
+    @Query(value = "UPDATE \"StoredObject\" SET \"REF_COUNT\" = \"REF_COUNT\" + 1, \"UPDATED_AT\" = CURRENT_TIMESTAMP " +
+            "WHERE \"DIR_NAME\" = :dirName AND \"CONTENT_HASH\" = :contentHash " +
+            "RETURNING \"OBJECT_URL\"",
+            nativeQuery = true)
+    List<String> acquireByContentHash(@Param("dirName") String dirName, @Param("contentHash") String contentHash);
+
+    /**
+     * 새로 업로드한 객체 등록 (UPSERT)
+     * 동시에 같은 내용이 먼저 등록됐다면 그 객체의 참조 수를 늘리고 먼저 등록된 URL을 반환
+     * (반환값이 objectUrl과 다르면 방금 업로드한 객체는 중복이므로 삭제 대상)
+     */
+    @Query(value = "INSERT INTO \"StoredObject\" (\"DIR_NAME\", \"CONTENT_HASH\", \"OBJECT_KEY\", \"OBJECT_URL\", \"FILE_SIZE\") " +
+            "VALUES (:dirName, :contentHash, :objectKey, :objectUrl, :fileSize) " +
+            "ON CONFLICT (\"DIR_NAME\", \"CONTENT_HASH\") DO UPDATE " +
+            "SET \"REF_COUNT\" = \"StoredObject\".\"REF_COUNT\" + 1, \"UPDATED_AT\" = CURRENT_TIMESTAMP " +
+            "RETURNING \"OBJECT_URL\"",
+            nativeQuery = true)
+    String register(@Param("dirName") String dirName, @Param("contentHash") String contentHash,
+                    @Param("objectKey") String objectKey, @Param("objectUrl") String objectUrl,
+                    @Param("fileSize") long fileSize);
+
+    /**
+     * 참조 반납용 조회 (행 잠금, 호출하는 트랜잭션이 끝날 때까지 유지)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM StoredObject o WHERE o.objectKey = :objectKey")
+    Optional<StoredObject> findByObjectKeyForUpdate(@Param("objectKey") String objectKey);
+
+    /**
+     * 참조 중인 원본 파일 Key 수 (고아 객체 GC의 Bloom filter 크기 산정용)
+     */
+    @Query(value = "SELECT COUNT(*) FROM (" + REFERENCED_FILE_KEYS + ") refs", nativeQuery = true)
+    long countReferencedFileKeys();
+
+    /**
+     * 참조 중인 원본 파일 Key/URL 전체를 스트림으로 조회 (고아 객체 GC용)
+     * - fetch size 단위로 DB 커서에서 가져오므로 전체 결과를 메모리에 올리지 않음
+     * - 반드시 트랜잭션 안에서 사용하고, 사용 후 close 해야 함
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(value = REFERENCED_FILE_KEYS, nativeQuery = true)
+    Stream<String> streamReferencedFileKeys();
+
+    /**
+     * 참조 중인 이미지 변환본 목록("320=url,800=url" 형식) 전체를 스트림으로 조회 (고아 객체 GC용)
+     * - 반드시 트랜잭션 안에서 사용하고, 사용 후 close 해야 함
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(value = "SELECT pi.\"VARIANT_KEYS\" FROM \"PostImage\" pi JOIN \"Post\" p ON p.\"POST_ID\" = pi.\"POST_ID\" " +
+            "WHERE p.\"DELETED_AT\" IS NULL AND pi.\"VARIANT_KEYS\" IS NOT NULL " +
+            "UNION ALL SELECT ni.\"VARIANT_KEYS\" FROM \"NoticeImage\" ni JOIN \"Notice\" n ON n.\"NOTICE_ID\" = ni.\"NOTICE_ID\" " +
+            "WHERE n.\"DELETED_AT\" IS NULL AND ni.\"VARIANT_KEYS\" IS NOT NULL " +
+            "UNION ALL SELECT gm.\"VARIANT_KEYS\" FROM \"GalleryMedia\" gm JOIN \"Gallery\" g ON g.\"GALLERY_ID\" = gm.\"GALLERY_ID\" " +
+            "WHERE g.\"DELETED_AT\" IS NULL AND gm.\"VARIANT_KEYS\" IS NOT NULL " +
+            "UNION ALL SELECT \"VARIANT_KEYS\" FROM \"Banner\" WHERE \"DELETED_AT\" IS NULL AND \"VARIANT_KEYS\" IS NOT NULL",
+            nativeQuery = true)
+    Stream<String> streamReferencedVariantKeys();
+
+    /**
+     * 주어진 Key 중 인덱스 행이 있는 Key (행이 없는 Key는 중복 제거 이전 업로드이거나 등록되지 않은 파일)
+     */
+    @Query("SELECT o.objectKey FROM StoredObject o WHERE o.objectKey IN :objectKeys")
+    List<String> findObjectKeysIn(@Param("objectKeys") Collection<String> objectKeys);
+
+    /**
+     * 고아 객체로 삭제할 Key의 인덱스 행 삭제 후 실제로 지운 Key 반환 (삭제된 객체가 중복 업로드로 재사용되지 않도록)
+     * - 기준 시각 이후에 참조가 늘거나 등록된 행은 같은 문장 안에서 제외 (조회 후 삭제 사이의 경쟁 없음)
+     * - 동시에 진행 중인 참조 획득(acquireByContentHash)과는 행 잠금으로 직렬화되어, 먼저 커밋한 쪽만 반영됨
+     * - 참조 수는 조건에 넣지 않음 (논리 삭제된 게시글 등은 참조를 반납하지 않으므로 고아여도 0보다 클 수 있음)
+     */
+    @Query(value = "DELETE FROM \"StoredObject\" " +
+            "WHERE \"OBJECT_KEY\" IN (:objectKeys) AND \"UPDATED_AT\" < :threshold " +
+            "RETURNING \"OBJECT_KEY\"",
+            nativeQuery = true)
+    List<String> deleteUnusedSince(@Param("objectKeys") Collection<String> objectKeys,
+                                   @Param("threshold") LocalDateTime threshold);
+}
@@ -2,6 +2,7 @@ package kr.ulsan.dreamshowchoir.dungeong.domain.user.repository;
 
 import kr.ulsan.dreamshowchoir.dungeong.domain.user.Role;
 import kr.ulsan.dreamshowchoir.dungeong.domain.user.User;
+import kr.ulsan.dreamshowchoir.dungeong.dto.user.UserAdminListResponseDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -29,15 +30,20 @@ public interface UserRepository extends JpaRepository<User, Long> {
         Page<User> findPublicMembers(@Param("part") String part, Pageable pageable);
 
         /**
-         * [관리자용] 전체 회원 목록 조회 (페이징 + 검색 + 필터링)
+         * [관리자용] 전체 회원 목록 조회 (페이징 + 검색 + 필터링) - 생성자 프로젝션
          * - role이 null이면 전체 조회
          * - name이 null이면 전체 조회 (검색어 포함 LIKE 검색)
-         * - MemberProfile은 없어도 조회되어야 하므로 LEFT JOIN FETCH
+         * - MemberProfile은 파트(part) 컬럼만 필요하므로 LEFT JOIN 후 컬럼만 SELECT
          */
-        @Query("SELECT u FROM User u LEFT JOIN FETCH u.memberProfile mp " +
+        @Query(value = "SELECT new kr.ulsan.dreamshowchoir.dungeong.dto.user.UserAdminListResponseDto(" +
+                        "u.userId, u.name, u.email, u.phoneNumber, u.role, mp.part, u.createdAt) " +
+                        "FROM User u LEFT JOIN u.memberProfile mp " +
                         "WHERE (:role IS NULL OR u.role = :role) " +
-                        "AND (:name IS NULL OR u.name LIKE %:name%)")
-        Page<User> findAllForAdmin(@Param("role") Role role, @Param("name") String name, Pageable pageable);
+                        "AND (:name IS NULL OR u.name LIKE %:name%)",
+                        countQuery = "SELECT COUNT(u) FROM User u " +
+                                        "WHERE (:role IS NULL OR u.role = :role) " +
+                                        "AND (:name IS NULL OR u.name LIKE %:name%)")
+        Page<UserAdminListResponseDto> findAdminUserList(@Param("role") Role role, @Param("name") String name, Pageable pageable);
 
         // 특정 권한이 아닌 유저 수 (예: GUEST 제외)
         long countByRoleNot(Role role);
@@ -0,0 +1,33 @@
+package kr.ulsan.dreamshowchoir.dungeong.dto.admin;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 고아 객체 GC 실행 결과 (dry-run이면 삭제하지 않고 대상만 집계)
+ */
+@Getter
+@Builder
+public class OrphanGcReportDto {
+
+    private boolean dryRun;
+    private LocalDateTime startedAt;
+    private long elapsedMillis;
+
+    // 집계
+    private long referencedKeyCount; // DB가 참조 중인 Key 수
+    private long scannedCount;       // 목록 조회한 객체 수
+    private long recentCount;        // 유예 기간 안이라 건너뛴 객체 수
+    private long orphanCount;        // 고아 객체 수
+    private long orphanBytes;        // 고아 객체 전체 크기
+
+    // 삭제 결과 (dry-run이면 0)
+    private long deletedCount;
+    private long failedCount;
+
+    // 고아 객체 Key 예시 (최대 SAMPLE_SIZE개)
+    private List<String> sampleOrphanKeys;
+}
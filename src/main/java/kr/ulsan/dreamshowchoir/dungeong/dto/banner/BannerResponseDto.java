@@ -1,6 +1,7 @@
 package kr.ulsan.dreamshowchoir.dungeong.dto.banner;
 
 import kr.ulsan.dreamshowchoir.dungeong.domain.banner.Banner;
+import kr.ulsan.dreamshowchoir.dungeong.domain.common.ImageVariants;
 import lombok.Getter;
 
 @Getter
@@ -9,6 +10,7 @@ public class BannerResponseDto {
     private final String title;
     private final String description;
     private final String imageUrl;
+    private final String srcset; // 리사이즈 변환본 (<img srcset>, 아직 없으면 null)
     private final Integer orderIndex;
     private final Boolean isActive;
 
@@ -17,6 +19,7 @@ public class BannerResponseDto {
         this.title = banner.getTitle();
         this.description = banner.getDescription();
         this.imageUrl = banner.getImageKey();
+        this.srcset = ImageVariants.srcsetOf(banner.getVariants());
         this.orderIndex = banner.getOrderIndex();
         this.isActive = banner.getIsActive();
     }
@@ -1,6 +1,7 @@
 package kr.ulsan.dreamshowchoir.dungeong.dto.comment;
 
 import kr.ulsan.dreamshowchoir.dungeong.domain.post.Comment;
+import kr.ulsan.dreamshowchoir.dungeong.domain.post.CommentProjection;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
@@ -31,4 +32,18 @@ public class CommentResponseDto {
         this.updatedAt = comment.getUpdatedAt();
         this.authorProfileImage = comment.getUser().getProfileImageKey();
     }
+
+    /**
+     * 프로젝션(컬럼 조회 결과)을 DTO로 변환하는 생성자
+     */
+    public CommentResponseDto(CommentProjection projection) {
+        this.commentId = projection.getCommentId();
+        this.content = projection.getContent();
+        this.authorName = projection.getAuthorName();
+        this.authorId = projection.getAuthorId();
+        this.postId = projection.getPostId();
+        this.createdAt = projection.getCreatedAt();
+        this.updatedAt = projection.getUpdatedAt();
+        this.authorProfileImage = projection.getAuthorProfileImage();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package kr.ulsan.dreamshowchoir.dungeong.dto.common;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서(Keyset) 페이징 응답을 위한 범용 DTO
+ * (전체 개수/페이지 수를 계산하지 않으므로 count 쿼리가 필요 없음)
+ *
+ * @param <T> 목록에 포함될 DTO의 타입
+ */
+@Getter
+public class CursorResponseDto<T> {
+
+    private final List<T> content;   // 현재 페이지의 데이터 리스트
+    private final int size;          // 요청한 페이지 크기
+    private final boolean hasNext;   // 다음 페이지 존재 여부
+    private final String nextCursor; // 다음 페이지 요청 시 보낼 커서 (마지막 페이지면 null)
+
+    public CursorResponseDto(List<T> content, int size, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * size + 1개로 조회한 결과를 받아 CursorResponseDto로 변환
+     * (한 개를 더 조회해서 다음 페이지 존재 여부를 판단)
+     *
+     * @param rows     size + 1개까지 조회된 엔티티 목록
+     * @param size     요청한 페이지 크기
+     * @param mapper   엔티티 -> DTO 변환 함수
+     * @param cursorOf 엔티티 -> 커서 문자열 변환 함수
+     */
+    public static <E, T> CursorResponseDto<T> of(List<E> rows, int size, Function<E, T> mapper, Function<E, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<E> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        List<T> content = pageRows.stream().map(mapper).toList();
+        String nextCursor = hasNext ? cursorOf.apply(pageRows.get(pageRows.size() - 1)) : null;
+
+        return new CursorResponseDto<>(content, size, hasNext, nextCursor);
+    }
+}
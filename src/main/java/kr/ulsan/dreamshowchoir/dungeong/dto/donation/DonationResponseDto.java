@@ -41,4 +41,20 @@ public class DonationResponseDto {
             this.donorPhone = null;
         }
     }
+
+    /**
+     * JPQL 생성자 프로젝션용 생성자 (목록에 필요한 컬럼만 조회)
+     */
+    public DonationResponseDto(Long donationId, Long userId, Long amount, DonationType type, DonationStatus status,
+                               LocalDateTime createdAt, String donorName, String donorEmail, String donorPhone) {
+        this.donationId = donationId;
+        this.userId = userId;
+        this.amount = amount;
+        this.type = type;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.donorName = donorName;
+        this.donorEmail = donorEmail;
+        this.donorPhone = donorPhone;
+    }
 }
\ No newline at end of file
@@ -1,6 +1,5 @@
 package kr.ulsan.dreamshowchoir.dungeong.dto.gallery;
 
-import kr.ulsan.dreamshowchoir.dungeong.domain.gallery.Gallery;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
@@ -14,21 +13,22 @@ public class GalleryListResponseDto {
     private final String authorName;
     private final LocalDateTime createdAt;
     private final String thumbnailUrl;
+    private final int mediaCount;
+    private final long viewCount;
 
-    public GalleryListResponseDto(Gallery gallery) {
-        this.galleryId = gallery.getGalleryId();
-        this.type = gallery.getType();
-        this.title = gallery.getTitle();
-        this.authorName = gallery.getUser().getName();
-        this.createdAt = gallery.getCreatedAt();
-
-        // 썸네일 로직
-        if (gallery.getGalleryMedia() != null && !gallery.getGalleryMedia().isEmpty()) {
-            // Gallery 엔티티에 @OneToMany로 연결된 리스트의 0번 인덱스 가져오기
-            this.thumbnailUrl = gallery.getGalleryMedia().get(0).getFileKey();
-        } else {
-            // 미디어가 없는 경우 null (프론트에서 기본 이미지 처리)
-            this.thumbnailUrl = null;
-        }
+    /**
+     * JPQL 생성자 프로젝션용 생성자
+     * (목록에 필요한 컬럼만 SELECT -> 엔티티/미디어를 영속성 컨텍스트에 올리지 않음)
+     */
+    public GalleryListResponseDto(Long galleryId, String type, String title, String authorName, LocalDateTime createdAt,
+                                  String thumbnailUrl, int mediaCount, long viewCount) {
+        this.galleryId = galleryId;
+        this.type = type;
+        this.title = title;
+        this.authorName = authorName != null ? authorName : "알 수 없음"; // 탈퇴한 작성자 처리
+        this.createdAt = createdAt;
+        this.thumbnailUrl = thumbnailUrl;
+        this.mediaCount = mediaCount;
+        this.viewCount = viewCount;
     }
-}
\ No newline at end of file
+}
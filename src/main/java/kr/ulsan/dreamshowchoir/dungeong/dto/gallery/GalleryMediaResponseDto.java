@@ -1,5 +1,6 @@
 package kr.ulsan.dreamshowchoir.dungeong.dto.gallery;
 
+import kr.ulsan.dreamshowchoir.dungeong.domain.common.ImageVariants;
 import kr.ulsan.dreamshowchoir.dungeong.domain.common.MediaType;
 import kr.ulsan.dreamshowchoir.dungeong.domain.gallery.GalleryMedia;
 import lombok.Getter;
@@ -10,10 +11,12 @@ public class GalleryMediaResponseDto {
     private final Long mediaId;
     private final String fileKey; // S3 URL
     private final MediaType mediaType; // IMAGE 또는 VIDEO
+    private final String srcset; // 리사이즈 변환본 (<img srcset>, 아직 없거나 동영상이면 null)
 
     public GalleryMediaResponseDto(GalleryMedia media) {
         this.mediaId = media.getMediaId();
         this.fileKey = media.getFileKey();
         this.mediaType = media.getMediaType();
+        this.srcset = ImageVariants.srcsetOf(media.getVariants());
     }
 }
\ No newline at end of file
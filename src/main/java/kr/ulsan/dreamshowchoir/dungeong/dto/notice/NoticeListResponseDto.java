@@ -1,6 +1,5 @@
 package kr.ulsan.dreamshowchoir.dungeong.dto.notice;
 
-import kr.ulsan.dreamshowchoir.dungeong.domain.notice.Notice;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
@@ -15,14 +14,16 @@ public class NoticeListResponseDto {
     private final String title;
     private final String authorName;
     private final LocalDateTime createdAt;
+    private final long viewCount;
 
     /**
-     * Notice 엔티티를 NoticeListResponseDto로 변환
+     * JPQL 생성자 프로젝션용 생성자 (목록에 필요한 컬럼만 조회)
      */
-    public NoticeListResponseDto(Notice notice) {
-        this.noticeId = notice.getNoticeId();
-        this.title = notice.getTitle();
-        this.authorName = notice.getUser().getName();
-        this.createdAt = notice.getCreatedAt();
+    public NoticeListResponseDto(Long noticeId, String title, String authorName, LocalDateTime createdAt, long viewCount) {
+        this.noticeId = noticeId;
+        this.title = title;
+        this.authorName = authorName != null ? authorName : "알 수 없음"; // 탈퇴한 작성자 처리
+        this.createdAt = createdAt;
+        this.viewCount = viewCount;
     }
 }
\ No newline at end of file
@@ -1,10 +1,15 @@
 package kr.ulsan.dreamshowchoir.dungeong.dto.notice;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import kr.ulsan.dreamshowchoir.dungeong.domain.common.ContentVersion;
 import kr.ulsan.dreamshowchoir.dungeong.domain.notice.Notice;
+import kr.ulsan.dreamshowchoir.dungeong.domain.notice.NoticeImage;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Getter
@@ -19,6 +24,10 @@ public class NoticeResponseDto {
     private final LocalDateTime updatedAt;
     private final List<NoticeImageDto> images;
 
+    // 조건부 GET용 버전 정보 (상세 캐시에 DTO와 함께 저장, 응답 본문에는 포함하지 않음)
+    @JsonIgnore
+    private final ContentVersion version;
+
     /**
      * Entity를 DTO로 변환하는 생성자
      */
@@ -41,5 +50,14 @@ public class NoticeResponseDto {
         this.images = notice.getNoticeImages().stream()
                 .map(NoticeImageDto::new)
                 .collect(Collectors.toList());
+
+        // 본문 수정 시각 + 이미지 개수/변환본 생성된 이미지 개수/최종 추가 시각 (공지사항은 댓글 없음)
+        List<NoticeImage> noticeImages = notice.getNoticeImages();
+        this.version = new ContentVersion(
+                notice.getUpdatedAt(),
+                (long) noticeImages.size(),
+                noticeImages.stream().filter(image -> image.getVariants() != null).count(),
+                noticeImages.stream().map(NoticeImage::getCreatedAt).filter(Objects::nonNull).max(Comparator.naturalOrder()).orElse(null),
+                0);
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package kr.ulsan.dreamshowchoir.dungeong.dto.post;
 
+import kr.ulsan.dreamshowchoir.dungeong.domain.common.ImageVariants;
 import kr.ulsan.dreamshowchoir.dungeong.domain.post.PostImage;
 import lombok.Getter;
 
@@ -7,9 +8,11 @@ import lombok.Getter;
 public class PostImageDto {
     private final Long imageId;
     private final String imageUrl;
+    private final String srcset; // 리사이즈 변환본 (<img srcset>, 아직 없으면 null)
 
     public PostImageDto(PostImage image) {
         this.imageId = image.getImageId();
         this.imageUrl = image.getImageKey();
+        this.srcset = ImageVariants.srcsetOf(image.getVariants());
     }
 }
\ No newline at end of file
@@ -1,6 +1,5 @@
 package kr.ulsan.dreamshowchoir.dungeong.dto.post;
 
-import kr.ulsan.dreamshowchoir.dungeong.domain.post.Post;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
@@ -16,17 +15,21 @@ public class PostListResponseDto {
     private final String authorName;
     private final LocalDateTime createdAt;
     private final int commentCount;
+    private final long viewCount;
     private final String authorProfileImage;
 
     /**
-     * Post 엔티티를 PostListResponseDto로 변환
+     * JPQL 생성자 프로젝션용 생성자
+     * (목록에 필요한 컬럼만 SELECT -> 엔티티/스냅샷을 영속성 컨텍스트에 올리지 않음)
      */
-    public PostListResponseDto(Post post) {
-        this.postId = post.getPostId();
-        this.title = post.getTitle();
-        this.authorName = post.getUser().getName(); // N+1 문제 방지를 위해 Fetch Join 필요
-        this.createdAt = post.getCreatedAt();
-        this.commentCount = post.getComments() != null ? post.getComments().size() : 0;
-        this.authorProfileImage = post.getUser().getProfileImageKey();
+    public PostListResponseDto(Long postId, String title, String authorName, LocalDateTime createdAt,
+                               int commentCount, long viewCount, String authorProfileImage) {
+        this.postId = postId;
+        this.title = title;
+        this.authorName = authorName;
+        this.createdAt = createdAt;
+        this.commentCount = commentCount;
+        this.viewCount = viewCount;
+        this.authorProfileImage = authorProfileImage;
     }
 }
\ No newline at end of file
@@ -1,10 +1,15 @@
 package kr.ulsan.dreamshowchoir.dungeong.dto.post;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import kr.ulsan.dreamshowchoir.dungeong.domain.common.ContentVersion;
 import kr.ulsan.dreamshowchoir.dungeong.domain.post.Post;
+import kr.ulsan.dreamshowchoir.dungeong.domain.post.PostImage;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Getter
@@ -18,8 +23,13 @@ public class PostResponseDto {
     private final LocalDateTime createdAt;
     private final LocalDateTime updatedAt;
     private final List<PostImageDto> images;
+    private final int commentCount;
     private final String authorProfileImage;
 
+    // 조건부 GET용 버전 정보 (상세 캐시에 DTO와 함께 저장, 응답 본문에는 포함하지 않음)
+    @JsonIgnore
+    private final ContentVersion version;
+
     /**
      * Entity를 DTO로 변환하는 생성자
      */
@@ -34,6 +44,16 @@ public class PostResponseDto {
         this.images = post.getPostImages().stream()
                 .map(PostImageDto::new)
                 .collect(Collectors.toList());
+        this.commentCount = post.getCommentCount();
         this.authorProfileImage = post.getUser().getProfileImageKey();
+
+        // 본문 수정 시각 + 이미지 개수/변환본 생성된 이미지 개수/최종 추가 시각 + 댓글 수
+        List<PostImage> postImages = post.getPostImages();
+        this.version = new ContentVersion(
+                post.getUpdatedAt(),
+                (long) postImages.size(),
+                postImages.stream().filter(image -> image.getVariants() != null).count(),
+                postImages.stream().map(PostImage::getCreatedAt).filter(Objects::nonNull).max(Comparator.naturalOrder()).orElse(null),
+                post.getCommentCount());
     }
 }
\ No newline at end of file
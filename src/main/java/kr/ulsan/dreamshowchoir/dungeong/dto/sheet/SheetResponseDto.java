@@ -27,4 +27,15 @@ public class SheetResponseDto {
         }
         this.createdAt = sheet.getCreatedAt();
     }
+
+    // JPQL 생성자 프로젝션용 생성자 (목록에 필요한 컬럼만 조회)
+    public SheetResponseDto(Long sheetId, String fileName, String fileKey, Long fileSize,
+                            String uploaderName, LocalDateTime createdAt) {
+        this.sheetId = sheetId;
+        this.fileName = fileName;
+        this.fileKey = fileKey;
+        this.fileSize = fileSize;
+        this.uploaderName = uploaderName != null ? uploaderName : "알 수 없음";
+        this.createdAt = createdAt;
+    }
 }
\ No newline at end of file
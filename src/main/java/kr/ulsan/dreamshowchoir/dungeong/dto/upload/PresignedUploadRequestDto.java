@@ -0,0 +1,27 @@
+package kr.ulsan.dreamshowchoir.dungeong.dto.upload;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import kr.ulsan.dreamshowchoir.dungeong.domain.common.UploadDirectory;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PresignedUploadRequestDto {
+
+    @NotNull(message = "업로드 폴더를 선택해주세요.")
+    private UploadDirectory directory;
+
+    @NotBlank(message = "파일 이름을 입력해주세요.")
+    private String fileName;
+
+    @NotBlank(message = "파일 형식(Content-Type)을 입력해주세요.")
+    private String contentType;
+
+    @NotNull(message = "파일 크기를 입력해주세요.")
+    @Positive(message = "파일 크기가 올바르지 않습니다.")
+    private Long fileSize;
+}
@@ -0,0 +1,23 @@
+package kr.ulsan.dreamshowchoir.dungeong.dto.upload;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Presigned PUT URL 발급 결과
+ * 클라이언트는 uploadUrl로 파일 본문을 PUT 하면서 headers를 그대로 함께 보내야 함 (서명에 포함됨)
+ * 업로드 후 fileKey로 완료(finalize) API를 호출
+ */
+@Getter
+@AllArgsConstructor
+public class PresignedUploadResponseDto {
+
+    private final String fileKey;
+    private final String uploadUrl;
+    private final String method;
+    private final Map<String, String> headers;
+    private final LocalDateTime expiresAt;
+}
@@ -0,0 +1,16 @@
+package kr.ulsan.dreamshowchoir.dungeong.dto.upload;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 스트리밍 업로드 결과 (fileKey로 각 도메인의 등록 API 호출)
+ */
+@Getter
+@AllArgsConstructor
+public class StreamUploadResponseDto {
+
+    private final String fileKey;  // 완료(finalize) 요청에 사용할 Key
+    private final String fileUrl;  // 업로드된 파일의 전체 URL
+    private final long fileSize;
+}
@@ -0,0 +1,19 @@
+package kr.ulsan.dreamshowchoir.dungeong.dto.upload;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UploadFinalizeRequestDto {
+
+    // Presigned URL 발급 시 받은 fileKey 목록
+    @NotEmpty(message = "업로드한 파일을 선택해주세요.")
+    @Size(max = 50, message = "한 번에 최대 50개까지 등록할 수 있습니다.")
+    private List<String> fileKeys;
+}
@@ -0,0 +1,17 @@
+package kr.ulsan.dreamshowchoir.dungeong.dto.upload;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * S3에서 확인(HEAD)을 마친 직접 업로드 파일 정보
+ */
+@Getter
+@AllArgsConstructor
+public class VerifiedUploadDto {
+
+    private final String fileUrl;     // DB에 저장할 전체 URL (서버 경유 업로드와 같은 형식)
+    private final String fileName;    // 원본 파일 이름
+    private final long fileSize;
+    private final String contentType;
+}
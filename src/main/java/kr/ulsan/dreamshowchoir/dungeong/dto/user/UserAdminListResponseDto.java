@@ -1,7 +1,6 @@
 package kr.ulsan.dreamshowchoir.dungeong.dto.user;
 
 import kr.ulsan.dreamshowchoir.dungeong.domain.user.Role;
-import kr.ulsan.dreamshowchoir.dungeong.domain.user.User;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
@@ -17,19 +16,15 @@ public class UserAdminListResponseDto {
     private final String part;     // (단원인 경우) 파트
     private final LocalDateTime createdAt; // 가입일
 
-    public UserAdminListResponseDto(User user) {
-        this.userId = user.getUserId();
-        this.name = user.getName();
-        this.email = user.getEmail();
-        this.phoneNumber = user.getPhoneNumber();
-        this.role = user.getRole();
-        this.createdAt = user.getCreatedAt();
-
-        // MemberProfile이 있으면 파트 정보 가져오기, 없으면 null
-        if (user.getMemberProfile() != null) {
-            this.part = user.getMemberProfile().getPart();
-        } else {
-            this.part = null; // 준회원(USER) 등은 파트가 없음
-        }
+    // JPQL 생성자 프로젝션용 생성자 (MemberProfile은 part 컬럼만 조회)
+    public UserAdminListResponseDto(Long userId, String name, String email, String phoneNumber,
+                                    Role role, String part, LocalDateTime createdAt) {
+        this.userId = userId;
+        this.name = name;
+        this.email = email;
+        this.phoneNumber = phoneNumber;
+        this.role = role;
+        this.part = part;
+        this.createdAt = createdAt;
     }
 }
\ No newline at end of file
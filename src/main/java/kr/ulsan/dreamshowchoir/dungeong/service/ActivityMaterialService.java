@@ -13,9 +13,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -24,6 +28,7 @@ public class ActivityMaterialService {
     private final ActivityMaterialRepository materialRepository;
     private final UserRepository userRepository;
     private final S3Service s3Service;
+    private final TransactionTemplate transactionTemplate; // S3 업로드 후 짧은 트랜잭션으로 DB 저장
 
     /**
      * 활동자료 생성
@@ -34,28 +39,33 @@ public class ActivityMaterialService {
      * @param userId     현재 인증된 관리자의 ID
      * @return 생성된 활동자료 상세 정보 DTO
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // S3 업로드 동안 DB 커넥션을 점유하지 않도록 트랜잭션 밖에서 실행
     public ActivityMaterialResponseDto createMaterial(ActivityMaterialCreateRequestDto requestDto, MultipartFile file, Long userId) {
 
-        // 작성자(관리자) 엔티티를 DB에서 조회
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다: " + userId));
-
-        // S3에 파일을 업로드하고, 저장된 URL(Key)을 반환받음
+        // S3에 파일을 업로드하고, 저장된 URL(Key)을 반환받음 (트랜잭션 밖)
         String fileKey = s3Service.uploadFile(file, "activity");
 
-        // DTO의 헬퍼 메소드(toEntity)를 사용하여 ActivityMaterial 엔티티 생성
-        ActivityMaterial material = requestDto.toEntity(
-                user,
-                fileKey,
-                file.getOriginalFilename(),
-                file.getSize()
-        );
+        // 짧은 트랜잭션으로 DB 저장 (실패 시 업로드한 파일 삭제)
+        return s3Service.runWithCompensation(List.of(fileKey), () -> transactionTemplate.execute(status -> {
+
+            // 작성자(관리자) 엔티티를 DB에서 조회
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다: " + userId));
+
+            // DTO의 헬퍼 메소드(toEntity)를 사용하여 ActivityMaterial 엔티티 생성
+            ActivityMaterial material = requestDto.toEntity(
+                    user,
+                    fileKey,
+                    file.getOriginalFilename(),
+                    file.getSize()
+            );
 
-        // Repository를 통해 엔티티를 DB에 저장
-        ActivityMaterial savedMaterial = materialRepository.save(material);
+            // Repository를 통해 엔티티를 DB에 저장
+            ActivityMaterial savedMaterial = materialRepository.save(material);
 
-        // 저장된 엔티티를 Response DTO로 변환하여 반환
-        return new ActivityMaterialResponseDto(savedMaterial);
+            // 저장된 엔티티를 Response DTO로 변환하여 반환
+            return new ActivityMaterialResponseDto(savedMaterial);
+        }));
     }
 
     /**
@@ -128,8 +138,8 @@ public class ActivityMaterialService {
         ActivityMaterial material = materialRepository.findById(materialId)
                 .orElseThrow(() -> new EntityNotFoundException("자료를 찾을 수 없습니다: " + materialId));
 
-        // S3에서 실제 파일 삭제 (물리 삭제)
-        s3Service.deleteFile(material.getFileKey());
+        // S3에서 실제 파일 삭제 (물리 삭제, 커밋 후)
+        s3Service.deleteFileAfterCommit(material.getFileKey());
 
         // Repository의 delete() 호출 -> @SQLDelete(논리삭제) 쿼리 실행
         materialRepository.delete(material);
@@ -1,13 +1,16 @@
 package kr.ulsan.dreamshowchoir.dungeong.service;
 
 import jakarta.persistence.EntityNotFoundException;
+import kr.ulsan.dreamshowchoir.dungeong.domain.common.ContentVersion;
 import kr.ulsan.dreamshowchoir.dungeong.domain.banner.Banner;
 import kr.ulsan.dreamshowchoir.dungeong.domain.banner.repository.BannerRepository;
 import kr.ulsan.dreamshowchoir.dungeong.dto.banner.BannerResponseDto;
 import kr.ulsan.dreamshowchoir.dungeong.dto.banner.BannerUpdateRequestDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
@@ -20,6 +23,8 @@ public class BannerService {
 
     private final BannerRepository bannerRepository;
     private final S3Service s3Service;
+    private final ImageVariantService imageVariantService; // 업로드 이미지 리사이즈 변환본 생성 (커밋 후 비동기)
+    private final TransactionTemplate transactionTemplate; // S3 업로드 후 짧은 트랜잭션으로 DB 저장
 
     /**
      * 활성화된 메인 배너 목록 조회
@@ -33,6 +38,14 @@ public class BannerService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 배너 목록 버전 정보 조회 (조건부 GET용, 배너 목록을 조회하지 않음)
+     */
+    @Transactional(readOnly = true)
+    public ContentVersion getBannersVersion() {
+        return bannerRepository.findVersion();
+    }
+
     /**
      * (관리자용) 전체 배너 목록 조회
      *
@@ -54,9 +67,10 @@ public class BannerService {
      * @param file        배너 이미지 파일
      * @return 생성된 배너 상세 정보 DTO
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // S3 업로드 동안 DB 커넥션을 점유하지 않도록 트랜잭션 밖에서 실행
     public BannerResponseDto createBanner(String title, String description, MultipartFile file) {
 
-        // S3 이미지 업로드
+        // S3 이미지 업로드 (트랜잭션 밖)
         String imageKey = s3Service.uploadFile(file, "banner");
 
         Banner banner = Banner.builder()
@@ -68,8 +82,14 @@ public class BannerService {
                 .orderIndex(0)  // 기본값 0 (맨 앞)
                 .build();
 
-        Banner savedBanner = bannerRepository.save(banner);
-        return new BannerResponseDto(savedBanner);
+        // 짧은 트랜잭션으로 DB 저장 (실패 시 업로드한 이미지 삭제)
+        return s3Service.runWithCompensation(List.of(imageKey), () -> transactionTemplate.execute(status -> {
+            Banner savedBanner = bannerRepository.save(banner);
+
+            // 커밋 후 리사이즈 변환본 생성 요청
+            requestVariants(savedBanner, file);
+            return new BannerResponseDto(savedBanner);
+        }));
     }
 
     /**
@@ -80,33 +100,47 @@ public class BannerService {
      * @param file       교체할 이미지 파일 (null이면 기존 이미지 유지)
      * @return 수정된 배너 정보 DTO
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // S3 업로드 동안 DB 커넥션을 점유하지 않도록 트랜잭션 밖에서 실행
     public BannerResponseDto updateBanner(Long bannerId, BannerUpdateRequestDto requestDto, MultipartFile file) {
-        Banner banner = bannerRepository.findById(bannerId)
-                .orElseThrow(() -> new EntityNotFoundException("배너를 찾을 수 없습니다: " + bannerId));
-
-        // 이미지 처리 (새 파일이 있는 경우에만 교체)
-        String imageKey = banner.getImageKey();
-        String imageName = banner.getImageName();
 
-        if (file != null && !file.isEmpty()) {
-            // 기존 파일 삭제
-            s3Service.deleteFile(banner.getImageKey());
-            // 새 파일 업로드
-            imageKey = s3Service.uploadFile(file, "banner");
-            imageName = file.getOriginalFilename();
-        }
-
-        // 정보 업데이트 (Entity 메서드 활용)
-        banner.update(imageKey, imageName, requestDto.getTitle(), requestDto.getDescription(), requestDto.getOrderIndex());
-
-        // 활성화 상태 변경 (Entity 메서드 활용)
-        if (Boolean.TRUE.equals(requestDto.getIsActive())) {
-            banner.activate();
-        } else {
-            banner.deactivate();
-        }
-
-        return new BannerResponseDto(banner);
+        // 새 파일이 있으면 먼저 업로드 (트랜잭션 밖)
+        boolean hasNewFile = file != null && !file.isEmpty();
+        String newImageKey = hasNewFile ? s3Service.uploadFile(file, "banner") : null;
+        List<String> uploadedKeys = hasNewFile ? List.of(newImageKey) : List.of();
+
+        // 짧은 트랜잭션으로 DB 수정 (실패 시 업로드한 이미지 삭제)
+        return s3Service.runWithCompensation(uploadedKeys, () -> transactionTemplate.execute(status -> {
+            Banner banner = bannerRepository.findById(bannerId)
+                    .orElseThrow(() -> new EntityNotFoundException("배너를 찾을 수 없습니다: " + bannerId));
+
+            // 이미지 처리 (새 파일이 있는 경우에만 교체)
+            String imageKey = banner.getImageKey();
+            String imageName = banner.getImageName();
+
+            if (hasNewFile) {
+                // 기존 파일 삭제 (원본 + 변환본, 커밋 후)
+                s3Service.deleteFilesAfterCommit(banner.getFileKeys());
+                imageKey = newImageKey;
+                imageName = file.getOriginalFilename();
+            }
+
+            // 정보 업데이트 (Entity 메서드 활용)
+            banner.update(imageKey, imageName, requestDto.getTitle(), requestDto.getDescription(), requestDto.getOrderIndex());
+
+            // 활성화 상태 변경 (Entity 메서드 활용)
+            if (Boolean.TRUE.equals(requestDto.getIsActive())) {
+                banner.activate();
+            } else {
+                banner.deactivate();
+            }
+
+            // 새 이미지는 커밋 후 리사이즈 변환본 생성 요청
+            if (hasNewFile) {
+                requestVariants(banner, file);
+            }
+
+            return new BannerResponseDto(banner);
+        }));
     }
 
     /**
@@ -119,10 +153,18 @@ public class BannerService {
         Banner banner = bannerRepository.findById(bannerId)
                 .orElseThrow(() -> new EntityNotFoundException("배너를 찾을 수 없습니다: " + bannerId));
 
-        // S3 파일 삭제
-        s3Service.deleteFile(banner.getImageKey());
+        // S3 파일 삭제 (원본 + 변환본, 커밋 후)
+        s3Service.deleteFilesAfterCommit(banner.getFileKeys());
 
         // DB 삭제 (Soft Delete)
         bannerRepository.delete(banner);
     }
-}
\ No newline at end of file
+
+    // 리사이즈 변환본 생성 요청 헬퍼 (변환 가능한 이미지만)
+    private void requestVariants(Banner banner, MultipartFile file) {
+        if (imageVariantService.isSupported(file.getContentType())) {
+            imageVariantService.generateAfterCommit(ImageVariantService.Target.BANNER,
+                    banner.getBannerId(), null, banner.getImageKey());
+        }
+    }
+}
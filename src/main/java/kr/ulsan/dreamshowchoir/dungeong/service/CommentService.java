@@ -1,7 +1,11 @@
 package kr.ulsan.dreamshowchoir.dungeong.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityNotFoundException;
+import kr.ulsan.dreamshowchoir.dungeong.config.CacheConfig;
 import kr.ulsan.dreamshowchoir.dungeong.domain.post.Comment;
+import kr.ulsan.dreamshowchoir.dungeong.domain.post.CommentProjection;
 import kr.ulsan.dreamshowchoir.dungeong.domain.post.Post;
 import kr.ulsan.dreamshowchoir.dungeong.domain.post.repository.CommentRepository;
 import kr.ulsan.dreamshowchoir.dungeong.domain.post.repository.PostRepository;
@@ -11,13 +15,23 @@ import kr.ulsan.dreamshowchoir.dungeong.domain.user.repository.UserRepository;
 import kr.ulsan.dreamshowchoir.dungeong.dto.comment.CommentCreateRequestDto;
 import kr.ulsan.dreamshowchoir.dungeong.dto.comment.CommentResponseDto;
 import kr.ulsan.dreamshowchoir.dungeong.dto.comment.CommentUpdateRequestDto;
+import kr.ulsan.dreamshowchoir.dungeong.dto.common.CursorResponseDto;
+import kr.ulsan.dreamshowchoir.dungeong.util.CursorUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -27,6 +41,8 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final PostRepository postRepository; // PostRepository 주입
     private final UserRepository userRepository; // UserRepository 주입
+    private final ObjectMapper objectMapper; // 스트리밍 JSON 응답 작성용
+    private final CacheManager cacheManager; // 게시글 상세 캐시(댓글 수 포함) 무효화용
 
     /**
      * 새로운 댓글을 생성
@@ -36,6 +52,7 @@ public class CommentService {
      * @param userId     현재 인증된 사용자의 ID (JWT 토큰에서 추출)
      * @return 생성된 댓글의 상세 정보 DTO
      */
+    @CacheEvict(cacheNames = CacheConfig.POST_DETAIL, key = "#postId") // 댓글 수가 바뀌므로 게시글 상세 캐시 삭제
     public CommentResponseDto createComment(Long postId, CommentCreateRequestDto requestDto, Long userId) {
 
         // 작성자(User) 엔티티를 DB에서 조회
@@ -52,6 +69,9 @@ public class CommentService {
         // Repository를 통해 엔티티를 DB에 저장
         Comment savedComment = commentRepository.save(newComment);
 
+        // 게시글의 댓글 수 증가 (원자적 UPDATE)
+        postRepository.increaseCommentCount(postId);
+
         // 저장된 엔티티를 Response DTO로 변환하여 컨트롤러에 반환
         return new CommentResponseDto(savedComment);
     }
@@ -80,6 +100,81 @@ public class CommentService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 특정 게시글의 댓글 목록을 커서(Keyset) 방식으로 조회 (오래된 순)
+     * 게시글 존재 확인과 댓글 조회를 쿼리 1번으로 처리
+     *
+     * @param postId 조회할 게시글의 ID
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size   페이지 크기
+     * @return 커서 정보와 댓글 DTO 리스트
+     */
+    @Transactional(readOnly = true)
+    public CursorResponseDto<CommentResponseDto> getCommentListByCursor(Long postId, String cursor, Integer size) {
+
+        int pageSize = CursorUtil.normalizeSize(size);
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<CommentProjection> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = commentRepository.findFirstPageByPostId(postId, limit);
+        } else {
+            CursorUtil.Cursor decoded = CursorUtil.decode(cursor);
+            rows = commentRepository.findNextPageByPostId(postId, decoded.createdAt(), decoded.id(), limit);
+        }
+
+        // 결과가 0행이면 게시글이 없는 것 (게시글이 있으면 댓글이 없어도 1행이 조회됨)
+        if (rows.isEmpty()) {
+            throw new EntityNotFoundException("해당 ID의 게시글을 찾을 수 없습니다: " + postId);
+        }
+
+        // 댓글이 없는 경우의 빈 행(commentId = null) 제외
+        List<CommentProjection> comments = rows.stream()
+                .filter(row -> row.getCommentId() != null)
+                .toList();
+
+        return CursorResponseDto.of(comments, pageSize, CommentResponseDto::new,
+                row -> CursorUtil.encode(row.getCreatedAt(), row.getCommentId()));
+    }
+
+    /**
+     * 게시글 존재 여부 확인 (스트리밍 응답 시작 전에 404 판단용)
+     *
+     * @param postId 확인할 게시글의 ID
+     */
+    @Transactional(readOnly = true)
+    public void checkPostExists(Long postId) {
+        if (!postRepository.existsById(postId)) {
+            throw new EntityNotFoundException("해당 ID의 게시글을 찾을 수 없습니다: " + postId);
+        }
+    }
+
+    /**
+     * 특정 게시글의 댓글 전체를 JSON 배열로 스트리밍 작성
+     * DB 커서(Stream)에서 한 행씩 읽어 바로 출력하므로, 댓글이 많아도 전체 목록을 힙에 올리지 않음
+     * (StreamingResponseBody의 비동기 스레드에서 호출되므로 이 메소드 자체가 트랜잭션 경계)
+     *
+     * @param postId       조회할 게시글의 ID
+     * @param outputStream 응답 출력 스트림
+     */
+    @Transactional(readOnly = true)
+    public void writeCommentList(Long postId, OutputStream outputStream) throws IOException {
+
+        // 응답 스트림은 서블릿 컨테이너가 닫으므로 generator는 flush만 수행
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+
+        try (Stream<CommentProjection> stream = commentRepository.streamAllByPostId(postId)) {
+            generator.writeStartArray();
+            for (CommentProjection row : (Iterable<CommentProjection>) stream::iterator) {
+                generator.writeObject(new CommentResponseDto(row));
+            }
+            generator.writeEndArray();
+        }
+        generator.flush();
+    }
+
     /**
      * 댓글 수정
      * (작성자 본인만 가능)
@@ -136,5 +231,12 @@ public class CommentService {
 
         // Repository의 delete() 호출 -> @SQLDelete(논리삭제) 쿼리 실행
         commentRepository.delete(comment);
+
+        // 게시글의 댓글 수 감소 (원자적 UPDATE, 프록시에서 ID만 꺼내므로 Post 조회 없음)
+        Long postId = comment.getPost().getPostId();
+        postRepository.decreaseCommentCount(postId);
+
+        // 댓글 수가 바뀌므로 게시글 상세 캐시 삭제 (커밋 후 반영)
+        Objects.requireNonNull(cacheManager.getCache(CacheConfig.POST_DETAIL)).evict(postId);
     }
 }
\ No newline at end of file
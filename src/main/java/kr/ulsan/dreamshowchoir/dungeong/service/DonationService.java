@@ -83,11 +83,8 @@ public class DonationService {
     @Transactional(readOnly = true)
     public PageResponseDto<DonationResponseDto> getDonationListByStatus(DonationStatus status, Pageable pageable) {
 
-        // Repository에서 상태별 페이징 조회
-        Page<Donation> donationPage = donationRepository.findByStatus(status, pageable);
-
-        // Page<Donation> (엔티티) -> Page<DonationResponseDto> (DTO) 변환
-        Page<DonationResponseDto> dtoPage = donationPage.map(DonationResponseDto::new);
+        // 생성자 프로젝션 쿼리로 상태별 페이징 조회 (후원자 정보까지 한 번에 조회)
+        Page<DonationResponseDto> dtoPage = donationRepository.findDonationListByStatus(status, pageable);
 
         // PageResponseDto(범용 DTO)로 감싸서 반환
         return new PageResponseDto<>(dtoPage);
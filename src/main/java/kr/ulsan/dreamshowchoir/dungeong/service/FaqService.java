@@ -1,6 +1,7 @@
 package kr.ulsan.dreamshowchoir.dungeong.service;
 
 import jakarta.persistence.EntityNotFoundException;
+import kr.ulsan.dreamshowchoir.dungeong.domain.common.ContentVersion;
 import kr.ulsan.dreamshowchoir.dungeong.domain.communicate.Faq;
 import kr.ulsan.dreamshowchoir.dungeong.domain.communicate.repository.FaqRepository;
 import kr.ulsan.dreamshowchoir.dungeong.dto.faq.FaqCreateRequestDto;
@@ -43,6 +44,14 @@ public class FaqService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * FAQ 목록 버전 정보 조회 (조건부 GET용, FAQ 목록을 조회하지 않음)
+     */
+    @Transactional(readOnly = true)
+    public ContentVersion getFaqListVersion() {
+        return faqRepository.findVersion();
+    }
+
     /**
      * FAQ 상세 조회 (전체 허용)
      * (현재 목록 조회와 응답 DTO가 동일하지만, 추후 확장을 위해 분리)
@@ -0,0 +1,222 @@
+package kr.ulsan.dreamshowchoir.dungeong.service;
+
+import jakarta.persistence.EntityNotFoundException;
+import kr.ulsan.dreamshowchoir.dungeong.service.storage.StorageObjectInfo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * S3 파일 스트리밍 다운로드 (HTTP Range / 206 Partial Content 지원)
+ * - HEAD로 크기/ETag를 먼저 확인하고, 요청한 구간만 S3에서 Range GET으로 받아 고정 크기 버퍼로 바로 흘려보냄
+ *   (객체 전체를 메모리에 올리지 않음 -> 오디오 탐색, 큰 PDF 뷰어가 필요한 구간만 요청 가능)
+ * - If-Range: 클라이언트가 가진 버전(ETag/Last-Modified)과 다르면 Range를 무시하고 전체(200) 응답
+ * - 디스크 캐시(S3DiskCacheService)가 켜져 있으면 캐시된 파일에서 바로 전송하고, 미스면 S3 응답과 별개로 캐시를 채움 (다시 요청된 파일만)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FileDownloadService {
+
+    private static final int BUFFER_SIZE = 64 * 1024; // 스트리밍 버퍼 (64KB)
+
+    // 브라우저에서 바로 열어도 되는 형식 (그 외는 application/octet-stream 첨부 파일로 다운로드)
+    // SVG는 이미지지만 스크립트를 담을 수 있으므로 제외
+    private static final Set<String> INLINE_TYPES = Set.of("image", "audio", "video");
+    private static final MediaType IMAGE_SVG = MediaType.valueOf("image/svg+xml");
+
+    private final S3Service s3Service;
+    private final S3DiskCacheService diskCacheService;
+
+    /**
+     * 파일 다운로드 응답 생성
+     *
+     * @param fileUrl       DB에 저장된 파일 URL (또는 Key)
+     * @param fileName      다운로드 파일 이름 (Content-Disposition)
+     * @param rangeHeader   요청의 Range 헤더 (없으면 null)
+     * @param ifRangeHeader 요청의 If-Range 헤더 (없으면 null)
+     * @return 200(전체) / 206(부분) / 416(범위 오류) 응답, 본문은 비동기 스트리밍
+     */
+    public ResponseEntity<StreamingResponseBody> download(String fileUrl, String fileName, String rangeHeader, String ifRangeHeader) {
+        String s3Key = s3Service.toS3Key(fileUrl);
+        StorageObjectInfo head = s3Service.headObject(s3Key)
+                .orElseThrow(() -> new EntityNotFoundException("파일을 찾을 수 없습니다: " + fileName));
+
+        long length = head.contentLength();
+        String etag = head.etag();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        headers.setETag(etag);
+        headers.setLastModified(head.lastModified());
+        headers.setCacheControl(CacheControl.noCache().cachePrivate()); // 단원 전용 자료가 공유 캐시에 남지 않도록
+        headers.set("X-Content-Type-Options", "nosniff"); // 브라우저가 본문을 보고 형식을 바꾸지 않도록
+
+        // 형식과 표시 방식은 실제로 보낼 Content-Type 하나로 함께 결정 (확장자와 저장된 형식이 달라도 어긋나지 않음)
+        MediaType contentType = resolveContentType(head.contentType(), fileName);
+        boolean inline = isInlineAllowed(contentType);
+        headers.setContentType(inline ? contentType : MediaType.APPLICATION_OCTET_STREAM);
+        headers.setContentDisposition(resolveContentDisposition(fileName, inline));
+
+        HttpRange range = resolveRange(rangeHeader, ifRangeHeader, etag, head.lastModified(), length);
+
+        // Range 없음(또는 무시) -> 전체 응답
+        if (range == null) {
+            headers.setContentLength(length);
+            return ResponseEntity.ok()
+                    .headers(headers)
+                    .body(streamBody(s3Key, etag, length, 0, length, false));
+        }
+
+        long start;
+        long end;
+        try {
+            start = range.getRangeStart(length);
+            end = range.getRangeEnd(length);
+        } catch (IllegalArgumentException e) {
+            start = length;
+            end = length - 1;
+        }
+
+        // 파일 크기를 벗어난 범위 -> 416
+        if (start > end) {
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes */" + length)
+                    .header("X-Content-Type-Options", "nosniff")
+                    .build();
+        }
+
+        headers.setContentLength(end - start + 1);
+        headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                .headers(headers)
+                .body(streamBody(s3Key, etag, length, start, end - start + 1, true));
+    }
+
+    // 본문 전송 (응답 스레드가 아닌 비동기 스레드에서 실행)
+    private StreamingResponseBody streamBody(String s3Key, String etag, long length, long start, long count, boolean partial) {
+        Optional<Path> cachedFile = diskCacheService.get(s3Key, etag);
+        if (cachedFile.isEmpty()) {
+            // 다시 요청된 파일이면 다음 요청부터 캐시에서 응답하도록 백그라운드로 채움 (이번 응답은 S3에서 스트리밍)
+            diskCacheService.fillAsync(s3Key, etag, length);
+        }
+
+        Long rangeStart = partial ? start : null;
+        Long rangeEnd = partial ? start + count - 1 : null;
+        return outputStream -> {
+            // 디스크 캐시에 있으면 캐시 파일에서 바로 전송
+            if (cachedFile.isPresent()) {
+                try {
+                    diskCacheService.transferTo(cachedFile.get(), start, count, outputStream);
+                    return;
+                } catch (NoSuchFileException e) {
+                    log.debug("캐시 파일이 제거되어 S3에서 전송합니다: {}", s3Key); // 조회 후 용량 초과로 제거된 경우
+                }
+            }
+
+            copyFromS3(s3Key, rangeStart, rangeEnd, etag, outputStream);
+        };
+    }
+
+    // S3 본문을 고정 크기 버퍼로 복사
+    private void copyFromS3(String s3Key, Long start, Long end, String etag, OutputStream outputStream) throws IOException {
+        // HEAD 이후 객체가 바뀌었으면 저장소가 거절 (헤더의 크기/ETag와 다른 본문이 나가지 않도록)
+        // 클라이언트가 도중에 끊으면(탐색, 취소) 스트림을 닫을 때 남은 본문은 받지 않음
+        try (InputStream inputStream = s3Service.openObjectStream(s3Key, start, end, etag)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, read);
+            }
+        }
+    }
+
+    // 사용할 Range 결정 (단일 구간만 지원, 없거나 무시해야 하면 null)
+    private HttpRange resolveRange(String rangeHeader, String ifRangeHeader, String etag, Instant lastModified, long length) {
+        if (!StringUtils.hasText(rangeHeader) || length == 0) {
+            return null;
+        }
+
+        // If-Range가 현재 버전과 다르면 Range 무시 (클라이언트가 가진 앞부분과 이어 붙이면 안 되므로 전체 응답)
+        if (StringUtils.hasText(ifRangeHeader) && !ifRangeMatches(ifRangeHeader.trim(), etag, lastModified)) {
+            return null;
+        }
+
+        List<HttpRange> ranges;
+        try {
+            ranges = HttpRange.parseRanges(rangeHeader);
+        } catch (IllegalArgumentException e) {
+            log.debug("잘못된 Range 헤더, 전체 응답으로 처리합니다: {}", rangeHeader);
+            return null; // 형식이 잘못된 Range는 무시 (RFC 9110)
+        }
+
+        // 여러 구간(multipart/byteranges)은 지원하지 않음 -> 전체 응답
+        return ranges.size() == 1 ? ranges.get(0) : null;
+    }
+
+    // If-Range 비교: ETag는 강한 비교(Weak ETag는 불일치), 날짜는 초 단위로 Last-Modified와 일치해야 함
+    private boolean ifRangeMatches(String ifRange, String etag, Instant lastModified) {
+        if (ifRange.startsWith("W/")) {
+            return false;
+        }
+        if (ifRange.startsWith("\"")) {
+            return ifRange.equals(etag);
+        }
+        try {
+            Instant date = ZonedDateTime.parse(ifRange, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+            return lastModified != null && date.getEpochSecond() == lastModified.getEpochSecond();
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    // S3에 저장된 Content-Type이 없거나 기본값이면 파일 확장자로 추정
+    private MediaType resolveContentType(String storedContentType, String fileName) {
+        if (StringUtils.hasText(storedContentType) && !storedContentType.startsWith("application/octet-stream")) {
+            try {
+                return MediaType.parseMediaType(storedContentType);
+            } catch (IllegalArgumentException e) {
+                log.debug("잘못된 Content-Type, 확장자로 추정합니다: {}", storedContentType);
+            }
+        }
+        return MediaTypeFactory.getMediaType(fileName).orElse(MediaType.APPLICATION_OCTET_STREAM);
+    }
+
+    // 허용 목록(이미지/오디오/영상/PDF)만 브라우저에서 바로 재생/열람 (HTML, 스크립트 등은 항상 다운로드)
+    private boolean isInlineAllowed(MediaType contentType) {
+        if (IMAGE_SVG.equalsTypeAndSubtype(contentType)) {
+            return false;
+        }
+        return INLINE_TYPES.contains(contentType.getType())
+                || MediaType.APPLICATION_PDF.equalsTypeAndSubtype(contentType);
+    }
+
+    private ContentDisposition resolveContentDisposition(String fileName, boolean inline) {
+        ContentDisposition.Builder builder = inline ? ContentDisposition.inline() : ContentDisposition.attachment();
+        return builder.filename(fileName, StandardCharsets.UTF_8).build();
+    }
+}
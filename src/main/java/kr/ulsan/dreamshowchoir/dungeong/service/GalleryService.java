@@ -2,6 +2,7 @@ package kr.ulsan.dreamshowchoir.dungeong.service;
 
 import jakarta.persistence.EntityNotFoundException;
 import kr.ulsan.dreamshowchoir.dungeong.domain.common.MediaType;
+import kr.ulsan.dreamshowchoir.dungeong.domain.common.UploadDirectory;
 import kr.ulsan.dreamshowchoir.dungeong.domain.gallery.Gallery;
 import kr.ulsan.dreamshowchoir.dungeong.domain.gallery.GalleryMedia;
 import kr.ulsan.dreamshowchoir.dungeong.domain.gallery.GalleryType;
@@ -10,11 +11,14 @@ import kr.ulsan.dreamshowchoir.dungeong.domain.gallery.repository.GalleryReposit
 import kr.ulsan.dreamshowchoir.dungeong.domain.user.Role;
 import kr.ulsan.dreamshowchoir.dungeong.domain.user.User;
 import kr.ulsan.dreamshowchoir.dungeong.domain.user.repository.UserRepository;
+import kr.ulsan.dreamshowchoir.dungeong.dto.common.CursorResponseDto;
 import kr.ulsan.dreamshowchoir.dungeong.dto.common.PageResponseDto;
 import kr.ulsan.dreamshowchoir.dungeong.dto.gallery.GalleryCreateRequestDto;
 import kr.ulsan.dreamshowchoir.dungeong.dto.gallery.GalleryListResponseDto;
 import kr.ulsan.dreamshowchoir.dungeong.dto.gallery.GalleryResponseDto;
 import kr.ulsan.dreamshowchoir.dungeong.dto.gallery.GalleryUpdateRequestDto;
+import kr.ulsan.dreamshowchoir.dungeong.dto.upload.VerifiedUploadDto;
+import kr.ulsan.dreamshowchoir.dungeong.util.CursorUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -22,10 +26,14 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 @Slf4j
 @Service
@@ -37,41 +45,69 @@ public class GalleryService {
     private final GalleryMediaRepository galleryMediaRepository;
     private final UserRepository userRepository;
     private final S3Service s3Service;
+    private final UploadService uploadService; // 직접 업로드(Presigned URL) 파일 확인
+    private final ImageVariantService imageVariantService; // 업로드 이미지 리사이즈 변환본 생성 (커밋 후 비동기)
+    private final ViewCountService viewCountService;
+    private final TransactionTemplate transactionTemplate; // S3 업로드 후 짧은 트랜잭션으로 DB 저장
 
     // ================== (생성) ==================
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // S3 업로드 동안 DB 커넥션을 점유하지 않도록 트랜잭션 밖에서 실행
     public GalleryResponseDto createGallery(GalleryCreateRequestDto requestDto, List<MultipartFile> files, Long userId) {
-        User author = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("해당 ID의 유저를 찾을 수 없습니다: " + userId));
 
-        // 갤러리 게시글 생성 및 저장
-        Gallery newGallery = requestDto.toEntity(author);
-        Gallery savedGallery = galleryRepository.save(newGallery);
+        // 미디어 파일 S3 업로드 (트랜잭션 밖, 타입 구분 로직 포함)
+        List<MultipartFile> mediaFiles = filterSupportedMedia(files);
+        List<String> mediaUrls = s3Service.uploadFiles(mediaFiles, "gallery");
+
+        // 짧은 트랜잭션으로 DB 저장 (실패 시 업로드한 미디어 삭제)
+        return s3Service.runWithCompensation(mediaUrls, () -> transactionTemplate.execute(status -> {
+            User author = userRepository.findById(userId)
+                    .orElseThrow(() -> new EntityNotFoundException("해당 ID의 유저를 찾을 수 없습니다: " + userId));
+
+            // 갤러리 게시글 생성 및 저장
+            Gallery newGallery = requestDto.toEntity(author);
+            Gallery savedGallery = galleryRepository.save(newGallery);
 
-        // 미디어 파일 업로드 및 저장 (타입 구분 로직 포함)
-        uploadMedia(files, savedGallery);
+            // 미디어 저장 및 썸네일/미디어 개수 반영 (저장한 목록을 그대로 사용, 재조회 없음)
+            List<GalleryMedia> mediaList = saveMedia(mediaFiles, mediaUrls, savedGallery);
+            savedGallery.updateMediaSummary(mediaList.isEmpty() ? null : mediaList.get(0).getThumbnailKey(), mediaList.size());
 
-        // 저장된 미디어 목록 조회 및 DTO 반환
-        List<GalleryMedia> mediaList = getMediaList(savedGallery);
-        return new GalleryResponseDto(savedGallery, mediaList);
+            return new GalleryResponseDto(savedGallery, mediaList);
+        }));
     }
 
     // ================== (조회) ==================
     @Transactional(readOnly = true)
     public PageResponseDto<GalleryListResponseDto> getGalleryList(GalleryType type, Pageable pageable) {
-        Page<Gallery> galleryPage;
-
         // Repository 쿼리에 정렬을 이미 하드코딩 해서, Pageable에서 정렬 정보는 제거하고 나머지만 남겨서 전달
         Pageable unsortedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
 
-        if (type != null) {
-            // Enum 객체 대신 .name()으로 문자열 변환해서 전달
-            galleryPage = galleryRepository.findByType(type.name(), unsortedPageable);
+        // Enum 객체 대신 .name()으로 문자열 변환해서 전달 (null이면 전체)
+        String typeStr = type != null ? type.name() : null;
+
+        // 생성자 프로젝션으로 목록 컬럼만 조회 (미디어 로딩 없음)
+        Page<GalleryListResponseDto> dtoPage = galleryRepository.findGalleryList(typeStr, unsortedPageable);
+        return new PageResponseDto<>(dtoPage);
+    }
+
+    // 커서(Keyset) 방식 목록 조회 (count 쿼리 없음)
+    @Transactional(readOnly = true)
+    public CursorResponseDto<GalleryListResponseDto> getGalleryListByCursor(GalleryType type, String cursor, Integer size) {
+        int pageSize = CursorUtil.normalizeSize(size);
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        String typeStr = type != null ? type.name() : null;
+
+        List<GalleryListResponseDto> galleries;
+        if (cursor == null || cursor.isBlank()) {
+            galleries = galleryRepository.findFirstPageList(typeStr, limit);
         } else {
-            galleryPage = galleryRepository.findAll(pageable);
+            CursorUtil.Cursor decoded = CursorUtil.decode(cursor);
+            galleries = galleryRepository.findNextPageList(typeStr, decoded.createdAt(), decoded.id(), limit);
         }
 
-        Page<GalleryListResponseDto> dtoPage = galleryPage.map(GalleryListResponseDto::new);
-        return new PageResponseDto<>(dtoPage);
+        return CursorResponseDto.of(galleries, pageSize, Function.identity(),
+                gallery -> CursorUtil.encode(gallery.getCreatedAt(), gallery.getGalleryId()));
     }
 
     // 상세조회
@@ -80,44 +116,109 @@ public class GalleryService {
         Gallery gallery = galleryRepository.findByIdWithUserAndMedia(galleryId)
                 .orElseThrow(() -> new EntityNotFoundException("해당 ID의 갤러리를 찾을 수 없습니다: " + galleryId));
 
-        // 미디어 목록 함께 조회
-        List<GalleryMedia> mediaList = getMediaList(gallery);
-        return new GalleryResponseDto(gallery, mediaList);
+        // 조회수 증가 (메모리 카운터, DB에는 주기적으로 일괄 반영)
+        viewCountService.increase(ViewCountService.Target.GALLERY, galleryId);
+
+        // 미디어는 Fetch Join으로 이미 로딩됨 (추가 조회 없음)
+        return new GalleryResponseDto(gallery, gallery.getGalleryMedia());
     }
 
     // ================== (수정) ==================
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // S3 업로드 동안 DB 커넥션을 점유하지 않도록 트랜잭션 밖에서 실행
     public GalleryResponseDto updateGallery(Long galleryId, GalleryUpdateRequestDto requestDto, List<MultipartFile> files, Long userId) {
-        Gallery gallery = galleryRepository.findByIdWithUserAndMedia(galleryId)
-                .orElseThrow(() -> new EntityNotFoundException("해당 ID의 갤러리를 찾을 수 없습니다: " + galleryId));
 
-        // 권한 검사
-        checkPermission(gallery, userId);
+        // 새 미디어 S3 업로드 (트랜잭션 밖)
+        List<MultipartFile> mediaFiles = filterSupportedMedia(files);
+        List<String> mediaUrls = s3Service.uploadFiles(mediaFiles, "gallery");
+
+        // 짧은 트랜잭션으로 DB 수정 (권한 없음 등으로 실패하면 업로드한 미디어 삭제)
+        return s3Service.runWithCompensation(mediaUrls, () -> transactionTemplate.execute(status -> {
+            Gallery gallery = galleryRepository.findByIdWithUserAndMedia(galleryId)
+                    .orElseThrow(() -> new EntityNotFoundException("해당 ID의 갤러리를 찾을 수 없습니다: " + galleryId));
+
+            // 권한 검사
+            checkPermission(gallery, userId);
+
+            // 텍스트 내용 수정
+            gallery.update(requestDto.getType(), requestDto.getTitle(), requestDto.getDescription());
+
+            // 기존 미디어 삭제 (DB 즉시, S3는 커밋 후)
+            List<Long> deleteMediaIds = requestDto.getDeleteMediaIds();
+            if (deleteMediaIds != null && !deleteMediaIds.isEmpty()) {
+                List<GalleryMedia> mediaToDelete = galleryMediaRepository.findAllById(deleteMediaIds);
+                List<String> fileKeysToDelete = new ArrayList<>();
+                for (GalleryMedia media : mediaToDelete) {
+                    // 본인 게시글의 미디어인지 확인
+                    if (media.getGallery().getGalleryId().equals(galleryId)) {
+                        fileKeysToDelete.addAll(media.getFileKeys()); // 원본 + 변환본
+                        gallery.getGalleryMedia().remove(media); // Fetch Join된 컬렉션에서도 제거 (cascade로 다시 저장되지 않도록)
+                        galleryMediaRepository.delete(media); // DB 물리 삭제
+                    }
+                }
+                s3Service.deleteFilesAfterCommit(fileKeysToDelete); // S3 물리 삭제 (커밋 후 한 번에)
+            }
+
+            // 새 미디어 저장
+            saveMedia(mediaFiles, mediaUrls, gallery);
+
+            // 변경사항 반영 및 최신 데이터 조회
+            galleryRepository.flush();
+            galleryMediaRepository.flush();
+            List<GalleryMedia> mediaList = getMediaList(gallery);
+
+            // 썸네일/미디어 개수 갱신 (미디어 추가/삭제 반영)
+            gallery.updateMediaSummary(mediaList.isEmpty() ? null : mediaList.get(0).getThumbnailKey(), mediaList.size());
 
-        // 텍스트 내용 수정
-        gallery.update(requestDto.getType(), requestDto.getTitle(), requestDto.getDescription());
-
-        // 기존 미디어 삭제 (S3 + DB)
-        List<Long> deleteMediaIds = requestDto.getDeleteMediaIds();
-        if (deleteMediaIds != null && !deleteMediaIds.isEmpty()) {
-            List<GalleryMedia> mediaToDelete = galleryMediaRepository.findAllById(deleteMediaIds);
-            for (GalleryMedia media : mediaToDelete) {
-                // 본인 게시글의 미디어인지 확인
-                if (media.getGallery().getGalleryId().equals(galleryId)) {
-                    s3Service.deleteFile(media.getFileKey()); // S3 물리 삭제
-                    galleryMediaRepository.delete(media); // DB 물리 삭제
+            return new GalleryResponseDto(gallery, mediaList);
+        }));
+    }
+
+    // ================== 직접 업로드 등록 (finalize) ==================
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // S3 HEAD 확인 동안 DB 커넥션을 점유하지 않도록 트랜잭션 밖에서 실행
+    public GalleryResponseDto attachUploadedMedia(Long galleryId, List<String> fileKeys, Long userId) {
+
+        // 업로드된 파일 확인 (트랜잭션 밖, 이미지/동영상만 통과)
+        List<VerifiedUploadDto> uploads = uploadService.verifyUploads(UploadDirectory.GALLERY, fileKeys, userId);
+
+        // 짧은 트랜잭션으로 DB 저장
+        // (실패해도 S3 파일은 삭제하지 않음 - 같은 Key로 재시도할 수 있고, 미등록 파일은 정리 대상)
+        return transactionTemplate.execute(status -> {
+            Gallery gallery = galleryRepository.findByIdWithUserAndMedia(galleryId)
+                    .orElseThrow(() -> new EntityNotFoundException("해당 ID의 갤러리를 찾을 수 없습니다: " + galleryId));
+
+            // 권한 검사
+            checkPermission(gallery, userId);
+
+            List<GalleryMedia> mediaList = new ArrayList<>(uploads.size());
+            for (VerifiedUploadDto upload : uploads) {
+                mediaList.add(GalleryMedia.builder()
+                        .gallery(gallery)
+                        .fileKey(upload.getFileUrl())
+                        .fileName(upload.getFileName())
+                        .mediaType(determineMediaType(upload.getContentType()))
+                        .fileSize(upload.getFileSize())
+                        .build());
+            }
+            List<GalleryMedia> savedMedia = galleryMediaRepository.saveAll(mediaList);
+
+            // 커밋 후 리사이즈 변환본 생성 요청 (변환 가능한 이미지만, 동영상 제외)
+            for (int i = 0; i < savedMedia.size(); i++) {
+                if (imageVariantService.isSupported(uploads.get(i).getContentType())) {
+                    GalleryMedia media = savedMedia.get(i);
+                    imageVariantService.generateAfterCommit(ImageVariantService.Target.GALLERY_MEDIA,
+                            media.getMediaId(), gallery.getGalleryId(), media.getFileKey());
                 }
             }
-        }
 
-        // 새 미디어 업로드 및 저장
-        uploadMedia(files, gallery);
+            // 변경사항 반영 및 최신 데이터 조회
+            galleryMediaRepository.flush();
+            List<GalleryMedia> allMedia = getMediaList(gallery);
 
-        // 변경사항 반영 및 최신 데이터 조회
-        galleryRepository.flush();
-        galleryMediaRepository.flush();
-        List<GalleryMedia> mediaList = getMediaList(gallery);
+            // 썸네일/미디어 개수 갱신
+            gallery.updateMediaSummary(allMedia.isEmpty() ? null : allMedia.get(0).getThumbnailKey(), allMedia.size());
 
-        return new GalleryResponseDto(gallery, mediaList);
+            return new GalleryResponseDto(gallery, allMedia);
+        });
     }
 
     // ================== 삭제 ==================
@@ -146,42 +247,67 @@ public class GalleryService {
         }
     }
 
-    // 미디어 목록 조회 헬퍼
+    // 미디어 목록 조회 헬퍼 (등록순)
     private List<GalleryMedia> getMediaList(Gallery gallery) {
-        return galleryMediaRepository.findAllByGallery(gallery);
+        return galleryMediaRepository.findAllByGalleryOrderByCreatedAtAscMediaIdAsc(gallery);
     }
 
-    // 미디어 업로드 및 저장 헬퍼
-    private void uploadMedia(List<MultipartFile> files, Gallery gallery) {
-        if (files != null && !files.isEmpty()) {
-            for (MultipartFile file : files) {
-                // 파일 타입 판별 (IMAGE 또는 VIDEO)
-                MediaType mediaType = determineMediaType(file);
-                if (mediaType == null) {
-                    log.warn("지원하지 않는 파일 형식입니다. 업로드를 건너뜁니다: {}", file.getOriginalFilename());
-                    continue; // 지원하지 않는 타입은 건너뜀
-                }
+    // 업로드 가능한 미디어만 추림 (IMAGE 또는 VIDEO, 지원하지 않는 타입은 건너뜀)
+    private List<MultipartFile> filterSupportedMedia(List<MultipartFile> files) {
+        if (files == null || files.isEmpty()) {
+            return List.of();
+        }
 
-                // S3 업로드 (폴더명: "gallery")
-                String mediaUrl = s3Service.uploadFile(file, "gallery");
+        List<MultipartFile> supportedFiles = new ArrayList<>(files.size());
+        for (MultipartFile file : files) {
+            if (determineMediaType(file) == null) {
+                log.warn("지원하지 않는 파일 형식입니다. 업로드를 건너뜁니다: {}", file.getOriginalFilename());
+                continue;
+            }
+            supportedFiles.add(file);
+        }
+        return supportedFiles;
+    }
 
-                // DB 저장
-                GalleryMedia galleryMedia = GalleryMedia.builder()
-                        .gallery(gallery)
-                        .fileKey(mediaUrl)
-                        .fileName(file.getOriginalFilename())
-                        .mediaType(mediaType)
-                        .fileSize(file.getSize())
-                        .build();
-                galleryMediaRepository.save(galleryMedia);
+    // 미디어 저장 헬퍼 (S3 업로드가 끝난 URL로 GalleryMedia 저장, 저장한 목록 반환)
+    private List<GalleryMedia> saveMedia(List<MultipartFile> mediaFiles, List<String> mediaUrls, Gallery gallery) {
+        if (mediaUrls.isEmpty()) {
+            return List.of();
+        }
+
+        List<GalleryMedia> mediaList = new ArrayList<>(mediaFiles.size());
+        for (int i = 0; i < mediaFiles.size(); i++) {
+            MultipartFile file = mediaFiles.get(i);
+            mediaList.add(GalleryMedia.builder()
+                    .gallery(gallery)
+                    .fileKey(mediaUrls.get(i))
+                    .fileName(file.getOriginalFilename())
+                    .mediaType(determineMediaType(file))
+                    .fileSize(file.getSize())
+                    .build());
+        }
+
+        // DB 일괄 저장
+        List<GalleryMedia> savedMedia = galleryMediaRepository.saveAll(mediaList);
+
+        // 커밋 후 리사이즈 변환본 생성 요청 (변환 가능한 이미지만, 동영상 제외)
+        for (int i = 0; i < savedMedia.size(); i++) {
+            if (imageVariantService.isSupported(mediaFiles.get(i).getContentType())) {
+                GalleryMedia media = savedMedia.get(i);
+                imageVariantService.generateAfterCommit(ImageVariantService.Target.GALLERY_MEDIA,
+                        media.getMediaId(), gallery.getGalleryId(), media.getFileKey());
             }
         }
+        return savedMedia;
     }
 
     // 파일 타입 판별 로직
     private MediaType determineMediaType(MultipartFile file) {
         // 파일의 MIME Type (예: "image/jpeg", "video/mp4")을 확인
-        String contentType = file.getContentType();
+        return determineMediaType(file.getContentType());
+    }
+
+    private MediaType determineMediaType(String contentType) {
         if (contentType == null) {
             return null;
         }
@@ -1,6 +1,7 @@
 package kr.ulsan.dreamshowchoir.dungeong.service;
 
 import jakarta.persistence.EntityNotFoundException;
+import kr.ulsan.dreamshowchoir.dungeong.domain.common.ContentVersion;
 import kr.ulsan.dreamshowchoir.dungeong.domain.info.History;
 import kr.ulsan.dreamshowchoir.dungeong.domain.info.repository.HistoryRepository;
 import kr.ulsan.dreamshowchoir.dungeong.dto.history.HistoryCreateRequestDto;
@@ -43,6 +44,14 @@ public class HistoryService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 연혁 목록 버전 정보 조회 (조건부 GET용, 연혁 목록을 조회하지 않음)
+     */
+    @Transactional(readOnly = true)
+    public ContentVersion getHistoryListVersion() {
+        return historyRepository.findVersion();
+    }
+
     /**
      * 연혁 수정 (ADMIN 전용)
      */
@@ -0,0 +1,408 @@
+package kr.ulsan.dreamshowchoir.dungeong.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.ulsan.dreamshowchoir.dungeong.config.CacheConfig;
+import kr.ulsan.dreamshowchoir.dungeong.domain.banner.repository.BannerRepository;
+import kr.ulsan.dreamshowchoir.dungeong.domain.common.ImageVariants;
+import kr.ulsan.dreamshowchoir.dungeong.domain.gallery.repository.GalleryMediaRepository;
+import kr.ulsan.dreamshowchoir.dungeong.domain.gallery.repository.GalleryRepository;
+import kr.ulsan.dreamshowchoir.dungeong.domain.notice.repository.NoticeImageRepository;
+import kr.ulsan.dreamshowchoir.dungeong.domain.post.repository.PostImageRepository;
+import kr.ulsan.dreamshowchoir.dungeong.service.storage.StorageObjectInfo;
+import kr.ulsan.dreamshowchoir.dungeong.util.ImageOrientationUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 업로드 이미지 변환본(리사이즈 JPEG) 생성
+ * - 업로드 트랜잭션이 커밋된 뒤 전용 스레드 풀에서 원본을 스트림으로 읽어 320/800/1600px 폭으로 줄인 JPEG를 생성
+ * - 원본 크기(HEAD)와 픽셀 수(헤더)를 디코딩 전에 확인하고, 가장 큰 변환본에 필요한 만큼만 건너뛰며(subsampling) 디코딩
+ *   (큰 사진이나 압축 폭탄 PNG가 힙을 고갈시키지 않도록)
+ * - 생성한 URL을 엔티티(VARIANT_KEYS)에 저장하고, 상세 캐시를 비움
+ * - 실패하면 변환본 없이 원본만 사용 (응답/업로드 흐름에는 영향 없음), 큐가 가득 차서 거절된 작업은 재시도 대기열에서 다시 등록
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageVariantService {
+
+    // 생성할 변환본 폭 (원본보다 큰 폭은 만들지 않음)
+    private static final int[] VARIANT_WIDTHS = {320, 800, 1600};
+    private static final int MAX_VARIANT_WIDTH = VARIANT_WIDTHS[VARIANT_WIDTHS.length - 1];
+    private static final float JPEG_QUALITY = 0.8f;
+
+    // EXIF Orientation을 찾기 위해 미리 읽어둘 앞부분 (APP0 + APP1 세그먼트는 각각 최대 64KB)
+    private static final int EXIF_SCAN_BYTES = 128 * 1024;
+
+    // 변환 가능한 원본 형식 (JDK ImageIO 기본 지원, 애니메이션 GIF 등은 제외)
+    private static final Set<String> SUPPORTED_CONTENT_TYPES = Set.of("image/jpeg", "image/png", "image/bmp");
+
+    /**
+     * 변환본을 저장할 대상 (ownerId: 게시글/공지사항/갤러리 ID)
+     */
+    public enum Target {
+        POST_IMAGE, NOTICE_IMAGE, GALLERY_MEDIA, BANNER
+    }
+
+    private final S3Service s3Service;
+    private final PostImageRepository postImageRepository;
+    private final NoticeImageRepository noticeImageRepository;
+    private final GalleryMediaRepository galleryMediaRepository;
+    private final GalleryRepository galleryRepository;
+    private final BannerRepository bannerRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheManager cacheManager;
+
+    // 동시에 변환할 이미지 수 (디코딩한 원본이 메모리를 많이 차지하므로 작게 유지)
+    @Value("${image.variant.parallelism:2}")
+    private int parallelism;
+
+    @Value("${image.variant.queue-capacity:200}")
+    private int queueCapacity;
+
+    // 이보다 큰 원본은 변환하지 않음 (갤러리는 200MB까지 업로드 가능)
+    @Value("${image.variant.max-original-size:50MB}")
+    private DataSize maxOriginalSize;
+
+    // 이보다 픽셀이 많은 원본은 디코딩하지 않음 (압축 폭탄 방지, 헤더만 읽고 판단)
+    @Value("${image.variant.max-pixels:100000000}")
+    private long maxPixels;
+
+    private ThreadPoolTaskExecutor variantExecutor;
+
+    // 큐가 가득 차서 거절된 작업 (주기적으로 다시 등록, 이것도 가득 차면 로그로만 남김)
+    private BlockingDeque<VariantJob> rejectedJobs;
+
+    private record VariantJob(Target target, Long id, Long ownerId, String originalUrl) {
+    }
+
+    @PostConstruct
+    public void initVariantExecutor() {
+        variantExecutor = new ThreadPoolTaskExecutor();
+        variantExecutor.setCorePoolSize(parallelism);
+        variantExecutor.setMaxPoolSize(parallelism);
+        variantExecutor.setQueueCapacity(queueCapacity);
+        // 큐가 가득 차면 거절 (요청 스레드에서 변환하지 않음, 해당 이미지는 원본만 사용)
+        variantExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        variantExecutor.setThreadNamePrefix("image-variant-");
+        variantExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        variantExecutor.setAwaitTerminationSeconds(30);
+        variantExecutor.initialize();
+        rejectedJobs = new LinkedBlockingDeque<>(queueCapacity);
+    }
+
+    @PreDestroy
+    public void shutdownVariantExecutor() {
+        variantExecutor.shutdown();
+    }
+
+    /**
+     * 변환 가능한 이미지인지 확인 (Content-Type 기준)
+     */
+    public boolean isSupported(String contentType) {
+        return contentType != null && SUPPORTED_CONTENT_TYPES.contains(contentType.toLowerCase());
+    }
+
+    /**
+     * 변환본 생성 요청 (트랜잭션 안이면 커밋 후, 아니면 바로 작업 큐에 등록)
+     *
+     * @param target      변환본을 저장할 엔티티 종류
+     * @param id          엔티티 ID (PostImage.imageId 등)
+     * @param ownerId     상세 캐시를 비울 게시글/공지사항 ID, 썸네일을 바꿀 갤러리 ID (없으면 null)
+     * @param originalUrl 원본 이미지 URL
+     */
+    public void generateAfterCommit(Target target, Long id, Long ownerId, String originalUrl) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(target, id, ownerId, originalUrl);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submit(target, id, ownerId, originalUrl);
+            }
+        });
+    }
+
+    private void submit(Target target, Long id, Long ownerId, String originalUrl) {
+        VariantJob job = new VariantJob(target, id, ownerId, originalUrl);
+        if (!tryExecute(job) && !rejectedJobs.offerLast(job)) {
+            // 재시도 대기열까지 가득 참 -> 다시 등록할 수 있도록 작업 정보를 남김
+            log.error("이미지 변환 작업을 등록하지 못했습니다. 재등록 필요 ({} ID: {}, 소유자 ID: {}, 원본: {})",
+                    target, id, ownerId, originalUrl);
+        }
+    }
+
+    private boolean tryExecute(VariantJob job) {
+        try {
+            variantExecutor.execute(() -> generate(job.target(), job.id(), job.ownerId(), job.originalUrl()));
+            return true;
+        } catch (TaskRejectedException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 거절된 변환 작업 재등록 (작업 큐에 자리가 나는 만큼만, 다시 거절되면 다음 주기에)
+     */
+    @Scheduled(fixedDelayString = "${image.variant.retry-interval-ms:60000}")
+    public void retryRejectedJobs() {
+        VariantJob job;
+        while ((job = rejectedJobs.pollFirst()) != null) {
+            if (!tryExecute(job)) {
+                rejectedJobs.offerFirst(job);
+                log.warn("이미지 변환 작업 큐가 가득 차서 재등록을 미룹니다 (대기 {}개)", rejectedJobs.size());
+                return;
+            }
+        }
+    }
+
+    /**
+     * 변환본 생성 및 저장 (작업 스레드에서 실행)
+     */
+    private void generate(Target target, Long id, Long ownerId, String originalUrl) {
+        List<String> uploadedUrls = new ArrayList<>();
+        try {
+            String originalKey = s3Service.toS3Key(originalUrl);
+            Optional<StorageObjectInfo> info = s3Service.headObject(originalKey);
+            if (info.isEmpty()) {
+                log.info("원본 이미지가 없어 변환하지 않습니다 ({} ID: {})", target, id);
+                return;
+            }
+            if (info.get().contentLength() > maxOriginalSize.toBytes()) {
+                log.info("원본 이미지가 너무 커서 변환하지 않습니다 ({} ID: {}, {} bytes)", target, id, info.get().contentLength());
+                return;
+            }
+
+            BufferedImage original = decode(target, id, originalKey);
+            if (original == null) {
+                return;
+            }
+
+            // 폭별 리사이즈 JPEG 생성 및 업로드 (원본보다 작은 폭만, 원본이 작으면 원본 크기로 압축본 1개)
+            String variantPrefix = variantPrefix(originalUrl);
+            Map<Integer, String> urlsByWidth = new TreeMap<>();
+            for (int targetWidth : VARIANT_WIDTHS) {
+                int width = Math.min(targetWidth, original.getWidth());
+                if (urlsByWidth.containsKey(width)) {
+                    continue;
+                }
+                byte[] jpeg = encodeJpeg(resize(original, width));
+                String url = s3Service.uploadBytes(jpeg, variantPrefix + "-w" + width + ".jpg", "image/jpeg");
+                uploadedUrls.add(url);
+                urlsByWidth.put(width, url);
+            }
+
+            ImageVariants variants = ImageVariants.of(urlsByWidth);
+            Integer updated = transactionTemplate.execute(status -> saveVariants(target, id, ownerId, originalUrl, variants));
+
+            if (updated == null || updated == 0) {
+                // 변환하는 동안 이미지가 삭제/교체됨 -> 생성한 변환본 정리
+                s3Service.deleteFiles(uploadedUrls);
+                return;
+            }
+
+            evictDetailCache(target, ownerId);
+            log.info("이미지 변환본 {}개 생성 ({} ID: {})", urlsByWidth.size(), target, id);
+
+        } catch (Exception e) {
+            log.error("이미지 변환본 생성 실패 ({} ID: {}): {}", target, id, e.getMessage());
+            s3Service.deleteFiles(uploadedUrls);
+        }
+    }
+
+    /**
+     * 원본을 스트림으로 읽어 디코딩 (EXIF 회전 반영, 변환할 수 없거나 픽셀 제한을 넘으면 null)
+     * - 헤더에서 폭/높이만 먼저 읽어 픽셀 수를 확인한 뒤 디코딩
+     * - 회전 후 폭이 가장 큰 변환본 폭 이상으로 남는 범위에서 N픽셀마다 1픽셀만 읽음 (디코딩 결과 크기를 제한)
+     */
+    private BufferedImage decode(Target target, Long id, String originalKey) throws IOException {
+        try (InputStream in = new BufferedInputStream(s3Service.openObjectStream(originalKey, null, null, null), EXIF_SCAN_BYTES)) {
+            // 앞부분에서 EXIF Orientation을 읽고 되감기
+            in.mark(EXIF_SCAN_BYTES);
+            int orientation = ImageOrientationUtil.read(in.readNBytes(EXIF_SCAN_BYTES));
+            in.reset();
+
+            try (ImageInputStream imageIn = ImageIO.createImageInputStream(in)) {
+                Iterator<ImageReader> readers = imageIn == null ? null : ImageIO.getImageReaders(imageIn);
+                if (readers == null || !readers.hasNext()) {
+                    log.info("변환할 수 없는 이미지 형식입니다 ({} ID: {})", target, id);
+                    return null;
+                }
+
+                ImageReader reader = readers.next();
+                try {
+                    reader.setInput(imageIn, true, true);
+                    int width = reader.getWidth(0);
+                    int height = reader.getHeight(0);
+                    if ((long) width * height > maxPixels) {
+                        log.info("원본 이미지 픽셀 수가 너무 많아 변환하지 않습니다 ({} ID: {}, {}x{})", target, id, width, height);
+                        return null;
+                    }
+
+                    // Orientation 5~8은 90도 회전 -> 회전 후 폭은 원본 높이
+                    int orientedWidth = orientation >= 5 ? height : width;
+                    int subsampling = Math.max(1, orientedWidth / MAX_VARIANT_WIDTH);
+                    ImageReadParam param = reader.getDefaultReadParam();
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+                    BufferedImage image = reader.read(0, param);
+                    return ImageOrientationUtil.apply(image, orientation); // EXIF 회전 반영
+                } finally {
+                    reader.dispose();
+                }
+            }
+        }
+    }
+
+    private int saveVariants(Target target, Long id, Long ownerId, String originalUrl, ImageVariants variants) {
+        return switch (target) {
+            case POST_IMAGE -> postImageRepository.updateVariants(id, originalUrl, variants);
+            case NOTICE_IMAGE -> noticeImageRepository.updateVariants(id, originalUrl, variants);
+            case GALLERY_MEDIA -> {
+                int updated = galleryMediaRepository.updateVariants(id, originalUrl, variants);
+                // 이 미디어가 갤러리 썸네일이면 가장 작은 변환본으로 교체 (목록 전송량 감소)
+                if (updated > 0 && ownerId != null) {
+                    galleryRepository.updateThumbnailKey(ownerId, originalUrl, variants.getSmallestUrl());
+                }
+                yield updated;
+            }
+            case BANNER -> bannerRepository.updateVariants(id, originalUrl, variants, LocalDateTime.now());
+        };
+    }
+
+    // 상세 캐시에 변환본 없는 응답이 남아있지 않도록 비움
+    private void evictDetailCache(Target target, Long ownerId) {
+        String cacheName = switch (target) {
+            case POST_IMAGE -> CacheConfig.POST_DETAIL;
+            case NOTICE_IMAGE -> CacheConfig.NOTICE_DETAIL;
+            default -> null;
+        };
+        if (cacheName == null || ownerId == null) {
+            return;
+        }
+
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(ownerId);
+        }
+    }
+
+    // 변환본 Key 접두어: 원본과 같은 폴더의 variants 하위 (원본 파일명은 쓰지 않음, 예: "post/variants/uuid")
+    private String variantPrefix(String originalUrl) {
+        String originalKey = s3Service.toS3Key(originalUrl);
+        int slash = originalKey.lastIndexOf('/');
+        String dirName = slash > 0 ? originalKey.substring(0, slash) : "images";
+        return dirName + "/variants/" + UUID.randomUUID();
+    }
+
+    /**
+     * 지정한 폭으로 축소 (비율 유지)
+     * 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 단계적으로 줄인 뒤 마지막에 목표 크기로 맞춤
+     */
+    private BufferedImage resize(BufferedImage source, int targetWidth) {
+        int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+
+        BufferedImage current = toRgb(source);
+        int width = current.getWidth();
+        int height = current.getHeight();
+
+        while (width / 2 >= targetWidth) {
+            width /= 2;
+            height = Math.max(1, height / 2);
+            current = draw(current, width, height);
+        }
+        if (width != targetWidth) {
+            current = draw(current, targetWidth, targetHeight);
+        }
+        return current;
+    }
+
+    private BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    // JPEG는 알파 채널이 없으므로 투명 영역은 흰색 배경으로 채움
+    private BufferedImage toRgb(BufferedImage source) {
+        if (source.getType() == BufferedImage.TYPE_INT_RGB) {
+            return source;
+        }
+        BufferedImage rgb = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = rgb.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, source.getWidth(), source.getHeight());
+            g.drawImage(source, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+        return rgb;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT); // 점진적 JPEG (저속 회선에서 먼저 흐리게 표시)
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
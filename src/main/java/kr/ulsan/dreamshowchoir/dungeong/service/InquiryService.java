@@ -22,7 +22,7 @@ public class InquiryService {
     private final InquiryRepository inquiryRepository;
     private final RecaptchaService recaptchaService;
     private final NotificationService notificationService;
-    private final EmailService emailService;
+    private final OutboxService outboxService;
 
     /**
      * 문의 생성 (비로그인 사용자)
@@ -89,11 +89,11 @@ public class InquiryService {
         // 엔티티 헬퍼 메소드로 답변 추가 (Status -> ANSWERED, answeredAt 갱신)
         inquiry.addAnswer(requestDto.getAnswer());
 
-        // 이메일 발송
+        // 이메일 발송 (아웃박스에 함께 저장, 커밋 후 디스패처가 발송)
         String emailSubject = "[드림쇼콰이어] 문의하신 내용에 대한 답변이 등록되었습니다.";
         String emailContent = createEmailContent(inquiry.getName(), inquiry.getContent(), requestDto.getAnswer());
 
-        emailService.sendEmail(inquiry.getEmail(), emailSubject, emailContent);
+        outboxService.enqueueEmail(inquiry.getEmail(), emailSubject, emailContent);
 
         return new InquiryResponseDto(inquiry);
     }
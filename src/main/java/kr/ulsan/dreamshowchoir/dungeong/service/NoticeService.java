@@ -1,6 +1,8 @@
 package kr.ulsan.dreamshowchoir.dungeong.service;
 
 import jakarta.persistence.EntityNotFoundException;
+import kr.ulsan.dreamshowchoir.dungeong.config.CacheConfig;
+import kr.ulsan.dreamshowchoir.dungeong.domain.common.SearchHit;
 import kr.ulsan.dreamshowchoir.dungeong.domain.notice.Notice;
 import kr.ulsan.dreamshowchoir.dungeong.domain.notice.NoticeImage;
 import kr.ulsan.dreamshowchoir.dungeong.domain.notice.repository.NoticeImageRepository;
@@ -8,21 +10,34 @@ import kr.ulsan.dreamshowchoir.dungeong.domain.notice.repository.NoticeRepositor
 import kr.ulsan.dreamshowchoir.dungeong.domain.user.Role;
 import kr.ulsan.dreamshowchoir.dungeong.domain.user.User;
 import kr.ulsan.dreamshowchoir.dungeong.domain.user.repository.UserRepository;
+import kr.ulsan.dreamshowchoir.dungeong.dto.common.CursorResponseDto;
 import kr.ulsan.dreamshowchoir.dungeong.dto.common.PageResponseDto;
 import kr.ulsan.dreamshowchoir.dungeong.dto.notice.NoticeCreateRequestDto;
 import kr.ulsan.dreamshowchoir.dungeong.dto.notice.NoticeListResponseDto;
 import kr.ulsan.dreamshowchoir.dungeong.dto.notice.NoticeResponseDto;
 import kr.ulsan.dreamshowchoir.dungeong.dto.notice.NoticeUpdateRequestDto;
+import kr.ulsan.dreamshowchoir.dungeong.util.CursorUtil;
+import kr.ulsan.dreamshowchoir.dungeong.util.SearchUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.awt.*;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -33,6 +48,10 @@ public class NoticeService {
     private final UserRepository userRepository;
     private final NoticeImageRepository noticeImageRepository;
     private final S3Service s3Service;
+    private final ImageVariantService imageVariantService; // 업로드 이미지 리사이즈 변환본 생성 (커밋 후 비동기)
+    private final ViewCountService viewCountService;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transactionTemplate; // S3 업로드 후 짧은 트랜잭션으로 DB 저장
 
     /**
      * (공통 메소드) 해당 유저가 ADMIN인지 확인하는 헬퍼 메소드
@@ -55,24 +74,32 @@ public class NoticeService {
      * @param userId     현재 인증된 사용자의 ID (JWT 토큰에서 추출)
      * @return 생성된 공지사항의 상세 정보 DTO
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // S3 업로드 동안 DB 커넥션을 점유하지 않도록 트랜잭션 밖에서 실행
     public NoticeResponseDto createNotice(NoticeCreateRequestDto requestDto, List<MultipartFile> files, Long userId) {
 
-        // 작성자(User) 엔티티를 DB에서 조회
-        User author = checkAdminAuthority(userId);
+        // S3에 이미지 업로드 (트랜잭션 밖, 폴더명: "notice")
+        List<String> imageKeys = s3Service.uploadFiles(files, "notice");
 
-        // DTO의 toEntity() 헬퍼 메소드를 사용해 Notice 엔티티를 생성
-        Notice newNotice = requestDto.toEntity(author);
+        // 짧은 트랜잭션으로 DB 저장 (실패 시 업로드한 이미지 삭제)
+        return s3Service.runWithCompensation(imageKeys, () -> transactionTemplate.execute(status -> {
 
-        // Repository를 통해 엔티티를 DB에 저장
-        Notice savedNotice = noticeRepository.save(newNotice);
+            // 작성자(User) 엔티티를 DB에서 조회
+            User author = checkAdminAuthority(userId);
 
-        // 이미지 업로드 및 저장
-        uploadImages(files, savedNotice);
+            // DTO의 toEntity() 헬퍼 메소드를 사용해 Notice 엔티티를 생성
+            Notice newNotice = requestDto.toEntity(author);
 
-        noticeImageRepository.flush();
+            // Repository를 통해 엔티티를 DB에 저장
+            Notice savedNotice = noticeRepository.save(newNotice);
 
-        // 저장된 엔티티를 Response DTO로 변환하여 컨트롤러에 반환
-        return new NoticeResponseDto(savedNotice);
+            // 이미지 저장
+            saveImages(files, imageKeys, savedNotice);
+
+            noticeImageRepository.flush();
+
+            // 저장된 엔티티를 Response DTO로 변환하여 컨트롤러에 반환
+            return new NoticeResponseDto(savedNotice);
+        }));
     }
 
 
@@ -85,32 +112,116 @@ public class NoticeService {
     @Transactional(readOnly = true)
     public PageResponseDto<NoticeListResponseDto> getNoticeList(Pageable pageable) {
 
-        // Repository에서 Fetch Join이 적용된 쿼리 호출
-        Page<Notice> noticePage = noticeRepository.findAllWithUser(pageable);
-
-        // Page<Notice> (엔티티) -> Page<NoticeListResponseDto> (DTO) 변환
-        Page<NoticeListResponseDto> dtoPage = noticePage.map(NoticeListResponseDto::new);
+        // 생성자 프로젝션 쿼리 호출 (목록에 필요한 컬럼만 DTO로 바로 조회)
+        Page<NoticeListResponseDto> dtoPage = noticeRepository.findNoticeList(pageable);
 
         // PageResponseDto(범용 DTO)로 감싸서 반환
         return new PageResponseDto<>(dtoPage);
     }
 
 
+    /**
+     * 공지사항 목록을 커서(Keyset) 방식으로 조회 (MEMBER 이상)
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size   페이지 크기
+     * @return 커서 정보와 공지사항 목록 DTO
+     */
+    @Transactional(readOnly = true)
+    public CursorResponseDto<NoticeListResponseDto> getNoticeListByCursor(String cursor, Integer size) {
+
+        int pageSize = CursorUtil.normalizeSize(size);
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<NoticeListResponseDto> notices;
+        if (cursor == null || cursor.isBlank()) {
+            notices = noticeRepository.findFirstPageList(limit);
+        } else {
+            CursorUtil.Cursor decoded = CursorUtil.decode(cursor);
+            notices = noticeRepository.findNextPageList(decoded.createdAt(), decoded.id(), limit);
+        }
+
+        return CursorResponseDto.of(notices, pageSize, Function.identity(),
+                notice -> CursorUtil.encode(notice.getCreatedAt(), notice.getNoticeId()));
+    }
+
+
+    /**
+     * 공지사항 전문 검색 (제목 + 본문, MEMBER 이상)
+     * 관련도 점수 내림차순으로 정렬하며, (score, noticeId) 커서로 다음 페이지 조회
+     *
+     * @param keyword 검색어
+     * @param cursor  이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size    페이지 크기
+     * @return 커서 정보와 검색된 공지사항 목록 DTO
+     */
+    @Transactional(readOnly = true)
+    public CursorResponseDto<NoticeListResponseDto> searchNotices(String keyword, String cursor, Integer size) {
+
+        String normalized = SearchUtil.normalizeKeyword(keyword);
+        String pattern = SearchUtil.toContainsPattern(normalized);
+        int pageSize = CursorUtil.normalizeSize(size);
+
+        // 1. DB에서 ID와 관련도 점수만 조회 (다음 페이지 존재 여부 확인을 위해 1개 더 조회)
+        List<SearchHit> hits;
+        if (cursor == null || cursor.isBlank()) {
+            hits = noticeRepository.searchFirstPage(normalized, pattern, pageSize + 1);
+        } else {
+            CursorUtil.ScoreCursor decoded = CursorUtil.decodeScore(cursor);
+            hits = noticeRepository.searchNextPage(normalized, pattern, decoded.score(), decoded.id(), pageSize + 1);
+        }
+
+        boolean hasNext = hits.size() > pageSize;
+        List<SearchHit> pageHits = hasNext ? hits.subList(0, pageSize) : hits;
+        if (pageHits.isEmpty()) {
+            return new CursorResponseDto<>(List.of(), pageSize, false, null);
+        }
+
+        // 2. 해당 ID들의 목록 DTO 조회 후, 관련도 순서대로 재정렬
+        List<Long> ids = pageHits.stream().map(SearchHit::getId).toList();
+        Map<Long, NoticeListResponseDto> dtoMap = noticeRepository.findListByIds(ids).stream()
+                .collect(Collectors.toMap(NoticeListResponseDto::getNoticeId, Function.identity()));
+
+        List<NoticeListResponseDto> content = pageHits.stream()
+                .map(hit -> dtoMap.get(hit.getId()))
+                .filter(Objects::nonNull)
+                .toList();
+
+        SearchHit last = pageHits.get(pageHits.size() - 1);
+        String nextCursor = hasNext ? CursorUtil.encodeScore(last.getScore(), last.getId()) : null;
+
+        return new CursorResponseDto<>(content, pageSize, hasNext, nextCursor);
+    }
+
     /**
      * 공지사항 상세 조회 (MEMBER 이상)
      *
      * @param noticeId 조회할 공지사항의 ID
      * @return 공지사항 상세 정보 DTO
      */
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS) // 캐시 히트 시 트랜잭션(DB 커넥션) 없이 응답
     public NoticeResponseDto getNoticeDetail(Long noticeId) {
 
-        // Repository에서 Fetch Join 쿼리(findByIdWithUser)를 호출
-        Notice notice = noticeRepository.findByIdWithUser(noticeId)
-                .orElseThrow(() -> new EntityNotFoundException("해당 ID의 공지사항을 찾을 수 없습니다: " + noticeId));
+        // 캐시에서 먼저 조회
+        Cache cache = getNoticeDetailCache();
+        NoticeResponseDto noticeDetail = cache.get(noticeId, NoticeResponseDto.class);
+
+        if (noticeDetail == null) {
+            // 캐시 미스: Repository에서 Fetch Join 쿼리(findByIdWithUser)를 호출
+            Notice notice = noticeRepository.findByIdWithUser(noticeId)
+                    .orElseThrow(() -> new EntityNotFoundException("해당 ID의 공지사항을 찾을 수 없습니다: " + noticeId));
+
+            // Notice 엔티티를 NoticeResponseDto(상세 DTO)로 변환하여 캐시에 저장
+            noticeDetail = new NoticeResponseDto(notice);
+            cache.put(noticeId, noticeDetail);
+        }
+
+        // 조회수 증가 (캐시 히트여도 증가, DB에는 주기적으로 일괄 반영)
+        viewCountService.increase(ViewCountService.Target.NOTICE, noticeId);
 
-        // Notice 엔티티를 NoticeResponseDto(상세 DTO)로 변환하여 반환
-        return new NoticeResponseDto(notice);
+        return noticeDetail;
     }
 
     /**
@@ -121,42 +232,54 @@ public class NoticeService {
      * @param files      새로 추가할 이미지 파일 리스트
      * @return 수정된 공지사항의 상세 정보 DTO
      */
+    @CacheEvict(cacheNames = CacheConfig.NOTICE_DETAIL, key = "#noticeId") // DB 저장 후 상세 캐시 삭제
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // S3 업로드 동안 DB 커넥션을 점유하지 않도록 트랜잭션 밖에서 실행
     public NoticeResponseDto updateNotice(Long noticeId, NoticeUpdateRequestDto requestDto, List<MultipartFile> files) {
 
-        // 공지사항 조회
-        Notice notice = noticeRepository.findById(noticeId)
-                .orElseThrow(() -> new EntityNotFoundException("해당 ID의 공지사항을 찾을 수 없습니다: " + noticeId));
+        // 새 이미지 S3 업로드 (트랜잭션 밖, 폴더명: "notice")
+        List<String> imageKeys = s3Service.uploadFiles(files, "notice");
+
+        // 짧은 트랜잭션으로 DB 수정 (실패 시 업로드한 이미지 삭제)
+        return s3Service.runWithCompensation(imageKeys, () -> transactionTemplate.execute(status -> {
 
-        // 엔티티 내용 변경
-        notice.update(requestDto.getTitle(), requestDto.getContent());
+            // 공지사항 조회
+            Notice notice = noticeRepository.findById(noticeId)
+                    .orElseThrow(() -> new EntityNotFoundException("해당 ID의 공지사항을 찾을 수 없습니다: " + noticeId));
 
-        // 기존 이미지 삭제 로직
-        List<Long> deleteImageIds = requestDto.getDeleteImageIds();
-        if (deleteImageIds != null && !deleteImageIds.isEmpty()) {
-            List<NoticeImage> imagesToDelete = noticeImageRepository.findAllById(deleteImageIds);
+            // 엔티티 내용 변경
+            notice.update(requestDto.getTitle(), requestDto.getContent());
 
-            for (NoticeImage image : imagesToDelete) {
-                // 해당 공지사항의 이미지가 맞는지 안전장치
-                if (!image.getNotice().getNoticeId().equals(noticeId)) {
-                    continue;
+            // 기존 이미지 삭제 로직
+            List<Long> deleteImageIds = requestDto.getDeleteImageIds();
+            if (deleteImageIds != null && !deleteImageIds.isEmpty()) {
+                List<NoticeImage> imagesToDelete = noticeImageRepository.findAllById(deleteImageIds);
+                List<String> fileKeysToDelete = new ArrayList<>();
+
+                for (NoticeImage image : imagesToDelete) {
+                    // 해당 공지사항의 이미지가 맞는지 안전장치
+                    if (!image.getNotice().getNoticeId().equals(noticeId)) {
+                        continue;
+                    }
+                    fileKeysToDelete.addAll(image.getFileKeys());
+
+                    // DB 삭제
+                    noticeImageRepository.delete(image);
                 }
-                // S3 물리 삭제
-                s3Service.deleteFile(image.getImageKey());
 
-                // DB 삭제
-                noticeImageRepository.delete(image);
+                // S3 물리 삭제(원본 + 변환본)는 커밋 후 한 번에
+                s3Service.deleteFilesAfterCommit(fileKeysToDelete);
             }
-        }
 
-        // 새 이미지 업로드
-        uploadImages(files, notice);
+            // 새 이미지 저장
+            saveImages(files, imageKeys, notice);
 
-        // updatedAt 갱신을 위해 flush() 호출
-        noticeRepository.flush();
-        noticeImageRepository.flush();
+            // updatedAt 갱신을 위해 flush() 호출
+            noticeRepository.flush();
+            noticeImageRepository.flush();
 
-        // 변경된 엔티티를 DTO로 변환하여 반환
-        return new NoticeResponseDto(notice);
+            // 변경된 엔티티를 DTO로 변환하여 반환
+            return new NoticeResponseDto(notice);
+        }));
     }
 
 
@@ -166,6 +289,7 @@ public class NoticeService {
      * @param noticeId 삭제할 공지사항의 ID
      * @param userId   현재 인증된 사용자의 ID (권한 검사용)
      */
+    @CacheEvict(cacheNames = CacheConfig.NOTICE_DETAIL, key = "#noticeId") // 커밋 후 상세 캐시 삭제
     public void deleteNotice(Long noticeId, Long userId) {
 
         // (권한 검사) ADMIN인지 확인
@@ -175,32 +299,46 @@ public class NoticeService {
         Notice notice = noticeRepository.findById(noticeId)
                 .orElseThrow(() -> new EntityNotFoundException("해당 ID의 공지사항을 찾을 수 없습니다: " + noticeId));
 
-        // 연결된 이미지 S3에서 모두 삭제
-        for (NoticeImage image : notice.getNoticeImages()) {
-            s3Service.deleteFile(image.getImageKey());
-        }
+        // 연결된 이미지 S3에서 모두 삭제 (커밋 후 한 번에)
+        s3Service.deleteFilesAfterCommit(notice.getNoticeImages().stream()
+                .flatMap(image -> image.getFileKeys().stream())
+                .toList());
 
         // Repository의 delete() 호출 -> @SQLDelete(논리삭제) 쿼리 실행
         noticeRepository.delete(notice);
     }
 
-    // 이미지 업로드 로직
-    private void uploadImages(List<MultipartFile> files, Notice notice) {
-        if (files != null && !files.isEmpty()) {
-            for (MultipartFile file : files) {
-                // S3 업로드 (폴더명: "notice")
-                String imageKey = s3Service.uploadFile(file, "notice");
+    // 공지사항 상세 캐시
+    private Cache getNoticeDetailCache() {
+        return Objects.requireNonNull(cacheManager.getCache(CacheConfig.NOTICE_DETAIL));
+    }
 
-                NoticeImage noticeImage = NoticeImage.builder()
+    // 이미지 저장 로직 (S3 업로드가 끝난 Key로 NoticeImage 저장)
+    private void saveImages(List<MultipartFile> files, List<String> imageKeys, Notice notice) {
+        if (!imageKeys.isEmpty()) {
+            List<NoticeImage> noticeImages = new ArrayList<>(files.size());
+            for (int i = 0; i < files.size(); i++) {
+                MultipartFile file = files.get(i);
+                noticeImages.add(NoticeImage.builder()
                         .notice(notice)
                         .imageName(file.getOriginalFilename())
-                        .imageKey(imageKey)
+                        .imageKey(imageKeys.get(i))
                         .fileSize(file.getSize())
-                        .build();
+                        .build());
+            }
 
-                noticeImageRepository.save(noticeImage);
+            // DB 일괄 저장
+            noticeImageRepository.saveAll(noticeImages);
 
-                notice.getNoticeImages().add(noticeImage);
+            notice.getNoticeImages().addAll(noticeImages);
+
+            // 커밋 후 리사이즈 변환본 생성 요청 (변환 가능한 이미지만)
+            for (int i = 0; i < noticeImages.size(); i++) {
+                if (imageVariantService.isSupported(files.get(i).getContentType())) {
+                    NoticeImage image = noticeImages.get(i);
+                    imageVariantService.generateAfterCommit(ImageVariantService.Target.NOTICE_IMAGE,
+                            image.getImageId(), notice.getNoticeId(), image.getImageKey());
+                }
             }
         }
     }
@@ -0,0 +1,224 @@
+package kr.ulsan.dreamshowchoir.dungeong.service;
+
+import kr.ulsan.dreamshowchoir.dungeong.domain.common.ImageVariants;
+import kr.ulsan.dreamshowchoir.dungeong.domain.common.ImageVariantsConverter;
+import kr.ulsan.dreamshowchoir.dungeong.domain.storage.repository.StoredObjectRepository;
+import kr.ulsan.dreamshowchoir.dungeong.dto.admin.OrphanGcReportDto;
+import kr.ulsan.dreamshowchoir.dungeong.service.storage.KeyBloomFilter;
+import kr.ulsan.dreamshowchoir.dungeong.service.storage.StorageBackend;
+import kr.ulsan.dreamshowchoir.dungeong.service.storage.StorageObjectSummary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * 고아 객체 GC (어떤 행도 참조하지 않는 S3 객체 정리)
+ * - 갤러리/게시글 논리 삭제, 가입 신청 이미지처럼 업로드만 되고 저장되지 않은 파일, 실패한 트랜잭션이 남긴 파일 대상
+ * - DB가 참조 중인 Key를 스트림으로 읽어 Bloom filter에 넣고, 폴더(접두어)별로 ListObjectsV2를 페이지 단위로 훑으며 대조
+ *   (Bloom filter 오탐은 고아 객체를 남겨둘 뿐이므로 안전, 메모리는 Key 수와 무관하게 Key당 약 10비트)
+ * - 유예 기간 안에 올라온 객체는 건너뜀 (업로드 후 DB 저장 전이거나 직접 업로드 후 등록 전인 파일 보호)
+ * - 기본은 dry-run: 대상만 집계해 보고하고, storage.gc.dry-run=false일 때만 DeleteObjects로 일괄 삭제
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrphanObjectGcService {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final int VARIANTS_PER_FILE = 3; // 이미지당 변환본 최대 개수 (320/800/1600)
+    private static final int SAMPLE_SIZE = 20;
+
+    private final S3Service s3Service;
+    private final StoredObjectRepository storedObjectRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ImageVariantsConverter variantsConverter = new ImageVariantsConverter();
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Value("${storage.gc.enabled:true}")
+    private boolean enabled;
+
+    // 정기 실행을 dry-run으로 할지 (false로 바꿔야 실제로 삭제)
+    @Value("${storage.gc.dry-run:true}")
+    private boolean scheduledDryRun;
+
+    // 훑을 폴더 (서로 겹치지 않게 지정, 하위 폴더 "post/variants/" 등은 상위 접두어에 포함됨)
+    @Value("${storage.gc.prefixes:post/,notice/,gallery/,sheet/,activity/,banner/,profile/,join-application/,common/}")
+    private String[] prefixes;
+
+    @Value("${storage.gc.grace-period:P1D}")
+    private Duration gracePeriod;
+
+    // 매일 새벽 5시 (다른 정리 작업과 겹치지 않는 시간)
+    @Scheduled(cron = "${storage.gc.cron:0 0 5 * * *}")
+    public void scheduledCollect() {
+        if (!enabled) {
+            return;
+        }
+        collect(scheduledDryRun);
+    }
+
+    /**
+     * 고아 객체 GC 실행 (이미 실행 중이면 예외)
+     *
+     * @param dryRun true면 삭제하지 않고 대상만 집계
+     * @return 실행 결과
+     */
+    public OrphanGcReportDto collect(boolean dryRun) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("고아 객체 GC가 이미 실행 중입니다.");
+        }
+        try {
+            return doCollect(dryRun);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private OrphanGcReportDto doCollect(boolean dryRun) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        Instant graceThreshold = Instant.now().minus(gracePeriod);
+        log.info("=== 고아 객체 GC 시작 (dry-run: {}, 유예 기간: {}) ===", dryRun, gracePeriod);
+
+        // 1. DB가 참조 중인 Key 로드 (목록 조회보다 먼저 -> 이후에 추가된 참조는 유예 기간이 보호)
+        long[] referencedCount = new long[1];
+        KeyBloomFilter referenced = Objects.requireNonNull(transactionTemplate.execute(status -> {
+            long expected = storedObjectRepository.countReferencedFileKeys() * (1 + VARIANTS_PER_FILE);
+            KeyBloomFilter filter = new KeyBloomFilter(expected, FALSE_POSITIVE_RATE);
+            try (Stream<String> fileKeys = storedObjectRepository.streamReferencedFileKeys()) {
+                fileKeys.forEach(fileKey -> {
+                    filter.put(s3Service.toS3Key(fileKey));
+                    referencedCount[0]++;
+                });
+            }
+            try (Stream<String> variantKeys = storedObjectRepository.streamReferencedVariantKeys()) {
+                variantKeys.map(variantsConverter::convertToEntityAttribute)
+                        .filter(Objects::nonNull)
+                        .map(ImageVariants::getUrlsByWidth)
+                        .flatMap(urlsByWidth -> urlsByWidth.values().stream())
+                        .forEach(url -> {
+                            filter.put(s3Service.toS3Key(url));
+                            referencedCount[0]++;
+                        });
+            }
+            return filter;
+        }));
+
+        // 2. 폴더별로 목록을 훑으며 대조, 삭제 대상은 DeleteObjects 단위(1000개)로 모아서 삭제
+        long scanned = 0;
+        long recent = 0;
+        long orphans = 0;
+        long orphanBytes = 0;
+        long deleted = 0;
+        long failed = 0;
+        List<String> samples = new ArrayList<>();
+        List<String> batch = new ArrayList<>();
+
+        for (String prefix : prefixes) {
+            try (Stream<StorageObjectSummary> objects = s3Service.listObjects(prefix)) {
+                Iterator<StorageObjectSummary> iterator = objects.iterator();
+                while (iterator.hasNext()) {
+                    StorageObjectSummary object = iterator.next();
+                    scanned++;
+
+                    if (object.key().endsWith("/")) {
+                        continue; // 폴더 표시용 빈 객체
+                    }
+                    if (object.lastModified().isAfter(graceThreshold)) {
+                        recent++;
+                        continue;
+                    }
+                    if (referenced.mightContain(object.key())) {
+                        continue;
+                    }
+
+                    orphans++;
+                    orphanBytes += object.size();
+                    if (samples.size() < SAMPLE_SIZE) {
+                        samples.add(object.key());
+                    }
+
+                    if (!dryRun) {
+                        batch.add(object.key());
+                        if (batch.size() == StorageBackend.MAX_DELETE_BATCH_SIZE) {
+                            int deletedInBatch = deleteOrphans(batch, graceThreshold);
+                            deleted += deletedInBatch;
+                            failed += batch.size() - deletedInBatch;
+                            batch.clear();
+                        }
+                    }
+                }
+            } catch (Exception e) {
+                // 한 폴더의 목록 조회가 실패해도 나머지 폴더는 계속 진행
+                log.error("고아 객체 GC 목록 조회 실패 (접두어: {}): {}", prefix, e.getMessage());
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            int deletedInBatch = deleteOrphans(batch, graceThreshold);
+            deleted += deletedInBatch;
+            failed += batch.size() - deletedInBatch;
+        }
+
+        OrphanGcReportDto report = OrphanGcReportDto.builder()
+                .dryRun(dryRun)
+                .startedAt(startedAt)
+                .elapsedMillis(Duration.between(startedAt, LocalDateTime.now()).toMillis())
+                .referencedKeyCount(referencedCount[0])
+                .scannedCount(scanned)
+                .recentCount(recent)
+                .orphanCount(orphans)
+                .orphanBytes(orphanBytes)
+                .deletedCount(deleted)
+                .failedCount(failed)
+                .sampleOrphanKeys(samples)
+                .build();
+
+        log.info("=== 고아 객체 GC 완료 (dry-run: {}) : 조회 {}개, 고아 {}개 ({} bytes), 삭제 {}개, 실패/보류 {}개, 예시: {} ===",
+                dryRun, scanned, orphans, orphanBytes, deleted, failed, samples);
+        return report;
+    }
+
+    /**
+     * 고아 객체 한 묶음 삭제 (삭제한 개수 반환)
+     * - 인덱스 행은 "기준 시각 이후 사용되지 않은 행만" 지우는 조건부 DELETE로 정리하고, 실제로 지운 Key만 S3에서 삭제
+     *   (GC 도중 중복 업로드로 재사용된 객체는 DELETE 대상에서 빠지므로 보류)
+     * - 인덱스 행이 없던 Key(중복 제거 이전 업로드 등)는 재사용될 수 없으므로 그대로 삭제
+     * - S3 삭제가 실패한 객체는 다음 실행에서 다시 고아로 잡힘
+     */
+    private int deleteOrphans(List<String> keys, Instant graceThreshold) {
+        LocalDateTime threshold = LocalDateTime.ofInstant(graceThreshold, ZoneId.systemDefault());
+
+        List<String> keysToDelete = Objects.requireNonNull(transactionTemplate.execute(status -> {
+            Set<String> indexed = new HashSet<>(storedObjectRepository.findObjectKeysIn(keys));
+            List<String> targets = new ArrayList<>(storedObjectRepository.deleteUnusedSince(keys, threshold));
+            keys.stream()
+                    .filter(key -> !indexed.contains(key))
+                    .forEach(targets::add);
+            return targets;
+        }));
+
+        if (keysToDelete.isEmpty()) {
+            return 0;
+        }
+        Map<String, String> failures = s3Service.deleteObjects(keysToDelete);
+        return keysToDelete.size() - failures.size();
+    }
+}
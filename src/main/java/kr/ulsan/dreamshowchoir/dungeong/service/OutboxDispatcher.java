@@ -0,0 +1,189 @@
+package kr.ulsan.dreamshowchoir.dungeong.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import kr.ulsan.dreamshowchoir.dungeong.domain.outbox.OutboxEvent;
+import kr.ulsan.dreamshowchoir.dungeong.domain.outbox.OutboxStatus;
+import kr.ulsan.dreamshowchoir.dungeong.domain.outbox.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 아웃박스 디스패처
+ * - 선점: 짧은 트랜잭션에서 대기 이벤트를 FOR UPDATE SKIP LOCKED로 골라 IN_PROGRESS + 선점 만료 시각으로 바꾸고 커밋
+ *   (여러 인스턴스가 동시에 돌아도 안전)
+ * - 실행: S3/SMTP 호출은 트랜잭션 밖에서 실행 (외부 호출 동안 행 잠금과 DB 커넥션을 잡지 않음)
+ * - 기록: 이벤트마다 짧은 트랜잭션으로 결과 저장, 실패 시 지수 백오프로 재시도, 한도를 넘으면 FAILED로 남겨 확인할 수 있게 함
+ * - 결과를 기록하기 전에 장애가 나면 선점 만료 후 다시 실행되므로 (at-least-once) 핸들러는 멱등이어야 함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxDispatcher {
+
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+    private static final int DONE_RETENTION_DAYS = 7;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxService outboxService;
+    private final S3Service s3Service;
+    private final EmailService emailService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${outbox.batch-size:20}")
+    private int batchSize;
+
+    @Value("${outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${outbox.base-backoff-seconds:5}")
+    private long baseBackoffSeconds;
+
+    // 선점 유지 시간 (한 배치를 실행하는 데 걸리는 시간보다 충분히 길게)
+    @Value("${outbox.lease-duration:PT5M}")
+    private Duration leaseDuration;
+
+    // 메트릭 (폴링할 때마다 갱신, 스크랩 시 DB 조회 없음)
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final AtomicLong oldestPendingLagSeconds = new AtomicLong();
+    private Counter succeededCounter;
+    private Counter retriedCounter;
+    private Counter failedCounter;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("outbox.queue.depth", pendingCount, AtomicLong::get)
+                .description("처리 대기 중인 아웃박스 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("outbox.queue.lag", oldestPendingLagSeconds, AtomicLong::get)
+                .description("가장 오래된 대기 이벤트의 대기 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        succeededCounter = Counter.builder("outbox.events").tag("result", "succeeded").register(meterRegistry);
+        retriedCounter = Counter.builder("outbox.events").tag("result", "retried").register(meterRegistry);
+        failedCounter = Counter.builder("outbox.events").tag("result", "failed").register(meterRegistry);
+    }
+
+    /**
+     * 대기 이벤트 처리 (이전 실행이 끝난 뒤 일정 간격으로 반복)
+     * 한 배치가 가득 차면 남은 이벤트가 있을 수 있으므로 바로 다음 배치를 이어서 처리
+     */
+    @Scheduled(fixedDelayString = "${outbox.poll-interval-ms:2000}")
+    public void dispatch() {
+        // 처리 도중 종료된 디스패처가 남긴 선점 회수
+        Integer released = transactionTemplate.execute(status -> outboxEventRepository.releaseExpiredLeases(LocalDateTime.now()));
+        if (released != null && released > 0) {
+            log.warn("선점 만료된 아웃박스 이벤트 {}건을 다시 대기 상태로 되돌렸습니다.", released);
+        }
+
+        int processed;
+        do {
+            processed = dispatchBatch();
+        } while (processed == batchSize);
+
+        refreshMetrics();
+    }
+
+    /**
+     * 한 배치 선점 후 실행 (선점 트랜잭션은 실행 전에 커밋되고, 결과는 이벤트마다 따로 기록)
+     */
+    private int dispatchBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> events = Objects.requireNonNull(transactionTemplate.execute(status ->
+                outboxEventRepository.claimDueEvents(now, now.plus(leaseDuration), batchSize)));
+
+        for (OutboxEvent event : events) {
+            Exception failure = null;
+            try {
+                handle(event);
+            } catch (Exception e) {
+                failure = e;
+            }
+            recordResult(event.getEventId(), event.getLockedUntil(), failure);
+        }
+
+        return events.size();
+    }
+
+    // 실행 결과 기록 (선점이 만료되어 다른 디스패처가 다시 가져간 이벤트는 건드리지 않음)
+    private void recordResult(Long eventId, LocalDateTime lockedUntil, Exception failure) {
+        transactionTemplate.executeWithoutResult(status -> {
+            OutboxEvent event = outboxEventRepository.findById(eventId).orElse(null);
+            if (event == null || event.getStatus() != OutboxStatus.IN_PROGRESS || !Objects.equals(event.getLockedUntil(), lockedUntil)) {
+                log.warn("선점이 만료된 아웃박스 이벤트의 결과는 기록하지 않습니다 (ID: {})", eventId);
+                return;
+            }
+
+            if (failure == null) {
+                event.markAsDone();
+                succeededCounter.increment();
+                return;
+            }
+
+            event.markAsFailed(failure.getMessage(), LocalDateTime.now().plus(backoff(event.getAttempts())), maxAttempts);
+            if (event.getStatus() == OutboxStatus.FAILED) {
+                failedCounter.increment();
+                log.error("아웃박스 이벤트 처리 실패 (재시도 한도 초과, ID: {}, 유형: {}): {}",
+                        event.getEventId(), event.getEventType(), failure.getMessage());
+            } else {
+                retriedCounter.increment();
+                log.warn("아웃박스 이벤트 처리 실패 (ID: {}, 유형: {}, 시도: {}회), 다음 시도: {}",
+                        event.getEventId(), event.getEventType(), event.getAttempts(), event.getNextAttemptAt());
+            }
+        });
+    }
+
+    private void handle(OutboxEvent event) throws Exception {
+        switch (event.getEventType()) {
+            case S3_DELETE -> s3Service.deleteObject(event.getPayload());
+            case S3_DELETE_BATCH -> {
+                // 일부라도 실패하면 이벤트 전체를 재시도 (이미 삭제된 Key는 다시 지워도 성공)
+                Map<String, String> failures = s3Service.deleteObjects(outboxService.readS3DeleteKeys(event.getPayload()));
+                if (!failures.isEmpty()) {
+                    throw new IllegalStateException("S3 파일 " + failures.size() + "개 삭제 실패: " + failures.keySet());
+                }
+            }
+            case EMAIL -> {
+                OutboxService.EmailMessage message = outboxService.readEmailMessage(event.getPayload());
+                emailService.send(message.to(), message.subject(), message.content());
+            }
+        }
+    }
+
+    /**
+     * 지수 백오프: base * 2^(시도 횟수), 최대 1시간
+     */
+    private Duration backoff(int attempts) {
+        long seconds = baseBackoffSeconds << Math.min(attempts, 20);
+        return seconds > MAX_BACKOFF.getSeconds() ? MAX_BACKOFF : Duration.ofSeconds(seconds);
+    }
+
+    private void refreshMetrics() {
+        pendingCount.set(outboxEventRepository.countByStatus(OutboxStatus.PENDING));
+
+        LocalDateTime oldest = outboxEventRepository.findOldestPendingCreatedAt();
+        oldestPendingLagSeconds.set(oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).getSeconds()));
+    }
+
+    // 매일 새벽 4시 30분: 보관 기간이 지난 처리 완료 이벤트 정리
+    @Scheduled(cron = "0 30 4 * * *")
+    public void cleanupDoneEvents() {
+        LocalDateTime threshold = LocalDateTime.now().minusDays(DONE_RETENTION_DAYS);
+        Integer deleted = transactionTemplate.execute(status -> outboxEventRepository.deleteDoneBefore(threshold));
+        log.info("=== 처리 완료된 아웃박스 이벤트 {}건 정리 ===", deleted);
+    }
+}
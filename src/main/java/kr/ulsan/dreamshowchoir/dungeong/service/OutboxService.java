@@ -0,0 +1,111 @@
+package kr.ulsan.dreamshowchoir.dungeong.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.ulsan.dreamshowchoir.dungeong.domain.outbox.OutboxEvent;
+import kr.ulsan.dreamshowchoir.dungeong.domain.outbox.OutboxEventType;
+import kr.ulsan.dreamshowchoir.dungeong.domain.outbox.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 아웃박스 이벤트 등록
+ * 호출한 업무 트랜잭션 안에서 함께 저장되므로, 업무가 롤백되면 부수 효과도 실행되지 않음
+ * (실제 실행은 커밋 후 OutboxDispatcher가 담당)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY) // 반드시 업무 트랜잭션 안에서 호출
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 이메일 발송 페이로드
+     */
+    public record EmailMessage(String to, String subject, String content) {
+    }
+
+    /**
+     * S3 파일 삭제 예약
+     *
+     * @param fileUrl 삭제할 파일의 전체 URL 또는 Key
+     */
+    public void enqueueS3Delete(String fileUrl) {
+        if (fileUrl == null || fileUrl.isEmpty()) {
+            return;
+        }
+        enqueue(OutboxEventType.S3_DELETE, fileUrl);
+    }
+
+    /**
+     * S3 파일 일괄 삭제 예약 (Key 목록을 이벤트 하나에 JSON 배열로 저장, 1개면 단건 이벤트)
+     *
+     * @param s3Keys 삭제할 Key 목록
+     */
+    public void enqueueS3DeleteBatch(List<String> s3Keys) {
+        if (s3Keys.isEmpty()) {
+            return;
+        }
+        if (s3Keys.size() == 1) {
+            enqueueS3Delete(s3Keys.get(0));
+            return;
+        }
+        enqueue(OutboxEventType.S3_DELETE_BATCH, toJson(s3Keys));
+    }
+
+    /**
+     * 이메일 발송 예약
+     */
+    public void enqueueEmail(String to, String subject, String content) {
+        enqueue(OutboxEventType.EMAIL, toJson(new EmailMessage(to, subject, content)));
+    }
+
+    /**
+     * 이메일 페이로드 역직렬화 (디스패처용, 트랜잭션 밖에서 호출)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public EmailMessage readEmailMessage(String payload) {
+        try {
+            return objectMapper.readValue(payload, EmailMessage.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("이메일 페이로드 형식이 올바르지 않습니다.", e);
+        }
+    }
+
+    /**
+     * S3 일괄 삭제 페이로드 역직렬화 (디스패처용, 트랜잭션 밖에서 호출)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<String> readS3DeleteKeys(String payload) {
+        try {
+            return objectMapper.readValue(payload, new TypeReference<>() {
+            });
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("S3 일괄 삭제 페이로드 형식이 올바르지 않습니다.", e);
+        }
+    }
+
+    private void enqueue(OutboxEventType eventType, String payload) {
+        OutboxEvent event = OutboxEvent.builder()
+                .eventType(eventType)
+                .payload(payload)
+                .build();
+
+        outboxEventRepository.save(event);
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("아웃박스 페이로드 직렬화에 실패했습니다.", e);
+        }
+    }
+}
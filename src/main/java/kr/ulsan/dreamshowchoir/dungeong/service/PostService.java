@@ -1,6 +1,9 @@
 package kr.ulsan.dreamshowchoir.dungeong.service;
 
 import jakarta.persistence.EntityNotFoundException;
+import kr.ulsan.dreamshowchoir.dungeong.config.CacheConfig;
+import kr.ulsan.dreamshowchoir.dungeong.domain.common.SearchHit;
+import kr.ulsan.dreamshowchoir.dungeong.domain.common.UploadDirectory;
 import kr.ulsan.dreamshowchoir.dungeong.domain.post.Post;
 import kr.ulsan.dreamshowchoir.dungeong.domain.post.PostImage;
 import kr.ulsan.dreamshowchoir.dungeong.domain.post.repository.PostImageRepository;
@@ -8,20 +11,35 @@ import kr.ulsan.dreamshowchoir.dungeong.domain.post.repository.PostRepository;
 import kr.ulsan.dreamshowchoir.dungeong.domain.user.Role;
 import kr.ulsan.dreamshowchoir.dungeong.domain.user.User;
 import kr.ulsan.dreamshowchoir.dungeong.domain.user.repository.UserRepository;
+import kr.ulsan.dreamshowchoir.dungeong.dto.common.CursorResponseDto;
 import kr.ulsan.dreamshowchoir.dungeong.dto.common.PageResponseDto;
 import kr.ulsan.dreamshowchoir.dungeong.dto.post.PostCreateRequestDto;
 import kr.ulsan.dreamshowchoir.dungeong.dto.post.PostListResponseDto;
 import kr.ulsan.dreamshowchoir.dungeong.dto.post.PostResponseDto;
 import kr.ulsan.dreamshowchoir.dungeong.dto.post.PostUpdateRequestDto;
+import kr.ulsan.dreamshowchoir.dungeong.dto.upload.VerifiedUploadDto;
+import kr.ulsan.dreamshowchoir.dungeong.util.CursorUtil;
+import kr.ulsan.dreamshowchoir.dungeong.util.SearchUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor // final 필드 생성자 자동 주입
@@ -32,6 +50,11 @@ public class PostService {
     private final UserRepository userRepository;
     private final PostImageRepository postImageRepository;
     private final S3Service s3Service;
+    private final UploadService uploadService; // 직접 업로드(Presigned URL) 파일 확인
+    private final ImageVariantService imageVariantService; // 업로드 이미지 리사이즈 변환본 생성 (커밋 후 비동기)
+    private final ViewCountService viewCountService;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transactionTemplate; // S3 업로드 후 짧은 트랜잭션으로 DB 저장
 
     /**
      * 새로운 게시글 생성
@@ -40,25 +63,33 @@ public class PostService {
      * @param userId     현재 인증된 사용자의 ID (JWT 토큰에서 추출)
      * @return 생성된 게시글의 상세 정보 DTO
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // S3 업로드 동안 DB 커넥션을 점유하지 않도록 트랜잭션 밖에서 실행
     public PostResponseDto createPost(PostCreateRequestDto requestDto, List<MultipartFile> files, Long userId) {
 
-        // 작성자(User) 엔티티를 DB에서 조회
-        User author = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("해당 ID의 유저를 찾을 수 없습니다: " + userId));
+        // S3에 이미지 업로드 (트랜잭션 밖, 폴더명: "post")
+        List<String> imageUrls = s3Service.uploadFiles(files, "post");
+
+        // 짧은 트랜잭션으로 DB 저장 (실패 시 업로드한 이미지 삭제)
+        return s3Service.runWithCompensation(imageUrls, () -> transactionTemplate.execute(status -> {
+
+            // 작성자(User) 엔티티를 DB에서 조회
+            User author = userRepository.findById(userId)
+                    .orElseThrow(() -> new EntityNotFoundException("해당 ID의 유저를 찾을 수 없습니다: " + userId));
 
-        // DTO의 toEntity() 헬퍼 메소드를 사용해 Post 엔티티를 생성
-        Post newPost = requestDto.toEntity(author);
+            // DTO의 toEntity() 헬퍼 메소드를 사용해 Post 엔티티를 생성
+            Post newPost = requestDto.toEntity(author);
 
-        // Repository를 통해 엔티티를 DB에 저장
-        Post savedPost = postRepository.save(newPost);
+            // Repository를 통해 엔티티를 DB에 저장
+            Post savedPost = postRepository.save(newPost);
 
-        // 파일 업로드 및 PostImage 저장
-        uploadImages(files, savedPost);
+            // PostImage 저장
+            saveImages(files, imageUrls, savedPost);
 
-        postImageRepository.flush();
+            postImageRepository.flush();
 
-        // 저장된 엔티티를 Response DTO로 변환하여 컨트롤러에 반환
-        return new PostResponseDto(savedPost);
+            // 저장된 엔티티를 Response DTO로 변환하여 컨트롤러에 반환
+            return new PostResponseDto(savedPost);
+        }));
     }
 
     /**
@@ -70,33 +101,116 @@ public class PostService {
     @Transactional(readOnly = true) // 조회(SELECT)만 하므로 readOnly = true (성능 최적화)
     public PageResponseDto<PostListResponseDto> getPostList(Pageable pageable) {
 
-        // Repository에서 Fetch Join이 적용된 쿼리 호출
-        // (N+1 문제 방지: Post 조회 시 User(authorName)도 함께 조회)
-        Page<Post> postPage = postRepository.findAllWithUser(pageable);
-
-        // Page<Post> (엔티티)를 Page<PostListResponseDto> (DTO)로 변환
-        // .map()은 Page 객체가 제공하는 변환 기능
-        Page<PostListResponseDto> dtoPage = postPage.map(PostListResponseDto::new);
+        // 생성자 프로젝션 쿼리 호출
+        // (목록에 필요한 컬럼만 조회 -> 엔티티 로딩/스냅샷 없이 DTO로 바로 받음)
+        Page<PostListResponseDto> dtoPage = postRepository.findPostList(pageable);
 
         // Page<DTO>를 우리가 만든 PageResponseDto(범용 DTO)로 감싸서 반환
         return new PageResponseDto<>(dtoPage);
     }
 
+    /**
+     * 게시글 목록을 커서(Keyset) 방식으로 조회
+     * (OFFSET/count 쿼리 없이 (createdAt, postId) 기준으로 다음 페이지 조회)
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size   페이지 크기
+     * @return 커서 정보와 게시글 목록 DTO
+     */
+    @Transactional(readOnly = true)
+    public CursorResponseDto<PostListResponseDto> getPostListByCursor(String cursor, Integer size) {
+
+        int pageSize = CursorUtil.normalizeSize(size);
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<PostListResponseDto> posts;
+        if (cursor == null || cursor.isBlank()) {
+            posts = postRepository.findFirstPageList(limit);
+        } else {
+            CursorUtil.Cursor decoded = CursorUtil.decode(cursor);
+            posts = postRepository.findNextPageList(decoded.createdAt(), decoded.id(), limit);
+        }
+
+        return CursorResponseDto.of(posts, pageSize, Function.identity(),
+                post -> CursorUtil.encode(post.getCreatedAt(), post.getPostId()));
+    }
+
+    /**
+     * 게시글 전문 검색 (제목 + 본문)
+     * 관련도 점수 내림차순으로 정렬하며, (score, postId) 커서로 다음 페이지 조회
+     *
+     * @param keyword 검색어
+     * @param cursor  이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size    페이지 크기
+     * @return 커서 정보와 검색된 게시글 목록 DTO
+     */
+    @Transactional(readOnly = true)
+    public CursorResponseDto<PostListResponseDto> searchPosts(String keyword, String cursor, Integer size) {
+
+        String normalized = SearchUtil.normalizeKeyword(keyword);
+        String pattern = SearchUtil.toContainsPattern(normalized);
+        int pageSize = CursorUtil.normalizeSize(size);
+
+        // 1. DB에서 ID와 관련도 점수만 조회 (다음 페이지 존재 여부 확인을 위해 1개 더 조회)
+        List<SearchHit> hits;
+        if (cursor == null || cursor.isBlank()) {
+            hits = postRepository.searchFirstPage(normalized, pattern, pageSize + 1);
+        } else {
+            CursorUtil.ScoreCursor decoded = CursorUtil.decodeScore(cursor);
+            hits = postRepository.searchNextPage(normalized, pattern, decoded.score(), decoded.id(), pageSize + 1);
+        }
+
+        boolean hasNext = hits.size() > pageSize;
+        List<SearchHit> pageHits = hasNext ? hits.subList(0, pageSize) : hits;
+        if (pageHits.isEmpty()) {
+            return new CursorResponseDto<>(List.of(), pageSize, false, null);
+        }
+
+        // 2. 해당 ID들의 목록 DTO 조회 후, 관련도 순서대로 재정렬
+        List<Long> ids = pageHits.stream().map(SearchHit::getId).toList();
+        Map<Long, PostListResponseDto> dtoMap = postRepository.findListByIds(ids).stream()
+                .collect(Collectors.toMap(PostListResponseDto::getPostId, Function.identity()));
+
+        List<PostListResponseDto> content = pageHits.stream()
+                .map(hit -> dtoMap.get(hit.getId()))
+                .filter(Objects::nonNull)
+                .toList();
+
+        SearchHit last = pageHits.get(pageHits.size() - 1);
+        String nextCursor = hasNext ? CursorUtil.encodeScore(last.getScore(), last.getId()) : null;
+
+        return new CursorResponseDto<>(content, pageSize, hasNext, nextCursor);
+    }
+
     /**
      * 게시글 1건 상세 조회
      *
      * @param postId 조회할 게시글의 ID
      * @return 게시글 상세 정보 DTO
      */
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS) // 캐시 히트 시 트랜잭션(DB 커넥션) 없이 응답
     public PostResponseDto getPostDetail(Long postId) {
 
-        // Repository에서 Fetch Join 쿼리(findByIdWithUser)를 호출
-        Post post = postRepository.findByIdWithUser(postId)
-                .orElseThrow(() -> new EntityNotFoundException("해당 ID의 게시글을 찾을 수 없습니다: " + postId));
+        // 캐시에서 먼저 조회
+        Cache cache = getPostDetailCache();
+        PostResponseDto postDetail = cache.get(postId, PostResponseDto.class);
 
-        // Post 엔티티를 PostResponseDto(상세 DTO)로 변환하여 반환
-        return new PostResponseDto(post);
+        if (postDetail == null) {
+            // 캐시 미스: Repository에서 Fetch Join 쿼리(findByIdWithUser)를 호출
+            Post post = postRepository.findByIdWithUser(postId)
+                    .orElseThrow(() -> new EntityNotFoundException("해당 ID의 게시글을 찾을 수 없습니다: " + postId));
+
+            // Post 엔티티를 PostResponseDto(상세 DTO)로 변환하여 캐시에 저장
+            postDetail = new PostResponseDto(post);
+            cache.put(postId, postDetail);
+        }
+
+        // 조회수 증가 (캐시 히트여도 증가, DB에는 주기적으로 일괄 반영)
+        viewCountService.increase(ViewCountService.Target.POST, postId);
+
+        return postDetail;
     }
 
     /**
@@ -107,47 +221,113 @@ public class PostService {
      * @param userId     현재 인증된 사용자의 ID (JWT 토큰에서 추출)
      * @return 수정된 게시글의 상세 정보 DTO
      */
+    @CacheEvict(cacheNames = CacheConfig.POST_DETAIL, key = "#postId") // DB 저장 후 상세 캐시 삭제
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // S3 업로드 동안 DB 커넥션을 점유하지 않도록 트랜잭션 밖에서 실행
     public PostResponseDto updatePost(Long postId, PostUpdateRequestDto requestDto, List<MultipartFile> files, Long userId) {
 
-        // DB에서 게시글 조회 (User 정보 포함)
-        Post post = postRepository.findByIdWithUser(postId)
-                .orElseThrow(() -> new EntityNotFoundException("해당 ID의 게시글을 찾을 수 없습니다: " + postId));
+        // 새 이미지 S3 업로드 (트랜잭션 밖, 폴더명: "post")
+        List<String> imageUrls = s3Service.uploadFiles(files, "post");
 
-        // 권한 검사 - 게시글 작성자의 ID와 현재 로그인한 사용자의 ID가 동일한지 확인
-        if (!post.getUser().getUserId().equals(userId)) {
-            throw new AccessDeniedException("이 게시글을 수정할 권한이 없습니다.");
-        }
+        // 짧은 트랜잭션으로 DB 수정 (권한 없음 등으로 실패하면 업로드한 이미지 삭제)
+        return s3Service.runWithCompensation(imageUrls, () -> transactionTemplate.execute(status -> {
+
+            // DB에서 게시글 조회 (User 정보 포함)
+            Post post = postRepository.findByIdWithUser(postId)
+                    .orElseThrow(() -> new EntityNotFoundException("해당 ID의 게시글을 찾을 수 없습니다: " + postId));
+
+            // 권한 검사 - 게시글 작성자의 ID와 현재 로그인한 사용자의 ID가 동일한지 확인
+            if (!post.getUser().getUserId().equals(userId)) {
+                throw new AccessDeniedException("이 게시글을 수정할 권한이 없습니다.");
+            }
 
-        // 텍스트 내용 수정
-        post.update(requestDto.getTitle(), requestDto.getContent());
+            // 텍스트 내용 수정
+            post.update(requestDto.getTitle(), requestDto.getContent());
 
-        // 기존 이미지 삭제 로직
-        List<Long> deleteImageIds = requestDto.getDeleteImageIds();
-        if (deleteImageIds != null && !deleteImageIds.isEmpty()) {
-            List<PostImage> imagesToDelete = postImageRepository.findAllById(deleteImageIds);
+            // 기존 이미지 삭제 로직
+            List<Long> deleteImageIds = requestDto.getDeleteImageIds();
+            if (deleteImageIds != null && !deleteImageIds.isEmpty()) {
+                List<PostImage> imagesToDelete = postImageRepository.findAllById(deleteImageIds);
+                List<String> fileKeysToDelete = new ArrayList<>();
 
-            for (PostImage image : imagesToDelete) {
-                // 이 이미지가 현재 게시글의 이미지가 맞는지 확인
-                if (!image.getPost().getPostId().equals(postId)) {
-                    continue;
+                for (PostImage image : imagesToDelete) {
+                    // 이 이미지가 현재 게시글의 이미지가 맞는지 확인
+                    if (!image.getPost().getPostId().equals(postId)) {
+                        continue;
+                    }
+                    fileKeysToDelete.addAll(image.getFileKeys());
+
+                    // DB에서 삭제
+                    postImageRepository.delete(image);
                 }
 
-                // S3에서 파일 삭제
-                s3Service.deleteFile(image.getImageKey());
+                // S3 파일(원본 + 변환본)은 커밋 후 한 번에 삭제
+                s3Service.deleteFilesAfterCommit(fileKeysToDelete);
+            }
+
+            // 새 이미지 저장
+            saveImages(files, imageUrls, post);
+
+            // DB에 변경 사항을 즉시 강제 실행
+            postRepository.flush();
+            postImageRepository.flush();    // 이미지 삭제/추가
+
+            return new PostResponseDto(post);
+        }));
+    }
+
+
+    /**
+     * 직접 업로드(Presigned URL)한 이미지를 게시글에 등록 (finalize)
+     * 파일 본문은 클라이언트가 S3로 직접 올렸으므로, 여기서는 HEAD 확인 후 DB에만 저장
+     *
+     * @param postId   이미지를 추가할 게시글의 ID
+     * @param fileKeys Presigned URL 발급 시 받은 fileKey 목록
+     * @param userId   현재 인증된 사용자의 ID (JWT 토큰에서 추출)
+     * @return 수정된 게시글의 상세 정보 DTO
+     */
+    @CacheEvict(cacheNames = CacheConfig.POST_DETAIL, key = "#postId") // DB 저장 후 상세 캐시 삭제
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // S3 HEAD 확인 동안 DB 커넥션을 점유하지 않도록 트랜잭션 밖에서 실행
+    public PostResponseDto attachUploadedImages(Long postId, List<String> fileKeys, Long userId) {
 
-                // DB에서 삭제
-                postImageRepository.delete(image);
+        // 업로드된 파일 확인 (트랜잭션 밖)
+        List<VerifiedUploadDto> uploads = uploadService.verifyUploads(UploadDirectory.POST, fileKeys, userId);
+
+        // 짧은 트랜잭션으로 DB 저장
+        // (실패해도 S3 파일은 삭제하지 않음 - 같은 Key로 재시도할 수 있고, 미등록 파일은 정리 대상)
+        return transactionTemplate.execute(status -> {
+
+            Post post = postRepository.findByIdWithUser(postId)
+                    .orElseThrow(() -> new EntityNotFoundException("해당 ID의 게시글을 찾을 수 없습니다: " + postId));
+
+            // 권한 검사 - 작성자 본인만 이미지 추가 가능
+            if (!post.getUser().getUserId().equals(userId)) {
+                throw new AccessDeniedException("이 게시글을 수정할 권한이 없습니다.");
             }
-        }
 
-        // 새 이미지 업로드
-        uploadImages(files, post);
+            List<PostImage> postImages = new ArrayList<>(uploads.size());
+            for (VerifiedUploadDto upload : uploads) {
+                postImages.add(PostImage.builder()
+                        .post(post)
+                        .imageName(upload.getFileName())
+                        .imageKey(upload.getFileUrl())
+                        .fileSize(upload.getFileSize())
+                        .build());
+            }
+            postImageRepository.saveAll(postImages);
+
+            // 커밋 후 리사이즈 변환본 생성 요청 (변환 가능한 이미지만)
+            for (int i = 0; i < postImages.size(); i++) {
+                if (imageVariantService.isSupported(uploads.get(i).getContentType())) {
+                    PostImage image = postImages.get(i);
+                    imageVariantService.generateAfterCommit(ImageVariantService.Target.POST_IMAGE,
+                            image.getImageId(), post.getPostId(), image.getImageKey());
+                }
+            }
 
-        // DB에 변경 사항을 즉시 강제 실행
-        postRepository.flush();
-        postImageRepository.flush();    // 이미지 삭제/추가
+            postImageRepository.flush();
 
-        return new PostResponseDto(post);
+            return new PostResponseDto(post);
+        });
     }
 
 
@@ -157,6 +337,7 @@ public class PostService {
      * @param postId 삭제할 게시글의 ID
      * @param userId 현재 인증된 사용자의 ID (JWT 토큰에서 추출)
      */
+    @CacheEvict(cacheNames = CacheConfig.POST_DETAIL, key = "#postId") // 커밋 후 상세 캐시 삭제
     public void deletePost(Long postId, Long userId) {
 
         // 게시글을 DB에서 조회 (작성자 정보 포함)
@@ -179,23 +360,36 @@ public class PostService {
         postRepository.delete(post);
     }
 
-    // 공통 이미지 업로드 메소드
-    private void uploadImages(List<MultipartFile> files, Post post) {
-        if (files != null && !files.isEmpty()) {
-            for (MultipartFile file : files) {
-                // S3에 업로드 (폴더명: "post")
-                String imageUrl = s3Service.uploadFile(file, "post");
+    // 게시글 상세 캐시
+    private Cache getPostDetailCache() {
+        return Objects.requireNonNull(cacheManager.getCache(CacheConfig.POST_DETAIL));
+    }
 
-                // PostImage 엔티티 생성
-                PostImage postImage = PostImage.builder()
+    // 공통 이미지 저장 메소드 (S3 업로드가 끝난 URL로 PostImage 저장)
+    private void saveImages(List<MultipartFile> files, List<String> imageUrls, Post post) {
+        if (!imageUrls.isEmpty()) {
+            // PostImage 엔티티 생성
+            List<PostImage> postImages = new ArrayList<>(files.size());
+            for (int i = 0; i < files.size(); i++) {
+                MultipartFile file = files.get(i);
+                postImages.add(PostImage.builder()
                         .post(post)
                         .imageName(file.getOriginalFilename())
-                        .imageKey(imageUrl)
+                        .imageKey(imageUrls.get(i))
                         .fileSize(file.getSize())
-                        .build();
+                        .build());
+            }
 
-                // DB 저장
-                postImageRepository.save(postImage);
+            // DB 일괄 저장
+            postImageRepository.saveAll(postImages);
+
+            // 커밋 후 리사이즈 변환본 생성 요청 (변환 가능한 이미지만)
+            for (int i = 0; i < postImages.size(); i++) {
+                if (imageVariantService.isSupported(files.get(i).getContentType())) {
+                    PostImage image = postImages.get(i);
+                    imageVariantService.generateAfterCommit(ImageVariantService.Target.POST_IMAGE,
+                            image.getImageId(), post.getPostId(), image.getImageKey());
+                }
             }
         }
     }
@@ -0,0 +1,288 @@
+package kr.ulsan.dreamshowchoir.dungeong.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.ulsan.dreamshowchoir.dungeong.service.storage.StorageBackend;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * S3 객체 로컬 디스크 캐시 (선택 기능, s3.disk-cache.enabled)
+ * - 자주 내려받는 파일(악보, 음원 등)을 로컬 디스크에 보관해 S3 재요청을 줄임
+ * - 용량(byte) 기준 제한: Caffeine weigher로 파일 크기만큼 가중치를 두고, 한도를 넘으면 덜 쓰인 파일부터 제거
+ * - 캐시 Key는 S3 Key + ETag (객체가 바뀌면 다른 항목이 되므로 오래된 본문을 내보내지 않음)
+ * - 채우기: 미스가 나면 응답은 S3에서 바로 스트리밍하고, 별도 스레드가 임시 파일로 받은 뒤 원자적 이동(rename)으로 등록
+ * - 입장 조건: 채우기는 S3에서 한 번 더 받는 것이므로, 최근 한 번 미스가 났던 파일이 다시 미스일 때만 채움
+ *   (한 번만 받는 파일이 매번 두 배의 S3 전송량을 쓰지 않도록)
+ * - 인덱스는 메모리에만 있으므로, 시작 시 이 서비스가 만든 파일(*.bin, *.part)만 지움 (디렉터리의 다른 파일은 건드리지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class S3DiskCacheService {
+
+    private final StorageBackend storageBackend;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${s3.disk-cache.enabled:false}")
+    private boolean enabled;
+
+    @Value("${s3.disk-cache.directory:${java.io.tmpdir}/dungeong-s3-cache}")
+    private Path directory;
+
+    // 캐시 전체 용량
+    @Value("${s3.disk-cache.max-size:1GB}")
+    private DataSize maxSize;
+
+    // 이보다 큰 파일은 캐시하지 않음 (큰 동영상 하나가 캐시 전체를 밀어내지 않도록)
+    @Value("${s3.disk-cache.max-object-size:64MB}")
+    private DataSize maxObjectSize;
+
+    // 두 번째 미스를 판단할 기간 (이 안에 다시 요청되지 않은 파일은 캐시하지 않음)
+    @Value("${s3.disk-cache.admission-window:PT1H}")
+    private Duration admissionWindow;
+
+    private Cache<String, CachedFile> cache;
+    private Cache<String, Boolean> missedOnce; // 한 번 미스가 난 캐시 Key (입장 조건 판단용, 개수 제한)
+    private ThreadPoolTaskExecutor fillExecutor;
+    private final Set<String> fillingKeys = ConcurrentHashMap.newKeySet(); // 같은 파일을 동시에 여러 번 받지 않도록
+
+    private Counter hitCounter;
+    private Counter missCounter;
+    private Counter bytesSavedCounter;
+
+    // 캐시된 파일 (캐시 항목마다 고유한 파일명 -> 제거 리스너가 같은 Key로 새로 받은 파일을 지우지 않음)
+    private record CachedFile(Path path, long size) {
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        if (!enabled) {
+            return;
+        }
+
+        // 이전 실행에서 남은 캐시 파일 정리 (인덱스가 없으므로 재사용 불가)
+        Files.createDirectories(directory);
+        deleteLeftoverFiles();
+
+        cache = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((String key, CachedFile file) -> (int) Math.min(file.size(), Integer.MAX_VALUE))
+                .recordStats()
+                .executor(Runnable::run) // 제거 리스너를 제거한 스레드에서 바로 실행
+                .removalListener((String key, CachedFile file, RemovalCause cause) -> {
+                    if (file != null) {
+                        deleteQuietly(file.path());
+                    }
+                })
+                .build();
+        missedOnce = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(admissionWindow)
+                .build();
+
+        fillExecutor = new ThreadPoolTaskExecutor();
+        fillExecutor.setCorePoolSize(2);
+        fillExecutor.setMaxPoolSize(2);
+        fillExecutor.setQueueCapacity(50);
+        // 큐가 가득 차면 채우기를 건너뜀 (캐시는 최선 노력, 응답 경로를 막지 않음)
+        fillExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        fillExecutor.setThreadNamePrefix("s3-cache-fill-");
+        fillExecutor.initialize();
+
+        hitCounter = Counter.builder("s3.disk_cache.requests").tag("result", "hit").register(meterRegistry);
+        missCounter = Counter.builder("s3.disk_cache.requests").tag("result", "miss").register(meterRegistry);
+        bytesSavedCounter = Counter.builder("s3.disk_cache.bytes_saved")
+                .description("S3 대신 디스크 캐시에서 응답한 바이트 수")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("s3.disk_cache.size", cache, c -> c.policy().eviction().map(e -> e.weightedSize().orElse(0L)).orElse(0L))
+                .description("디스크 캐시 사용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("s3.disk_cache.hit_ratio", this, S3DiskCacheService::hitRatio)
+                .description("디스크 캐시 적중률")
+                .register(meterRegistry);
+        FunctionCounter.builder("s3.disk_cache.evictions", cache, c -> c.stats().evictionCount())
+                .register(meterRegistry);
+
+        log.info("S3 디스크 캐시 사용: {} (최대 {}MB)", directory, maxSize.toMegabytes());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (fillExecutor != null) {
+            fillExecutor.shutdown();
+        }
+    }
+
+    /**
+     * 캐시 조회 (적중/미스 메트릭 기록)
+     *
+     * @param s3Key S3 Key
+     * @param etag  HEAD로 확인한 현재 ETag
+     * @return 캐시된 파일 경로 (없으면 empty)
+     */
+    public Optional<Path> get(String s3Key, String etag) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        CachedFile file = cache.getIfPresent(cacheKey(s3Key, etag));
+        if (file == null || !Files.exists(file.path())) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+
+        hitCounter.increment();
+        return Optional.of(file.path());
+    }
+
+    /**
+     * 캐시에 없는 파일을 백그라운드에서 받아 등록 (용량 제한을 넘는 파일은 무시)
+     * 처음 미스가 난 파일은 기록만 하고, 입장 기간 안에 다시 미스가 나면 그때 받음
+     *
+     * @param s3Key  S3 Key
+     * @param etag   HEAD로 확인한 현재 ETag (받는 동안 바뀌면 S3가 412로 거절)
+     * @param length 파일 크기
+     */
+    public void fillAsync(String s3Key, String etag, long length) {
+        if (!enabled || length <= 0 || length > maxObjectSize.toBytes()) {
+            return;
+        }
+
+        String key = cacheKey(s3Key, etag);
+        if (missedOnce.asMap().putIfAbsent(key, Boolean.TRUE) == null) {
+            return; // 첫 미스 -> 다시 요청될 때까지 보류
+        }
+        if (!fillingKeys.add(key)) {
+            return; // 이미 받는 중
+        }
+
+        try {
+            fillExecutor.execute(() -> {
+                try {
+                    fill(s3Key, etag, key, length);
+                    missedOnce.invalidate(key);
+                } finally {
+                    fillingKeys.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            fillingKeys.remove(key);
+        }
+    }
+
+    /**
+     * 캐시된 파일의 지정 구간을 응답으로 전송 (FileChannel.transferTo)
+     * 대상은 서블릿 출력 스트림을 감싼 채널이라 커널 zero-copy(sendfile)는 쓰이지 않고, JDK가 내부 버퍼로 읽어 스트림에 씀
+     * (S3 대신 로컬 디스크에서 읽는다는 점이 이득이며, 복사 횟수는 일반 스트림 복사와 같음)
+     *
+     * @param path         캐시된 파일
+     * @param start        시작 위치
+     * @param count        전송할 바이트 수
+     * @param outputStream 응답 출력 스트림
+     */
+    public void transferTo(Path path, long start, long count, OutputStream outputStream) throws IOException {
+        WritableByteChannel target = Channels.newChannel(outputStream);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, target);
+                if (transferred <= 0) {
+                    break; // 캐시 파일이 예상보다 짧음 (제거됨 등)
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+            bytesSavedCounter.increment(count - remaining);
+        }
+    }
+
+    // S3에서 임시 파일로 받은 뒤 원자적으로 이동 (다른 스레드가 덜 쓴 파일을 읽지 않도록)
+    private void fill(String s3Key, String etag, String key, long length) {
+        Path target = directory.resolve(UUID.randomUUID() + ".bin");
+        Path temp = directory.resolve(target.getFileName() + ".part");
+
+        try (InputStream inputStream = storageBackend.openStream(s3Key, null, null, etag)) {
+            copyToFile(inputStream, temp);
+
+            if (Files.size(temp) != length) {
+                throw new IOException("받은 크기가 다릅니다: " + Files.size(temp) + " != " + length);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            cache.put(key, new CachedFile(target, length));
+
+        } catch (Exception e) {
+            log.warn("S3 디스크 캐시 저장 실패 ({}): {}", s3Key, e.getMessage());
+            deleteQuietly(temp);
+            deleteQuietly(target);
+        }
+    }
+
+    private void copyToFile(InputStream inputStream, Path path) throws IOException {
+        try (OutputStream outputStream = Files.newOutputStream(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            inputStream.transferTo(outputStream);
+        }
+    }
+
+    // 디렉터리가 잘못 지정돼도 다른 파일을 지우지 않도록 캐시 파일 형식만 삭제 (하위 디렉터리는 따라가지 않음)
+    private void deleteLeftoverFiles() throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.{bin,part}")) {
+            for (Path file : files) {
+                if (Files.isRegularFile(file)) {
+                    deleteQuietly(file);
+                }
+            }
+        }
+    }
+
+    private double hitRatio() {
+        double hits = hitCounter.count();
+        double total = hits + missCounter.count();
+        return total == 0 ? 0 : hits / total;
+    }
+
+    private String cacheKey(String s3Key, String etag) {
+        return s3Key + "|" + etag;
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("S3 디스크 캐시 파일 삭제 실패 ({}): {}", path, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package kr.ulsan.dreamshowchoir.dungeong.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.ulsan.dreamshowchoir.dungeong.service.storage.StorageBackend;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 대용량 파일(갤러리 동영상 등) S3 멀티파트 업로드
+ * - 입력 스트림을 part-size 단위로 읽어 파트별로 동시에 업로드 (동시에 메모리에 올리는 파트 수는 parallelism으로 제한)
+ * - 실패한 파트는 지수 백오프로 재시도하고, 최종 실패 시 멀티파트 업로드를 중단(abort)해서 조각이 남지 않게 함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class S3MultipartUploadService {
+
+    // S3 멀티파트 최소 파트 크기 (마지막 파트 제외)
+    private static final long MIN_PART_SIZE = DataSize.ofMegabytes(5).toBytes();
+    private static final long RETRY_BASE_DELAY_MILLIS = 200;
+
+    private final S3Client s3Client;
+
+    @Value("${spring.cloud.aws.s3.bucket}")
+    private String bucketName;
+
+    // 이 크기 이상이면 멀티파트 업로드 사용
+    @Value("${s3.multipart.threshold:16MB}")
+    private DataSize threshold;
+
+    @Value("${s3.multipart.part-size:8MB}")
+    private DataSize partSize;
+
+    // 파일 하나당 동시에 업로드하는 파트 수 (메모리 사용량 = 대략 part-size * (parallelism + 1))
+    @Value("${s3.multipart.parallelism:4}")
+    private int parallelism;
+
+    // 파트당 최대 시도 횟수
+    @Value("${s3.multipart.max-attempts:3}")
+    private int maxAttempts;
+
+    // 파트 업로드 전용 스레드 풀 (S3Service의 파일 단위 업로드 풀 안에서 호출되므로 분리해야 교착되지 않음)
+    private ThreadPoolTaskExecutor partExecutor;
+
+    @PostConstruct
+    public void initPartExecutor() {
+        partExecutor = new ThreadPoolTaskExecutor();
+        partExecutor.setCorePoolSize(parallelism);
+        partExecutor.setMaxPoolSize(parallelism);
+        partExecutor.setQueueCapacity(100);
+        partExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        partExecutor.setThreadNamePrefix("s3-part-");
+        partExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        partExecutor.setAwaitTerminationSeconds(30);
+        partExecutor.initialize();
+    }
+
+    @PreDestroy
+    public void shutdownPartExecutor() {
+        partExecutor.shutdown();
+    }
+
+    /**
+     * 멀티파트 업로드 대상인지 확인
+     */
+    public boolean shouldUseMultipart(long fileSize) {
+        return fileSize >= threshold.toBytes();
+    }
+
+    /**
+     * 멀티파트 업로드 실행
+     *
+     * @param inputStream 업로드할 내용 (호출 측에서 닫음)
+     * @param s3Key       저장할 Key
+     * @param contentType Content-Type (없으면 null)
+     * @param metadata    사용자 메타데이터 (x-amz-meta-*)
+     * @return 업로드된 파일의 전체 URL (https://...)
+     */
+    public String upload(InputStream inputStream, String s3Key, String contentType, Map<String, String> metadata) {
+        int partBytes = (int) Math.max(MIN_PART_SIZE, partSize.toBytes());
+
+        String uploadId = s3Client.createMultipartUpload(builder -> builder
+                .bucket(bucketName)
+                .key(s3Key)
+                .contentType(contentType)
+                .cacheControl(StorageBackend.IMMUTABLE_CACHE_CONTROL)
+                .metadata(metadata)).uploadId();
+
+        Semaphore inFlight = new Semaphore(parallelism);
+        List<CompletableFuture<CompletedPart>> futures = new ArrayList<>();
+        try {
+            int partNumber = 1;
+            while (true) {
+                // 동시에 메모리에 올리는 파트 수 제한 (앞선 파트 업로드가 끝나야 다음 파트를 읽음)
+                inFlight.acquire();
+                if (futures.stream().anyMatch(CompletableFuture::isCompletedExceptionally)) {
+                    inFlight.release();
+                    break; // 이미 실패한 파트가 있으면 더 읽지 않음 (아래 join에서 예외 전파)
+                }
+
+                byte[] part = inputStream.readNBytes(partBytes);
+                if (part.length == 0 && partNumber > 1) {
+                    inFlight.release();
+                    break;
+                }
+
+                int currentPartNumber = partNumber++;
+                futures.add(CompletableFuture
+                        .supplyAsync(() -> uploadPartWithRetry(s3Key, uploadId, currentPartNumber, part), partExecutor)
+                        .whenComplete((result, e) -> inFlight.release()));
+
+                if (part.length < partBytes) {
+                    break; // 마지막 파트
+                }
+            }
+
+            // 모든 파트 완료 대기 (파트 번호 순서 유지)
+            List<CompletedPart> completedParts = futures.stream()
+                    .map(CompletableFuture::join)
+                    .toList();
+
+            s3Client.completeMultipartUpload(builder -> builder
+                    .bucket(bucketName)
+                    .key(s3Key)
+                    .uploadId(uploadId)
+                    .multipartUpload(upload -> upload.parts(completedParts)));
+
+            log.info("S3 멀티파트 업로드 완료: {} (파트 {}개)", s3Key, completedParts.size());
+            return s3Client.utilities().getUrl(builder -> builder.bucket(bucketName).key(s3Key)).toString();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort(s3Key, uploadId, futures);
+            throw new RuntimeException("파일 업로드가 중단되었습니다.", e);
+        } catch (IOException | RuntimeException e) {
+            abort(s3Key, uploadId, futures);
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            log.error("S3 멀티파트 업로드 실패: {} ({})", s3Key, cause.getMessage());
+            throw new RuntimeException("파일 업로드에 실패했습니다.", cause);
+        }
+    }
+
+    // 파트 업로드 (실패 시 지수 백오프로 재시도)
+    private CompletedPart uploadPartWithRetry(String s3Key, String uploadId, int partNumber, byte[] part) {
+        UploadPartRequest request = UploadPartRequest.builder()
+                .bucket(bucketName)
+                .key(s3Key)
+                .uploadId(uploadId)
+                .partNumber(partNumber)
+                .contentLength((long) part.length)
+                .build();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                String eTag = s3Client.uploadPart(request, RequestBody.fromBytes(part)).eTag();
+                return CompletedPart.builder().partNumber(partNumber).eTag(eTag).build();
+
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                log.warn("S3 파트 업로드 실패, 재시도 {}/{} ({} 파트 {}): {}", attempt, maxAttempts - 1, s3Key, partNumber, e.getMessage());
+                sleepBeforeRetry(attempt);
+            }
+        }
+    }
+
+    private void sleepBeforeRetry(int attempt) {
+        try {
+            Thread.sleep(RETRY_BASE_DELAY_MILLIS << (attempt - 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("파트 업로드 재시도 대기 중 중단되었습니다.", e);
+        }
+    }
+
+    // 멀티파트 업로드 중단 (이미 올라간 파트 정리, 진행 중인 파트는 결과를 기다리지 않음)
+    private void abort(String s3Key, String uploadId, List<CompletableFuture<CompletedPart>> futures) {
+        futures.forEach(future -> future.cancel(false));
+        try {
+            s3Client.abortMultipartUpload(builder -> builder.bucket(bucketName).key(s3Key).uploadId(uploadId));
+            log.info("S3 멀티파트 업로드 중단: {}", s3Key);
+        } catch (RuntimeException e) {
+            log.error("S3 멀티파트 업로드 중단 실패 (버킷 수명 주기 규칙으로 정리 필요): {} ({})", s3Key, e.getMessage());
+        }
+    }
+}
@@ -1,26 +1,94 @@
 package kr.ulsan.dreamshowchoir.dungeong.service;
 
-import io.awspring.cloud.s3.S3Resource;
-import io.awspring.cloud.s3.S3Template;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.ulsan.dreamshowchoir.dungeong.service.storage.StorageBackend;
+import kr.ulsan.dreamshowchoir.dungeong.service.storage.StorageObjectInfo;
+import kr.ulsan.dreamshowchoir.dungeong.service.storage.StorageObjectSummary;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class S3Service {
 
-    private final S3Template s3Template;
+    private final StorageBackend storageBackend; // 실제 저장소 (기본 S3, "local-storage" 프로필이면 로컬 파일 시스템)
+    private final OutboxService outboxService;
+    private final StoredObjectService storedObjectService; // 내용 해시 기반 중복 제거 + 참조 카운트
+    private final MeterRegistry meterRegistry;
 
-    @Value("${spring.cloud.aws.s3.bucket}")
-    private String bucketName;
+    // 다중 파일 동시 업로드 개수 (S3 커넥션/메모리 사용량을 고려해 제한)
+    @Value("${s3.upload.parallelism:4}")
+    private int uploadParallelism;
+
+    // 다중 파일 업로드 전용 스레드 풀 (@Async 기본 Executor와 분리)
+    private ThreadPoolTaskExecutor uploadExecutor;
+
+    // 일괄 삭제 메트릭
+    private Timer deleteBatchTimer;
+    private Counter deleteFailureCounter;
+
+    @PostConstruct
+    public void initUploadExecutor() {
+        uploadExecutor = new ThreadPoolTaskExecutor();
+        uploadExecutor.setCorePoolSize(uploadParallelism);
+        uploadExecutor.setMaxPoolSize(uploadParallelism);
+        uploadExecutor.setQueueCapacity(100);
+        // 큐가 가득 차면 요청 스레드가 직접 업로드 (무한정 쌓이지 않도록 역압)
+        uploadExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        uploadExecutor.setThreadNamePrefix("s3-upload-");
+        uploadExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        uploadExecutor.setAwaitTerminationSeconds(30);
+        uploadExecutor.initialize();
+    }
+
+    @PostConstruct
+    public void registerMetrics() {
+        deleteBatchTimer = Timer.builder("s3.delete.batch")
+                .description("DeleteObjects 요청 한 번(최대 1000개)의 소요 시간")
+                .register(meterRegistry);
+        deleteFailureCounter = Counter.builder("s3.delete.failures")
+                .description("일괄 삭제에 실패한 Key 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdownUploadExecutor() {
+        uploadExecutor.shutdown();
+    }
 
     /**
      * 파일을 S3에 업로드하고, 업로드된 파일의 전체 URL을 반환
@@ -34,6 +102,14 @@ public class S3Service {
             throw new IllegalArgumentException("업로드할 파일이 비어있습니다.");
         }
 
+        // 같은 폴더에 같은 내용이 이미 있으면 업로드하지 않고 기존 객체 재사용 (참조 수만 증가)
+        String contentHash = computeContentHash(file);
+        Optional<String> existingUrl = storedObjectService.acquire(dirName, contentHash);
+        if (existingUrl.isPresent()) {
+            log.info("중복 파일 업로드, 기존 S3 객체를 재사용합니다: {}", existingUrl.get());
+            return existingUrl.get();
+        }
+
         // 파일 이름 중복 방지를 위해 UUID 생성
         String originalFilename = file.getOriginalFilename();
         String uuid = UUID.randomUUID().toString();
@@ -41,22 +117,259 @@ public class S3Service {
         // S3 Key 생성 (예: "profile/uuid-originalName.jpg")
         String s3Key = dirName + "/" + uuid + "-" + originalFilename;
 
+        String fileUrl;
         try (InputStream inputStream = file.getInputStream()) {
-            // S3에 업로드 (upload 메소드 사용)
-            S3Resource resource = s3Template.upload(bucketName, s3Key, inputStream);
-
-            // 업로드된 파일의 URL 반환
-            return resource.getURL().toString();
+            // 저장소에 업로드 (S3는 큰 파일을 멀티파트로 나눠 업로드)
+            fileUrl = storageBackend.upload(s3Key, inputStream, file.getSize(), file.getContentType());
 
         } catch (IOException e) {
-            // getURL()이나 getInputStream()에서 발생하는 예외 처리
+            // getInputStream()에서 발생하는 예외 처리
             log.error("S3 업로드 중 오류 발생: {}", e.getMessage());
             throw new RuntimeException("파일 업로드에 실패했습니다.", e);
         }
+
+        // 내용 해시 인덱스에 등록 (동시에 같은 내용이 먼저 등록됐다면 그 객체를 쓰고 방금 올린 객체는 삭제)
+        String registeredUrl = storedObjectService.register(dirName, contentHash, toS3Key(fileUrl), fileUrl, file.getSize());
+        if (!registeredUrl.equals(fileUrl)) {
+            log.info("동시에 같은 파일이 업로드되어 중복 객체를 삭제합니다: {}", s3Key);
+            deleteObjectQuietly(fileUrl);
+        }
+        return registeredUrl;
+    }
+
+    /**
+     * 입력 스트림을 버퍼링 없이 그대로 저장소로 전송 (요청 본문 스트리밍 업로드용)
+     * 중복 제거 인덱스에 등록하지 않으므로 삭제 시 바로 물리 삭제됨 (직접 업로드와 같음)
+     *
+     * @param inputStream   업로드할 내용 (호출 측에서 닫음)
+     * @param contentLength 크기
+     * @param contentType   Content-Type
+     * @param s3Key         저장할 Key
+     * @param metadata      사용자 메타데이터 (x-amz-meta-*)
+     * @return 업로드된 파일의 전체 URL (https://...)
+     */
+    public String uploadStream(InputStream inputStream, long contentLength, String contentType, String s3Key,
+                               Map<String, String> metadata) {
+        return storageBackend.upload(s3Key, inputStream, contentLength, contentType, metadata);
+    }
+
+    /**
+     * 메모리에 있는 바이트 배열을 지정한 Key로 업로드하고, 업로드된 파일의 전체 URL을 반환
+     * (서버에서 생성한 파일용, 예: 이미지 변환본)
+     *
+     * @param bytes       업로드할 내용
+     * @param s3Key       저장할 Key (예: "post/variants/uuid-w320.jpg")
+     * @param contentType Content-Type (예: "image/jpeg")
+     * @return 업로드된 파일의 전체 URL (https://...)
+     */
+    public String uploadBytes(byte[] bytes, String s3Key, String contentType) {
+        return storageBackend.upload(s3Key, new ByteArrayInputStream(bytes), bytes.length, contentType);
+    }
+
+    /**
+     * 클라이언트가 S3에 직접 업로드할 수 있는 Presigned PUT URL 생성
+     * Content-Type과 메타데이터가 서명에 포함되므로, 클라이언트는 같은 헤더로 PUT 해야 함
+     *
+     * @param s3Key       업로드될 Key
+     * @param contentType Content-Type
+     * @param metadata    사용자 메타데이터 (x-amz-meta-*)
+     * @param expiresIn   URL 유효 기간
+     * @return Presigned PUT URL
+     */
+    public URL createPresignedPutUrl(String s3Key, String contentType, Map<String, String> metadata, Duration expiresIn) {
+        return storageBackend.createPresignedPutUrl(s3Key, contentType, metadata, expiresIn);
+    }
+
+    /**
+     * 객체 메타데이터 조회 (HEAD, 본문은 받지 않음)
+     *
+     * @param s3Key 조회할 Key
+     * @return 객체 정보 (없으면 empty)
+     */
+    public Optional<StorageObjectInfo> headObject(String s3Key) {
+        return storageBackend.head(s3Key);
+    }
+
+    /**
+     * Key에 해당하는 파일의 전체 URL (서버 경유 업로드와 같은 형식)
+     */
+    public String getUrl(String s3Key) {
+        return storageBackend.getUrl(s3Key);
+    }
+
+    /**
+     * 파일의 전체 URL에서 S3 Key만 추출 (이미 Key이면 그대로 반환)
+     *
+     * @param fileUrl 파일의 전체 URL 또는 Key
+     * @return S3 Key (예: "post/uuid-name.jpg")
+     */
+    public String toS3Key(String fileUrl) {
+        return storageBackend.toKey(fileUrl);
+    }
+
+    /**
+     * 객체 본문을 스트림으로 열기 (전체를 메모리에 올리지 않음, 다운로드 스트리밍용)
+     * 끝까지 읽지 않고 닫으면 남은 본문은 받지 않음
+     *
+     * @param s3Key   조회할 Key
+     * @param start   시작 위치 (전체면 null)
+     * @param end     끝 위치, 포함 (전체면 null)
+     * @param ifMatch HEAD에서 받은 ETag (그 사이 객체가 바뀌었으면 예외, 확인하지 않으면 null)
+     * @return 객체 본문 스트림
+     */
+    public InputStream openObjectStream(String s3Key, Long start, Long end, String ifMatch) {
+        return storageBackend.openStream(s3Key, start, end, ifMatch);
+    }
+
+    /**
+     * 접두어 아래의 객체 목록 조회 (페이지 단위로 필요할 때 가져옴, 사용 후 반드시 close)
+     *
+     * @param prefix Key 접두어 (예: "post/")
+     * @return 객체 요약 정보 스트림
+     */
+    public Stream<StorageObjectSummary> listObjects(String prefix) {
+        return storageBackend.list(prefix);
+    }
+
+    /**
+     * 여러 파일을 S3에 동시에 업로드하고, 업로드된 파일의 URL 목록을 반환
+     * (하나라도 실패하면 이미 업로드된 파일을 모두 삭제한 뒤 예외를 던짐)
+     *
+     * @param files   업로드할 파일 목록
+     * @param dirName 저장할 폴더 이름 (예: "gallery")
+     * @return 업로드된 파일의 URL 목록 (files와 같은 순서)
+     */
+    public List<String> uploadFiles(List<MultipartFile> files, String dirName) {
+        if (files == null || files.isEmpty()) {
+            return List.of();
+        }
+
+        // 파일마다 업로드 작업 시작 (요청 스레드는 모든 작업이 끝날 때까지 대기)
+        List<CompletableFuture<String>> futures = files.stream()
+                .map(file -> CompletableFuture.supplyAsync(() -> uploadFile(file, dirName), uploadExecutor))
+                .toList();
+
+        List<String> uploadedUrls = new ArrayList<>(files.size());
+        RuntimeException failure = null;
+
+        for (CompletableFuture<String> future : futures) {
+            try {
+                uploadedUrls.add(future.join());
+            } catch (CompletionException e) {
+                // 첫 번째 실패 원인을 기록하고, 나머지 작업은 끝까지 기다려서 성공한 키를 모두 수집
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException cause
+                            ? cause
+                            : new RuntimeException("파일 업로드에 실패했습니다.", e.getCause());
+                }
+            }
+        }
+
+        if (failure != null) {
+            // 부분 실패: 이미 업로드된 파일 정리 후 예외 전파
+            log.warn("다중 파일 업로드 실패, 업로드된 파일 {}개를 삭제합니다.", uploadedUrls.size());
+            deleteFiles(uploadedUrls);
+            throw failure;
+        }
+
+        return uploadedUrls;
+    }
+
+    /**
+     * 이미 업로드된 파일을 참조하는 DB 작업 실행 (업로드는 트랜잭션 밖에서 먼저 수행)
+     * DB 작업(커밋 포함)이 실패하면 업로드된 파일을 삭제하는 보상 처리 후 예외를 다시 던짐
+     *
+     * @param uploadedUrls 업로드된 파일 URL 목록
+     * @param dbWork       DB 작업 (예: transactionTemplate.execute(...))
+     * @return DB 작업 결과
+     */
+    public <T> T runWithCompensation(List<String> uploadedUrls, Supplier<T> dbWork) {
+        try {
+            return dbWork.get();
+        } catch (RuntimeException e) {
+            if (!uploadedUrls.isEmpty()) {
+                log.warn("DB 저장 실패, 업로드된 파일 {}개를 삭제합니다.", uploadedUrls.size());
+                deleteFiles(uploadedUrls);
+            }
+            throw e;
+        }
     }
 
     /**
-     * S3에서 파일 삭제
+     * 트랜잭션 커밋 후 S3에서 파일 삭제
+     * 트랜잭션 안이면 아웃박스에 삭제 이벤트를 함께 저장하고, 커밋되면 디스패처가 재시도와 함께 삭제
+     * (롤백되면 DB 행이 남으므로 파일도 남겨둠, 트랜잭션이 없으면 즉시 삭제)
+     *
+     * @param fileUrl 삭제할 파일의 전체 URL 또는 Key
+     */
+    public void deleteFileAfterCommit(String fileUrl) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            deleteFile(fileUrl);
+            return;
+        }
+
+        // 참조 반납도 같은 트랜잭션에서 (다른 행이 같은 객체를 참조 중이면 S3 파일은 유지)
+        if (storedObjectService.release(toS3Key(fileUrl))) {
+            outboxService.enqueueS3Delete(fileUrl);
+        }
+    }
+
+    /**
+     * 트랜잭션 커밋 후 S3에서 여러 파일을 한 번에 삭제 (deleteFileAfterCommit의 일괄 버전)
+     * 참조 반납은 현재 트랜잭션에서 하고, 물리 삭제할 Key는 아웃박스 이벤트 하나로 묶어 저장
+     *
+     * @param fileUrls 삭제할 파일의 전체 URL 또는 Key 목록
+     */
+    public void deleteFilesAfterCommit(Collection<String> fileUrls) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            deleteFiles(fileUrls);
+            return;
+        }
+
+        List<String> keysToDelete = new ArrayList<>();
+        for (String fileUrl : fileUrls) {
+            if (fileUrl == null || fileUrl.isEmpty()) {
+                continue;
+            }
+            String s3Key = toS3Key(fileUrl);
+            if (storedObjectService.release(s3Key)) {
+                keysToDelete.add(s3Key);
+            }
+        }
+        outboxService.enqueueS3DeleteBatch(keysToDelete);
+    }
+
+    /**
+     * S3에서 여러 파일을 한 번에 삭제 (deleteFile의 일괄 버전, 실패해도 로그만 남김)
+     * 참조를 모두 반납한 뒤 마지막 참조였던 객체만 DeleteObjects로 묶어서 삭제
+     *
+     * @param fileUrls 삭제할 파일의 전체 URL 또는 Key 목록
+     */
+    public void deleteFiles(Collection<String> fileUrls) {
+        List<String> keysToDelete = new ArrayList<>();
+        for (String fileUrl : fileUrls) {
+            if (fileUrl == null || fileUrl.isEmpty()) {
+                continue;
+            }
+            String s3Key = toS3Key(fileUrl);
+            try {
+                if (storedObjectService.release(s3Key)) {
+                    keysToDelete.add(s3Key);
+                } else {
+                    log.info("다른 곳에서 참조 중인 S3 파일이므로 참조만 반납합니다: {}", s3Key);
+                }
+            } catch (Exception e) {
+                log.error("S3 파일 참조 반납 실패 ({}): {}", s3Key, e.getMessage());
+            }
+        }
+
+        if (!keysToDelete.isEmpty()) {
+            deleteObjects(keysToDelete);
+        }
+    }
+
+    /**
+     * S3에서 파일 삭제 (중복 제거로 공유 중인 객체는 참조만 반납하고, 마지막 참조일 때 물리 삭제)
      *
      * @param fileUrl 삭제할 파일의 전체 URL 또는 Key
      */
@@ -66,19 +379,94 @@ public class S3Service {
         }
 
         try {
-            // URL에서 Key만 추출
-            String s3Key = fileUrl;
-            if (fileUrl.contains("amazonaws.com/")) {
-                s3Key = fileUrl.substring(fileUrl.indexOf("amazonaws.com/") + 14);
+            if (!storedObjectService.release(toS3Key(fileUrl))) {
+                log.info("다른 곳에서 참조 중인 S3 파일이므로 참조만 반납합니다: {}", fileUrl);
+                return;
             }
 
-            // 파일 삭제
-            s3Template.deleteObject(bucketName, s3Key);
-            log.info("S3 파일 삭제 성공: {}", s3Key);
+            deleteObject(fileUrl);
 
         } catch (Exception e) {
             log.error("S3 파일 삭제 실패: {}", e.getMessage());
             // 삭제 실패는 서비스 흐름을 막지 않도록 로그만 남기고 넘어감
         }
     }
-}
\ No newline at end of file
+
+    // 참조 인덱스와 무관하게 객체만 삭제 (실패해도 로그만 남김)
+    private void deleteObjectQuietly(String fileUrl) {
+        try {
+            deleteObject(fileUrl);
+        } catch (Exception e) {
+            log.error("S3 파일 삭제 실패: {}", e.getMessage());
+        }
+    }
+
+    // 파일 내용의 SHA-256 (hex)
+    // MultipartFile은 로컬(메모리/임시 파일)에 버퍼링되어 있으므로 업로드 전에 한 번 읽어서 계산 -> 중복이면 S3 전송 자체를 생략
+    private String computeContentHash(MultipartFile file) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream inputStream = new DigestInputStream(file.getInputStream(), digest)) {
+                inputStream.transferTo(OutputStream.nullOutputStream());
+            }
+            return HexFormat.of().formatHex(digest.digest());
+
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        } catch (IOException e) {
+            log.error("업로드 파일 해시 계산 중 오류 발생: {}", e.getMessage());
+            throw new RuntimeException("파일 업로드에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * S3에서 파일 삭제 (실패하면 예외를 그대로 던짐, 아웃박스 디스패처용)
+     * 이미 없는 Key를 삭제해도 성공으로 처리되므로 재실행해도 안전함
+     *
+     * @param fileUrl 삭제할 파일의 전체 URL 또는 Key
+     */
+    public void deleteObject(String fileUrl) {
+        // URL에서 Key만 추출
+        String s3Key = toS3Key(fileUrl);
+
+        // 파일 삭제
+        storageBackend.delete(s3Key);
+        log.info("S3 파일 삭제 성공: {}", s3Key);
+    }
+
+    /**
+     * S3에서 여러 파일을 한 번에 삭제 (참조 인덱스와 무관하게 객체만 삭제, 아웃박스 디스패처용)
+     * Key 변환/중복 제거는 한 번만 하고, DeleteObjects 요청 하나에 최대 1000개씩 나눠 보냄
+     * 요청 자체가 실패하면 그 묶음의 Key를 모두 실패로 보고함 (이미 없는 Key는 성공이므로 재실행해도 안전함)
+     *
+     * @param fileUrls 삭제할 파일의 전체 URL 또는 Key 목록
+     * @return 삭제에 실패한 Key와 실패 사유 (모두 성공하면 빈 Map)
+     */
+    public Map<String, String> deleteObjects(Collection<String> fileUrls) {
+        List<String> keys = fileUrls.stream()
+                .filter(fileUrl -> fileUrl != null && !fileUrl.isEmpty())
+                .map(this::toS3Key)
+                .distinct()
+                .toList();
+
+        Map<String, String> failures = new LinkedHashMap<>();
+        for (int from = 0; from < keys.size(); from += StorageBackend.MAX_DELETE_BATCH_SIZE) {
+            List<String> batch = keys.subList(from, Math.min(from + StorageBackend.MAX_DELETE_BATCH_SIZE, keys.size()));
+            long startedAt = System.nanoTime();
+            try {
+                failures.putAll(storageBackend.deleteAll(batch));
+            } catch (Exception e) {
+                batch.forEach(key -> failures.put(key, e.getMessage()));
+            } finally {
+                deleteBatchTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            deleteFailureCounter.increment(failures.size());
+            failures.forEach((key, reason) -> log.error("S3 파일 삭제 실패 ({}): {}", key, reason));
+        }
+        log.info("S3 파일 일괄 삭제: {}개 중 {}개 성공", keys.size(), keys.size() - failures.size());
+        return failures;
+    }
+}
@@ -1,6 +1,7 @@
 package kr.ulsan.dreamshowchoir.dungeong.service;
 
 import jakarta.persistence.EntityNotFoundException;
+import kr.ulsan.dreamshowchoir.dungeong.domain.common.UploadDirectory;
 import kr.ulsan.dreamshowchoir.dungeong.domain.sheet.Sheet;
 import kr.ulsan.dreamshowchoir.dungeong.domain.sheet.repository.SheetRepository;
 import kr.ulsan.dreamshowchoir.dungeong.domain.user.Role;
@@ -8,14 +9,19 @@ import kr.ulsan.dreamshowchoir.dungeong.domain.user.User;
 import kr.ulsan.dreamshowchoir.dungeong.domain.user.repository.UserRepository;
 import kr.ulsan.dreamshowchoir.dungeong.dto.common.PageResponseDto;
 import kr.ulsan.dreamshowchoir.dungeong.dto.sheet.SheetResponseDto;
+import kr.ulsan.dreamshowchoir.dungeong.dto.upload.VerifiedUploadDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -24,6 +30,8 @@ public class SheetService {
     private final SheetRepository sheetRepository;
     private final UserRepository userRepository;
     private final S3Service s3Service;
+    private final UploadService uploadService; // 직접 업로드(Presigned URL) 파일 확인
+    private final TransactionTemplate transactionTemplate; // S3 업로드 후 짧은 트랜잭션으로 DB 저장
 
     /**
      * 새로운 악보를 업로드하고 저장
@@ -33,28 +41,68 @@ public class SheetService {
      * @param userId 현재 인증된 사용자의 ID (JWT 토큰에서 추출)
      * @return 생성된 악보의 상세 정보 DTO
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // S3 업로드 동안 DB 커넥션을 점유하지 않도록 트랜잭션 밖에서 실행
     public SheetResponseDto uploadSheet(MultipartFile file, Long userId) {
 
-        // 업로더(User) 엔티티를 DB에서 조회
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다: " + userId));
-
-        // S3에 파일을 업로드하고, 저장된 URL(Key)을 반환받음
+        // S3에 파일을 업로드하고, 저장된 URL(Key)을 반환받음 (트랜잭션 밖)
         String fileKey = s3Service.uploadFile(file, "sheet");
 
-        // Sheet 엔티티 생성 (Builder 패턴 사용)
-        Sheet sheet = Sheet.builder()
-                .user(user)
-                .fileKey(fileKey)
-                .fileName(file.getOriginalFilename())
-                .fileSize(file.getSize())
-                .build();
+        // 짧은 트랜잭션으로 DB 저장 (실패 시 업로드한 파일 삭제)
+        return s3Service.runWithCompensation(List.of(fileKey), () -> transactionTemplate.execute(status -> {
+
+            // 업로더(User) 엔티티를 DB에서 조회
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다: " + userId));
+
+            // Sheet 엔티티 생성 (Builder 패턴 사용)
+            Sheet sheet = Sheet.builder()
+                    .user(user)
+                    .fileKey(fileKey)
+                    .fileName(file.getOriginalFilename())
+                    .fileSize(file.getSize())
+                    .build();
 
-        // Repository를 통해 엔티티를 DB에 저장
-        Sheet savedSheet = sheetRepository.save(sheet);
+            // Repository를 통해 엔티티를 DB에 저장
+            Sheet savedSheet = sheetRepository.save(sheet);
 
-        // 저장된 엔티티를 Response DTO로 변환하여 반환
-        return new SheetResponseDto(savedSheet);
+            // 저장된 엔티티를 Response DTO로 변환하여 반환
+            return new SheetResponseDto(savedSheet);
+        }));
+    }
+
+    /**
+     * 직접 업로드(Presigned URL)한 악보 파일들을 등록 (finalize)
+     * (MEMBER 전용 기능, 파일 본문은 클라이언트가 S3로 직접 업로드)
+     *
+     * @param fileKeys Presigned URL 발급 시 받은 fileKey 목록
+     * @param userId   현재 인증된 사용자의 ID (JWT 토큰에서 추출)
+     * @return 생성된 악보들의 상세 정보 DTO 목록
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // S3 HEAD 확인 동안 DB 커넥션을 점유하지 않도록 트랜잭션 밖에서 실행
+    public List<SheetResponseDto> createSheetsFromUploads(List<String> fileKeys, Long userId) {
+
+        // 업로드된 파일 확인 (트랜잭션 밖)
+        List<VerifiedUploadDto> uploads = uploadService.verifyUploads(UploadDirectory.SHEET, fileKeys, userId);
+
+        // 짧은 트랜잭션으로 DB 저장
+        // (실패해도 S3 파일은 삭제하지 않음 - 같은 Key로 재시도할 수 있고, 미등록 파일은 정리 대상)
+        return transactionTemplate.execute(status -> {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다: " + userId));
+
+            List<Sheet> sheets = uploads.stream()
+                    .map(upload -> Sheet.builder()
+                            .user(user)
+                            .fileKey(upload.getFileUrl())
+                            .fileName(upload.getFileName())
+                            .fileSize(upload.getFileSize())
+                            .build())
+                    .toList();
+
+            return sheetRepository.saveAll(sheets).stream()
+                    .map(SheetResponseDto::new)
+                    .toList();
+        });
     }
 
     /**
@@ -66,16 +114,27 @@ public class SheetService {
     @Transactional(readOnly = true)
     public PageResponseDto<SheetResponseDto> getSheetList(Pageable pageable) {
 
-        // Repository에서 전체 악보 목록을 페이징 조회
-        Page<Sheet> sheetPage = sheetRepository.findAll(pageable);
-
-        // Page<Sheet> (엔티티)를 Page<SheetResponseDto> (DTO)로 변환
-        Page<SheetResponseDto> dtoPage = sheetPage.map(SheetResponseDto::new);
+        // 생성자 프로젝션 쿼리로 악보 목록을 페이징 조회 (업로더 이름까지 한 번에 조회)
+        Page<SheetResponseDto> dtoPage = sheetRepository.findSheetList(pageable);
 
         // 범용 페이징 DTO로 감싸서 반환
         return new PageResponseDto<>(dtoPage);
     }
 
+    /**
+     * 악보 1건 조회 (다운로드용)
+     *
+     * @param sheetId 조회할 악보의 ID
+     * @return 악보 상세 정보 DTO
+     */
+    @Transactional(readOnly = true)
+    public SheetResponseDto getSheet(Long sheetId) {
+        Sheet sheet = sheetRepository.findById(sheetId)
+                .orElseThrow(() -> new EntityNotFoundException("악보를 찾을 수 없습니다: " + sheetId));
+
+        return new SheetResponseDto(sheet);
+    }
+
     /**
      * 악보 1건을 (논리) 삭제
      * (S3 파일은 물리 삭제됨)
@@ -101,8 +160,8 @@ public class SheetService {
             throw new AccessDeniedException("삭제 권한이 없습니다.");
         }
 
-        // S3에서 실제 파일 삭제 (물리 삭제)
-        s3Service.deleteFile(sheet.getFileKey());
+        // S3에서 실제 파일 삭제 (물리 삭제, 커밋 후)
+        s3Service.deleteFileAfterCommit(sheet.getFileKey());
 
         // Repository의 delete() 호출 -> @SQLDelete(논리삭제) 쿼리 실행
         sheetRepository.delete(sheet);
@@ -1,6 +1,7 @@
 package kr.ulsan.dreamshowchoir.dungeong.service;
 
 import jakarta.persistence.EntityNotFoundException;
+import kr.ulsan.dreamshowchoir.dungeong.domain.common.ContentVersion;
 import kr.ulsan.dreamshowchoir.dungeong.domain.content.SiteContent;
 import kr.ulsan.dreamshowchoir.dungeong.domain.content.repository.SiteContentRepository;
 import kr.ulsan.dreamshowchoir.dungeong.dto.content.SiteContentCreateRequestDto;
@@ -45,6 +46,15 @@ public class SiteContentService {
         return new SiteContentResponseDto(content);
     }
 
+    /**
+     * 특정 키(Key)의 콘텐츠 버전 정보 조회 (조건부 GET용, 본문을 조회하지 않음)
+     */
+    @Transactional(readOnly = true)
+    public ContentVersion getSiteContentVersion(String contentKey) {
+        return siteContentRepository.findVersionByContentKey(contentKey.toUpperCase())
+                .orElseThrow(() -> new EntityNotFoundException("해당 키의 콘텐츠를 찾을 수 없습니다: " + contentKey));
+    }
+
     /**
      * 특정 키(Key)의 콘텐츠를 수정 (ADMIN 전용)
      */
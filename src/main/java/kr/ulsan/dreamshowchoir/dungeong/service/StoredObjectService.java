@@ -0,0 +1,68 @@
+package kr.ulsan.dreamshowchoir.dungeong.service;
+
+import kr.ulsan.dreamshowchoir.dungeong.domain.storage.StoredObject;
+import kr.ulsan.dreamshowchoir.dungeong.domain.storage.repository.StoredObjectRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * 업로드 파일 중복 제거 (내용 해시 인덱스 + 참조 카운트)
+ * - 참조 획득(acquire/register)은 업로드 직후 독립 트랜잭션으로 커밋 (업로드는 업무 트랜잭션 밖에서 수행되므로)
+ *   업무 트랜잭션이 실패하면 보상 처리(S3Service.deleteFile)가 참조를 반납함
+ * - 참조 반납(release)은 호출한 트랜잭션에 참여 -> 엔티티 삭제와 같은 트랜잭션에서 반납되고, 롤백되면 함께 원복
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class StoredObjectService {
+
+    private final StoredObjectRepository storedObjectRepository;
+
+    /**
+     * 같은 폴더에 같은 내용의 객체가 이미 있으면 참조를 하나 늘리고 URL 반환
+     *
+     * @param dirName     업로드 폴더 (예: "sheet")
+     * @param contentHash 파일 내용의 SHA-256 (hex)
+     * @return 재사용할 객체 URL (없으면 empty -> 새로 업로드)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<String> acquire(String dirName, String contentHash) {
+        return storedObjectRepository.acquireByContentHash(dirName, contentHash).stream().findFirst();
+    }
+
+    /**
+     * 새로 업로드한 객체 등록 (참조 1)
+     *
+     * @return 실제로 사용할 URL (동시에 같은 내용이 먼저 등록됐다면 그 URL)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public String register(String dirName, String contentHash, String objectKey, String objectUrl, long fileSize) {
+        return storedObjectRepository.register(dirName, contentHash, objectKey, objectUrl, fileSize);
+    }
+
+    /**
+     * 참조 반납
+     *
+     * @param objectKey 삭제하려는 S3 Key
+     * @return S3 객체를 물리 삭제해도 되면 true (마지막 참조였거나, 중복 제거 도입 전 객체라 인덱스에 없는 경우)
+     */
+    public boolean release(String objectKey) {
+        Optional<StoredObject> storedObject = storedObjectRepository.findByObjectKeyForUpdate(objectKey);
+        if (storedObject.isEmpty()) {
+            return true;
+        }
+
+        StoredObject object = storedObject.get();
+        if (object.release() > 0) {
+            return false; // 다른 행이 아직 참조 중
+        }
+
+        // 마지막 참조: 인덱스에서 제거 (이후 같은 내용 업로드는 새 객체로 저장)
+        storedObjectRepository.delete(object);
+        return true;
+    }
+}
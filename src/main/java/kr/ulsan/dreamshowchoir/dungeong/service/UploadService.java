@@ -0,0 +1,182 @@
+package kr.ulsan.dreamshowchoir.dungeong.service;
+
+import jakarta.persistence.EntityNotFoundException;
+import kr.ulsan.dreamshowchoir.dungeong.domain.common.UploadDirectory;
+import kr.ulsan.dreamshowchoir.dungeong.domain.user.User;
+import kr.ulsan.dreamshowchoir.dungeong.domain.user.repository.UserRepository;
+import kr.ulsan.dreamshowchoir.dungeong.dto.upload.PresignedUploadRequestDto;
+import kr.ulsan.dreamshowchoir.dungeong.dto.upload.PresignedUploadResponseDto;
+import kr.ulsan.dreamshowchoir.dungeong.dto.upload.StreamUploadResponseDto;
+import kr.ulsan.dreamshowchoir.dungeong.dto.upload.VerifiedUploadDto;
+import kr.ulsan.dreamshowchoir.dungeong.service.storage.StorageObjectInfo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.InputStream;
+import java.net.URL;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 직접 업로드(Presigned URL) 처리
+ * - 발급: 폴더별 권한/형식/크기 확인 후, 업로더 ID를 메타데이터로 서명한 PUT URL 발급 (파일 본문은 앱 서버를 거치지 않음)
+ * - 스트리밍: Presigned URL을 쓸 수 없는 클라이언트용, 요청 본문을 임시 파일 없이 그대로 저장소로 전송 (업로더 메타데이터 동일)
+ * - 확인: 완료(finalize) 요청 시 HEAD로 존재/크기/형식/업로더를 검증 (DB 저장은 각 도메인 서비스에서 수행)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UploadService {
+
+    private static final Duration PRESIGNED_URL_EXPIRES_IN = Duration.ofMinutes(15);
+    private static final String UPLOADER_METADATA_KEY = "uploader-id"; // S3는 사용자 메타데이터 Key를 소문자로 저장
+    private static final int UUID_LENGTH = 36;
+    private static final int MAX_FILE_NAME_LENGTH = 100;
+
+    private final S3Service s3Service;
+    private final UserRepository userRepository;
+
+    /**
+     * Presigned PUT URL 발급
+     *
+     * @param requestDto 업로드 폴더, 파일 이름/형식/크기
+     * @param userId     현재 인증된 사용자의 ID
+     * @return 업로드 URL과 함께 보내야 할 헤더, 완료 시 사용할 fileKey
+     */
+    public PresignedUploadResponseDto createPresignedUpload(PresignedUploadRequestDto requestDto, Long userId) {
+        UploadDirectory directory = requestDto.getDirectory();
+        checkRole(directory, userId);
+
+        if (!directory.allowsContentType(requestDto.getContentType())) {
+            throw new IllegalArgumentException("허용되지 않는 파일 형식입니다: " + requestDto.getContentType());
+        }
+        if (!directory.allowsFileSize(requestDto.getFileSize())) {
+            throw new IllegalArgumentException("파일 크기는 " + directory.getMaxFileSize().toMegabytes() + "MB 이하여야 합니다.");
+        }
+
+        // 서버 경유 업로드와 같은 Key 규칙 (예: "gallery/uuid-originalName.jpg")
+        String fileKey = directory.getDirName() + "/" + UUID.randomUUID() + "-" + sanitizeFileName(requestDto.getFileName());
+
+        // 업로더 ID를 메타데이터로 서명에 포함 -> 다른 사람이 발급받은 Key를 완료 처리할 수 없음
+        Map<String, String> metadata = Map.of(UPLOADER_METADATA_KEY, userId.toString());
+        URL uploadUrl = s3Service.createPresignedPutUrl(fileKey, requestDto.getContentType(), metadata, PRESIGNED_URL_EXPIRES_IN);
+
+        Map<String, String> headers = Map.of(
+                "Content-Type", requestDto.getContentType(),
+                "x-amz-meta-" + UPLOADER_METADATA_KEY, userId.toString());
+
+        return new PresignedUploadResponseDto(fileKey, uploadUrl.toString(), "PUT", headers,
+                LocalDateTime.now().plus(PRESIGNED_URL_EXPIRES_IN));
+    }
+
+    /**
+     * 요청 본문 스트리밍 업로드
+     * multipart가 아니므로 Tomcat이 본문을 임시 파일로 모으지 않고, 받은 만큼 바로 저장소로 전송 (크기와 무관하게 메모리/디스크 사용량 일정)
+     * 업로더 ID를 메타데이터로 함께 저장하므로 완료(finalize)는 직접 업로드와 같은 API/검증을 사용
+     *
+     * @param directory     업로드 폴더
+     * @param fileName      원본 파일 이름
+     * @param contentType   요청의 Content-Type (파일 형식)
+     * @param contentLength 요청의 Content-Length (없으면 -1)
+     * @param inputStream   요청 본문 (호출 측에서 닫음)
+     * @param userId        현재 인증된 사용자의 ID
+     * @return 완료 시 사용할 fileKey와 업로드된 파일 정보
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 업로드 동안 DB 커넥션을 점유하지 않도록
+    public StreamUploadResponseDto uploadStream(UploadDirectory directory, String fileName, String contentType,
+                                                long contentLength, InputStream inputStream, Long userId) {
+        checkRole(directory, userId);
+
+        if (contentType == null || contentType.toLowerCase().startsWith("multipart/")) {
+            throw new IllegalArgumentException("파일 내용을 요청 본문에 그대로 담고, 파일 형식을 Content-Type으로 보내야 합니다.");
+        }
+        if (!directory.allowsContentType(contentType)) {
+            throw new IllegalArgumentException("허용되지 않는 파일 형식입니다: " + contentType);
+        }
+        if (contentLength < 0) {
+            throw new IllegalArgumentException("Content-Length 헤더가 필요합니다.");
+        }
+        if (!directory.allowsFileSize(contentLength)) {
+            throw new IllegalArgumentException("파일 크기는 " + directory.getMaxFileSize().toMegabytes() + "MB 이하여야 합니다.");
+        }
+
+        // 직접 업로드와 같은 Key 규칙과 업로더 메타데이터
+        String fileKey = directory.getDirName() + "/" + UUID.randomUUID() + "-" + sanitizeFileName(fileName);
+        Map<String, String> metadata = Map.of(UPLOADER_METADATA_KEY, userId.toString());
+        String fileUrl = s3Service.uploadStream(inputStream, contentLength, contentType, fileKey, metadata);
+
+        return new StreamUploadResponseDto(fileKey, fileUrl, contentLength);
+    }
+
+    /**
+     * 직접 업로드된 파일 확인 (HEAD)
+     * 정책에 맞지 않는 파일(크기 초과, 형식 위반)은 S3에서 삭제 후 예외 발생
+     *
+     * @param directory 업로드 폴더 (fileKey가 이 폴더 아래여야 함)
+     * @param fileKeys  발급 시 받은 fileKey 목록
+     * @param userId    현재 인증된 사용자의 ID (발급받은 사용자와 같아야 함)
+     * @return 확인된 파일 정보 (fileKeys와 같은 순서, 중복 제거)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // S3 HEAD 호출 동안 DB 커넥션을 점유하지 않도록
+    public List<VerifiedUploadDto> verifyUploads(UploadDirectory directory, List<String> fileKeys, Long userId) {
+        checkRole(directory, userId);
+
+        String prefix = directory.getDirName() + "/";
+        List<VerifiedUploadDto> uploads = new ArrayList<>(fileKeys.size());
+
+        for (String fileKey : new LinkedHashSet<>(fileKeys)) {
+            if (fileKey == null || !fileKey.startsWith(prefix) || fileKey.length() <= prefix.length() + UUID_LENGTH + 1) {
+                throw new IllegalArgumentException("잘못된 파일 Key입니다: " + fileKey);
+            }
+
+            StorageObjectInfo head = s3Service.headObject(fileKey)
+                    .orElseThrow(() -> new EntityNotFoundException("업로드된 파일을 찾을 수 없습니다: " + fileKey));
+
+            if (!userId.toString().equals(head.metadata().get(UPLOADER_METADATA_KEY))) {
+                throw new AccessDeniedException("본인이 업로드한 파일만 등록할 수 있습니다.");
+            }
+
+            long fileSize = head.contentLength();
+            if (!directory.allowsFileSize(fileSize) || !directory.allowsContentType(head.contentType())) {
+                // Presigned PUT은 크기를 강제할 수 없으므로 여기서 걸러내고 정리
+                s3Service.deleteFile(fileKey);
+                throw new IllegalArgumentException("업로드 정책에 맞지 않는 파일입니다: " + fileKey);
+            }
+
+            // Key 규칙 "dir/uuid-originalName"에서 원본 파일 이름 복원
+            String fileName = fileKey.substring(prefix.length() + UUID_LENGTH + 1);
+            uploads.add(new VerifiedUploadDto(s3Service.getUrl(fileKey), fileName, fileSize, head.contentType()));
+        }
+
+        return uploads;
+    }
+
+    // 폴더별 업로드 권한 확인
+    private void checkRole(UploadDirectory directory, Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new EntityNotFoundException("해당 ID의 유저를 찾을 수 없습니다: " + userId));
+
+        if (!directory.getAllowedRoles().contains(user.getRole())) {
+            throw new AccessDeniedException("이 폴더에 업로드할 권한이 없습니다.");
+        }
+    }
+
+    // Key에 쓸 수 없는 문자(경로 구분자, 제어 문자) 제거 및 길이 제한
+    private String sanitizeFileName(String fileName) {
+        String sanitized = fileName.replaceAll("[\\\\/\\p{Cntrl}]", "_").trim();
+        if (sanitized.length() > MAX_FILE_NAME_LENGTH) {
+            sanitized = sanitized.substring(sanitized.length() - MAX_FILE_NAME_LENGTH); // 확장자가 남도록 뒤쪽 유지
+        }
+        return sanitized.isEmpty() ? "file" : sanitized;
+    }
+}
@@ -14,9 +14,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.ArrayList;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -27,6 +31,7 @@ public class UserService {
     private final S3Service s3Service;
     private final MemberProfileRepository memberProfileRepository;
     private final WithdrawalHistoryRepository withdrawalHistoryRepository;
+    private final TransactionTemplate transactionTemplate; // S3 업로드 후 짧은 트랜잭션으로 DB 저장
 
     /**
      * OAuth 로그인 후, 추가 필수 정보(핸드폰, 생년월일 등)를 입력받아 저장한다.
@@ -144,9 +149,9 @@ public class UserService {
                 .build();
         withdrawalHistoryRepository.save(history); // Repository 생성 필요
 
-        // S3 이미지 삭제
+        // S3 이미지 삭제 (커밋 후)
         if (user.getProfileImageKey() != null) {
-            s3Service.deleteFile(user.getProfileImageKey());
+            s3Service.deleteFileAfterCommit(user.getProfileImageKey());
         }
         // 탈퇴 시 연관된 MemberProfile 등은 Cascade 설정에 따라 처리됨.
         userRepository.delete(user);
@@ -176,10 +181,8 @@ public class UserService {
     @Transactional(readOnly = true)
     public PageResponseDto<UserAdminListResponseDto> getUsersForAdmin(Role role, String name, Pageable pageable) {
 
-        Page<User> userPage = userRepository.findAllForAdmin(role, name, pageable);
-
-        // Entity -> Admin용 DTO 변환
-        Page<UserAdminListResponseDto> dtoPage = userPage.map(UserAdminListResponseDto::new);
+        // 생성자 프로젝션 쿼리 호출 (User/MemberProfile 엔티티 로딩 없이 필요한 컬럼만 조회)
+        Page<UserAdminListResponseDto> dtoPage = userRepository.findAdminUserList(role, name, pageable);
 
         return new PageResponseDto<>(dtoPage);
     }
@@ -207,42 +210,47 @@ public class UserService {
     /**
      * 내 프로필 이미지 수정 (S3 업로드)
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // S3 업로드 동안 DB 커넥션을 점유하지 않도록 트랜잭션 밖에서 실행
     public UserResponseDto updateProfileImage(Long userId, MultipartFile file, String target) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다: " + userId));
-
-        // 타겟 확인 및 기존 이미지 삭제
-        String oldImageKey;
-
-        if ("MEMBER".equalsIgnoreCase(target)) {
-            // [단원 프로필 수정]
-            if ((user.getRole() != Role.MEMBER && user.getRole() != Role.ADMIN) || user.getMemberProfile() == null) {
-                throw new IllegalStateException("정단원만 단원 프로필 이미지를 설정할 수 있습니다.");
-            }
-            oldImageKey = user.getMemberProfile().getProfileImageKey();
-        } else {
-            // [기본 유저 프로필 수정]
-            oldImageKey = user.getProfileImageKey();
-        }
 
-        // 기존 파일 삭제 (S3)
-        if (oldImageKey != null && !oldImageKey.isEmpty()) {
-            s3Service.deleteFile(oldImageKey);
-        }
-
-        // 새 이미지 업로드
+        // 새 이미지 업로드 (트랜잭션 밖)
         // 폴더명을 구분하면 관리가 더 편함 (profile/user vs profile/member)
         String folderName = "MEMBER".equalsIgnoreCase(target) ? "profile/member" : "profile/user";
         String newImageUrl = s3Service.uploadFile(file, folderName);
 
-        // DB 업데이트 (분기 처리)
-        if ("MEMBER".equalsIgnoreCase(target)) {
-            user.getMemberProfile().updateProfileImage(newImageUrl);
-        } else {
-            user.updateProfileImage(newImageUrl);
-        }
+        // 짧은 트랜잭션으로 DB 수정 (정단원이 아닌 경우 등 실패 시 업로드한 이미지 삭제)
+        return s3Service.runWithCompensation(List.of(newImageUrl), () -> transactionTemplate.execute(status -> {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다: " + userId));
+
+            // 타겟 확인 및 기존 이미지 확인
+            String oldImageKey;
+
+            if ("MEMBER".equalsIgnoreCase(target)) {
+                // [단원 프로필 수정]
+                if ((user.getRole() != Role.MEMBER && user.getRole() != Role.ADMIN) || user.getMemberProfile() == null) {
+                    throw new IllegalStateException("정단원만 단원 프로필 이미지를 설정할 수 있습니다.");
+                }
+                oldImageKey = user.getMemberProfile().getProfileImageKey();
+            } else {
+                // [기본 유저 프로필 수정]
+                oldImageKey = user.getProfileImageKey();
+            }
 
-        return new UserResponseDto(user, user.getMemberProfile());
+            // 기존 파일 삭제 (S3, 커밋 후)
+            if (oldImageKey != null && !oldImageKey.isEmpty()) {
+                s3Service.deleteFileAfterCommit(oldImageKey);
+            }
+
+            // DB 업데이트 (분기 처리)
+            if ("MEMBER".equalsIgnoreCase(target)) {
+                user.getMemberProfile().updateProfileImage(newImageUrl);
+            } else {
+                user.updateProfileImage(newImageUrl);
+            }
+
+            return new UserResponseDto(user, user.getMemberProfile());
+        }));
     }
 
     /**
@@ -253,15 +261,13 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
 
-        // 프로필 이미지가 있다면 S3에서 삭제
-        if (user.getProfileImageKey() != null) {
-            s3Service.deleteFile(user.getProfileImageKey());
-        }
-
-        // 단원 프로필 사진도 있다면 삭제
-        if (user.getMemberProfile() != null && user.getMemberProfile().getProfileImageKey() != null) {
-            s3Service.deleteFile(user.getMemberProfile().getProfileImageKey());
+        // 프로필 이미지, 단원 프로필 사진이 있다면 S3에서 한 번에 삭제 (커밋 후, null은 무시됨)
+        List<String> fileKeysToDelete = new ArrayList<>();
+        fileKeysToDelete.add(user.getProfileImageKey());
+        if (user.getMemberProfile() != null) {
+            fileKeysToDelete.add(user.getMemberProfile().getProfileImageKey());
         }
+        s3Service.deleteFilesAfterCommit(fileKeysToDelete);
 
         // DB에서 삭제 (Cascade 설정에 따라 연관 데이터도 삭제됨)
         userRepository.delete(user);
@@ -0,0 +1,142 @@
+package kr.ulsan.dreamshowchoir.dungeong.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 조회수 Write-Behind 서비스
+ * - 상세 조회 시에는 메모리 카운터(LongAdder)만 증가시키고 DB에는 쓰지 않음
+ * - 일정 주기(기본 10초)와 애플리케이션 종료 시에 누적된 증가분을 테이블당 UPDATE 1번으로 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ViewCountService {
+
+    /**
+     * 조회수 대상 테이블
+     */
+    public enum Target {
+        POST("\"Post\"", "\"POST_ID\""),
+        NOTICE("\"Notice\"", "\"NOTICE_ID\""),
+        GALLERY("\"Gallery\"", "\"GALLERY_ID\"");
+
+        private final String table;
+        private final String idColumn;
+
+        Target(String table, String idColumn) {
+            this.table = table;
+            this.idColumn = idColumn;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 대상별 (ID -> 증가분) 카운터
+    // LongAdder는 내부적으로 셀을 분산(striping)해서 동시 증가 시 경합이 적음
+    private final Map<Target, ConcurrentHashMap<Long, LongAdder>> counters = createCounters();
+
+    /**
+     * 조회수 1 증가 (메모리에만 반영)
+     */
+    public void increase(Target target, Long id) {
+        ConcurrentHashMap<Long, LongAdder> counter = counters.get(target);
+        LongAdder adder = counter.computeIfAbsent(id, key -> new LongAdder());
+        adder.increment();
+
+        // 증가하는 사이 flush가 유휴 카운터로 보고 맵에서 제거했다면, 제거된 카운터는 다시 읽히지 않으므로 새 카운터에 옮겨 담음
+        while (counter.get(id) != adder) {
+            adder = counter.computeIfAbsent(id, key -> new LongAdder());
+            adder.increment();
+        }
+    }
+
+    /**
+     * 누적된 증가분을 DB에 반영 (주기 실행)
+     */
+    @Scheduled(fixedDelayString = "${view-count.flush-interval-ms:10000}")
+    public void flush() {
+        for (Target target : Target.values()) {
+            flush(target);
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 증가분 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 대상 테이블 하나의 증가분을 UPDATE 1번으로 반영
+    private void flush(Target target) {
+        ConcurrentHashMap<Long, LongAdder> counter = counters.get(target);
+        if (counter.isEmpty()) {
+            return;
+        }
+
+        // 카운터는 맵에 둔 채 합계를 읽으면서 0으로 되돌림 (셀 단위 getAndSet이라 동시 증가분도 이번 또는 다음 주기에 반영)
+        // 이번 주기에 증가분이 없던 카운터만 합계가 여전히 0일 때 맵에서 제거 (유휴 ID가 쌓이지 않도록)
+        List<Long> ids = new ArrayList<>();
+        List<Long> deltas = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : counter.entrySet()) {
+            Long id = entry.getKey();
+            LongAdder adder = entry.getValue();
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                ids.add(id);
+                deltas.add(delta);
+            } else {
+                counter.computeIfPresent(id, (key, current) -> current == adder && current.sum() == 0 ? null : current);
+            }
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        // 배열 파라미터(unnest)로 여러 행을 UPDATE 1번에 반영
+        String sql = "UPDATE " + target.table + " t " +
+                "SET \"VIEW_COUNT\" = t.\"VIEW_COUNT\" + v.delta " +
+                "FROM unnest(?, ?) AS v(id, delta) " +
+                "WHERE t." + target.idColumn + " = v.id";
+
+        try {
+            int updated = jdbcTemplate.update(sql, ps -> {
+                Connection connection = ps.getConnection();
+                Array idArray = connection.createArrayOf("bigint", ids.toArray());
+                Array deltaArray = connection.createArrayOf("bigint", deltas.toArray());
+                ps.setArray(1, idArray);
+                ps.setArray(2, deltaArray);
+            });
+            log.debug("조회수 반영 완료: target={}, rows={}", target, updated);
+        } catch (Exception e) {
+            // DB 반영 실패 시 증가분을 다시 카운터에 돌려놓고 다음 주기에 재시도
+            log.error("조회수 반영 실패 (다음 주기에 재시도): target={}", target, e);
+            for (int i = 0; i < ids.size(); i++) {
+                counter.computeIfAbsent(ids.get(i), key -> new LongAdder()).add(deltas.get(i));
+            }
+        }
+    }
+
+    private static Map<Target, ConcurrentHashMap<Long, LongAdder>> createCounters() {
+        Map<Target, ConcurrentHashMap<Long, LongAdder>> map = new EnumMap<>(Target.class);
+        for (Target target : Target.values()) {
+            map.put(target, new ConcurrentHashMap<>());
+        }
+        return map;
+    }
+}
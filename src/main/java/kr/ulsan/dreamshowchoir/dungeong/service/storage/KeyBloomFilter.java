@@ -0,0 +1,70 @@
+package kr.ulsan.dreamshowchoir.dungeong.service.storage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+
+/**
+ * 객체 Key 집합의 Bloom filter (고아 객체 GC에서 "DB가 참조 중인 Key" 판별용)
+ * - mightContain이 false면 확실히 참조되지 않는 Key
+ * - true는 오탐(false positive)일 수 있음 -> 고아 객체를 이번에 남겨둘 뿐 참조 중인 객체를 지우지는 않음
+ * - Key 문자열을 모두 들고 있는 대신 Key당 약 10비트(오탐률 1% 기준)만 사용
+ */
+public class KeyBloomFilter {
+
+    private final BitSet bits;
+    private final int bitCount;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions 넣을 Key 수 (예상치, 넘치면 오탐률만 올라감)
+     * @param falsePositiveRate  목표 오탐률 (예: 0.01)
+     */
+    public KeyBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        long optimalBits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = (int) Math.min(Integer.MAX_VALUE - 1, Math.max(64, optimalBits));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+        this.bits = new BitSet(bitCount);
+    }
+
+    public void put(String key) {
+        long hash = hash64(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            bits.set(indexOf(h1 + i * h2));
+        }
+    }
+
+    public boolean mightContain(String key) {
+        long hash = hash64(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            if (!bits.get(indexOf(h1 + i * h2))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 이중 해싱(h1 + i * h2)으로 k개의 위치를 만듦 (음수는 비트 반전)
+    private int indexOf(int combinedHash) {
+        return (combinedHash < 0 ? ~combinedHash : combinedHash) % bitCount;
+    }
+
+    // FNV-1a 64비트 + MurmurHash3 fmix64 (상위/하위 32비트를 고르게 섞기 위함)
+    private static long hash64(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb93fe53e1a85L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,433 @@
+package kr.ulsan.dreamshowchoir.dungeong.service.storage;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.util.UriUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.UserDefinedFileAttributeView;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 파일 시스템 저장소 ("local-storage" 프로필)
+ * AWS 없이 한 대의 서버에서 업로드/변환/다운로드 전체 흐름을 실행하고 부하 테스트하기 위한 용도
+ * - 쓰기: 임시 파일에 FileChannel.transferFrom으로 받은 뒤 원자적 이동 (읽는 쪽이 덜 쓴 파일을 보지 않음)
+ * - 스트림 읽기: mmap-threshold 이하의 작은 파일은 메모리 매핑(MappedByteBuffer), 큰 파일은 채널 스트림 (byte[] 다운로드는 readAllBytes)
+ * - URL: {base-url}/{key} (LocalStorageWebConfig가 정적 리소스로 제공)
+ * - 직접 업로드: {upload-url}/{key}?expires=...&signature=... 형식의 서명된 PUT URL (LocalStorageController가 검증 후 저장)
+ */
+@Slf4j
+@Component
+@Profile("local-storage")
+public class LocalStorageBackend implements StorageBackend {
+
+    private static final long TRANSFER_CHUNK_SIZE = DataSize.ofMegabytes(8).toBytes();
+    private static final String CONTENT_TYPE_ATTRIBUTE = "dungeong.content-type"; // 업로드 시 받은 Content-Type (사용자 메타데이터와 구분)
+
+    @Value("${storage.local.root-dir:${java.io.tmpdir}/dungeong-storage}")
+    private Path rootDir;
+
+    @Value("${storage.local.base-url:http://localhost:8080/local-storage}")
+    private String baseUrl;
+
+    // 직접 업로드(PUT) 주소 (정적 리소스 경로와 겹치면 GET 요청이 405가 되므로 별도 경로 사용)
+    @Value("${storage.local.upload-url:http://localhost:8080/local-storage-upload}")
+    private String uploadUrl;
+
+    // 직접 업로드 URL 서명 키 (지정하지 않으면 실행할 때마다 새로 만듦 -> 재시작 전에 발급한 URL은 무효)
+    @Value("${storage.local.signing-secret:#{T(java.util.UUID).randomUUID().toString()}}")
+    private String signingSecret;
+
+    // 이 크기 이하의 파일은 메모리 매핑으로 읽음 (썸네일, 변환본 등 자주 읽는 작은 파일)
+    @Value("${storage.local.mmap-threshold:4MB}")
+    private DataSize mmapThreshold;
+
+    @PostConstruct
+    public void init() throws IOException {
+        rootDir = rootDir.toAbsolutePath().normalize();
+        Files.createDirectories(rootDir);
+        log.info("로컬 파일 저장소 사용: {} ({})", rootDir, baseUrl);
+    }
+
+    @Override
+    public String upload(String key, InputStream inputStream, long contentLength, String contentType, Map<String, String> metadata) {
+        Path target = resolve(key);
+        Path temp = target.resolveSibling("." + UUID.randomUUID() + ".part");
+
+        try {
+            Files.createDirectories(target.getParent());
+            try (ReadableByteChannel source = Channels.newChannel(inputStream);
+                 FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                long position = 0;
+                long transferred;
+                // transferFrom은 요청한 만큼 다 받지 못할 수 있으므로 입력이 끝날 때까지 반복
+                while ((transferred = channel.transferFrom(source, position, TRANSFER_CHUNK_SIZE)) > 0) {
+                    position += transferred;
+                }
+            }
+            writeMetadata(temp, contentType, metadata);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return getUrl(key);
+
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            log.error("로컬 저장소 업로드 중 오류 발생: {}", e.getMessage());
+            throw new RuntimeException("파일 업로드에 실패했습니다.", e);
+        }
+    }
+
+    @Override
+    public byte[] download(String key) {
+        // 결과가 byte[]이므로 매핑 후 복사하지 않고 바로 읽음 (매핑은 스트림으로 읽는 openStream에서만 사용)
+        Path path = resolve(key);
+        try {
+            return Files.readAllBytes(path);
+
+        } catch (IOException e) {
+            log.error("로컬 저장소 다운로드 중 오류 발생: {}", e.getMessage());
+            throw new RuntimeException("파일 다운로드에 실패했습니다.", e);
+        }
+    }
+
+    @Override
+    public InputStream openStream(String key, Long start, Long end, String ifMatch) {
+        Path path = resolve(key);
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            if (ifMatch != null && !ifMatch.equals(etagOf(attributes))) {
+                throw new IllegalStateException("파일이 변경되었습니다: " + key);
+            }
+
+            long size = attributes.size();
+            long from = start != null ? start : 0;
+            long to = end != null ? Math.min(end, size - 1) : size - 1;
+            long length = Math.max(0, to - from + 1);
+
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+            if (size <= mmapThreshold.toBytes()) {
+                // 작은 파일: 요청 구간만 매핑 (매핑은 채널을 닫아도 유지됨)
+                try (channel) {
+                    MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, from, length);
+                    return new ByteBufferInputStream(buffer);
+                }
+            }
+
+            // 큰 파일: 시작 위치로 이동한 채널에서 필요한 길이만 읽음
+            channel.position(from);
+            return new BoundedInputStream(Channels.newInputStream(channel), length);
+
+        } catch (NoSuchFileException e) {
+            throw new IllegalStateException("파일을 찾을 수 없습니다: " + key, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Optional<StorageObjectInfo> head(String key) {
+        Path path = resolve(key);
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            Map<String, String> attributesByName = readAttributes(path);
+            // 업로드 시 저장한 Content-Type (확장 속성을 지원하지 않는 파일 시스템이면 확장자로 추정)
+            String contentType = attributesByName.remove(CONTENT_TYPE_ATTRIBUTE);
+            if (contentType == null) {
+                contentType = MediaTypeFactory.getMediaType(path.getFileName().toString())
+                        .map(Object::toString)
+                        .orElse(null);
+            }
+            return Optional.of(new StorageObjectInfo(attributes.size(), contentType, etagOf(attributes),
+                    attributes.lastModifiedTime().toInstant(), attributesByName));
+
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Map<String, String> deleteAll(List<String> keys) {
+        Map<String, String> failures = new LinkedHashMap<>();
+        for (String key : keys) {
+            try {
+                Files.deleteIfExists(resolve(key));
+            } catch (IOException | IllegalArgumentException e) {
+                failures.put(key, e.getMessage());
+            }
+        }
+        return failures;
+    }
+
+    @Override
+    public Stream<StorageObjectSummary> list(String prefix) {
+        // 접두어의 폴더 부분부터 탐색 (예: "post/" -> rootDir/post)
+        int lastSlash = prefix.lastIndexOf('/');
+        Path start = lastSlash < 0 ? rootDir : resolve(prefix.substring(0, lastSlash));
+        if (!Files.isDirectory(start)) {
+            return Stream.empty();
+        }
+
+        try {
+            return Files.walk(start)
+                    .filter(Files::isRegularFile)
+                    .filter(path -> !path.getFileName().toString().endsWith(".part")) // 업로드 중인 임시 파일 제외
+                    .map(this::toSummary)
+                    .filter(summary -> summary.key().startsWith(prefix));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 서명된 PUT URL 발급 (S3 Presigned URL과 같이 Key/Content-Type/메타데이터/만료 시각을 서명에 포함)
+     * 업로드 요청은 같은 Content-Type과 x-amz-meta-* 헤더를 보내야 검증을 통과함
+     */
+    @Override
+    public URL createPresignedPutUrl(String key, String contentType, Map<String, String> metadata, Duration expiresIn) {
+        resolve(key); // 루트 밖으로 나가는 Key는 발급 단계에서 거부
+        long expires = Instant.now().plus(expiresIn).getEpochSecond();
+        String url = uploadUrl + "/" + UriUtils.encodePath(key, StandardCharsets.UTF_8)
+                + "?expires=" + expires
+                + "&signature=" + sign(key, contentType, metadata, expires);
+        try {
+            return URI.create(url).toURL();
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException("업로드 URL 생성에 실패했습니다: " + url, e);
+        }
+    }
+
+    /**
+     * 서명된 PUT 요청 검증 (만료 시각이 지났거나 서명이 다르면 false)
+     *
+     * @param key         업로드할 Key
+     * @param contentType 요청의 Content-Type
+     * @param metadata    요청의 x-amz-meta-* 헤더 (Key는 접두어를 뺀 소문자)
+     * @param expires     URL의 만료 시각 (epoch seconds)
+     * @param signature   URL의 서명
+     */
+    public boolean verifyPresignedPut(String key, String contentType, Map<String, String> metadata, long expires, String signature) {
+        if (signature == null || Instant.now().getEpochSecond() > expires) {
+            return false;
+        }
+        String expected = sign(key, contentType, metadata, expires);
+        return MessageDigest.isEqual(expected.getBytes(StandardCharsets.US_ASCII), signature.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Override
+    public String getUrl(String key) {
+        return baseUrl + "/" + UriUtils.encodePath(key, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String toKey(String fileUrl) {
+        String prefix = baseUrl + "/";
+        if (fileUrl.startsWith(prefix)) {
+            return UriUtils.decode(fileUrl.substring(prefix.length()), StandardCharsets.UTF_8);
+        }
+        return fileUrl;
+    }
+
+    // Key -> 파일 경로 (루트 밖으로 나가는 Key는 거부)
+    private Path resolve(String key) {
+        Path path = rootDir.resolve(key).normalize();
+        if (!path.startsWith(rootDir)) {
+            throw new IllegalArgumentException("잘못된 파일 Key입니다: " + key);
+        }
+        return path;
+    }
+
+    // 파일 경로 -> 목록 항목 (Key는 S3와 같이 '/' 구분자 사용)
+    private StorageObjectSummary toSummary(Path path) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            String key = rootDir.relativize(path).toString().replace(path.getFileSystem().getSeparator(), "/");
+            return new StorageObjectSummary(key, attributes.size(), attributes.lastModifiedTime().toInstant());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Content-Type과 사용자 메타데이터는 파일 확장 속성(user xattr)에 저장 (지원하지 않는 파일 시스템이면 저장하지 않음)
+    private void writeMetadata(Path path, String contentType, Map<String, String> metadata) {
+        UserDefinedFileAttributeView view = Files.getFileAttributeView(path, UserDefinedFileAttributeView.class);
+        if (view == null) {
+            return;
+        }
+        try {
+            if (contentType != null) {
+                view.write(CONTENT_TYPE_ATTRIBUTE, StandardCharsets.UTF_8.encode(contentType));
+            }
+            for (Map.Entry<String, String> entry : metadata.entrySet()) {
+                view.write(entry.getKey(), StandardCharsets.UTF_8.encode(entry.getValue()));
+            }
+        } catch (IOException | UnsupportedOperationException e) {
+            log.warn("메타데이터 저장 실패 ({}): {}", path, e.getMessage());
+        }
+    }
+
+    // 확장 속성 전체 (Content-Type 포함, 호출 측에서 분리)
+    private Map<String, String> readAttributes(Path path) {
+        UserDefinedFileAttributeView view = Files.getFileAttributeView(path, UserDefinedFileAttributeView.class);
+        if (view == null) {
+            return new LinkedHashMap<>();
+        }
+        try {
+            Map<String, String> attributes = new LinkedHashMap<>();
+            for (String name : view.list()) {
+                ByteBuffer buffer = ByteBuffer.allocate(view.size(name));
+                view.read(name, buffer);
+                attributes.put(name, StandardCharsets.UTF_8.decode(buffer.flip()).toString());
+            }
+            return attributes;
+        } catch (IOException | UnsupportedOperationException e) {
+            return new LinkedHashMap<>();
+        }
+    }
+
+    // HMAC-SHA256(Key, Content-Type, 메타데이터(이름순), 만료 시각) -> URL-safe Base64
+    private String sign(String key, String contentType, Map<String, String> metadata, long expires) {
+        StringBuilder canonical = new StringBuilder()
+                .append(key).append('\n')
+                .append(contentType == null ? "" : contentType.toLowerCase()).append('\n');
+        new TreeMap<>(metadata).forEach((name, value) -> canonical.append(name).append('=').append(value).append('\n'));
+        canonical.append(expires);
+
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(signingSecret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            byte[] digest = mac.doFinal(canonical.toString().getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("업로드 URL 서명에 실패했습니다.", e);
+        }
+    }
+
+    // 크기 + 수정 시각으로 만든 ETag (S3와 같이 따옴표 포함)
+    private String etagOf(BasicFileAttributes attributes) {
+        return "\"" + Long.toHexString(attributes.size()) + "-" + Long.toHexString(attributes.lastModifiedTime().toMillis()) + "\"";
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패 ({}): {}", path, e.getMessage());
+        }
+    }
+
+    // 메모리 매핑된 버퍼를 읽는 InputStream
+    private static class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(len, buffer.remaining());
+            buffer.get(b, off, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+
+    // 지정한 길이까지만 읽는 InputStream (Range 요청)
+    private static class BoundedInputStream extends InputStream {
+
+        private final InputStream delegate;
+        private long remaining;
+
+        BoundedInputStream(InputStream delegate, long length) {
+            this.delegate = delegate;
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int b = delegate.read();
+            if (b != -1) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int read = delegate.read(b, off, (int) Math.min(len, remaining));
+            if (read > 0) {
+                remaining -= read;
+            }
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
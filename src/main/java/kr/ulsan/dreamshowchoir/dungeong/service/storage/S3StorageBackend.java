@@ -0,0 +1,214 @@
+package kr.ulsan.dreamshowchoir.dungeong.service.storage;
+
+import io.awspring.cloud.s3.ObjectMetadata;
+import io.awspring.cloud.s3.S3Resource;
+import io.awspring.cloud.s3.S3Template;
+import kr.ulsan.dreamshowchoir.dungeong.service.S3MultipartUploadService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriUtils;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * S3 저장소 (기본, "local-storage" 프로필이 아닐 때)
+ */
+@Slf4j
+@Component
+@Profile("!local-storage")
+@RequiredArgsConstructor
+public class S3StorageBackend implements StorageBackend {
+
+    private final S3Template s3Template;
+    private final S3Client s3Client;
+    private final S3MultipartUploadService multipartUploadService;
+
+    @Value("${spring.cloud.aws.s3.bucket}")
+    private String bucketName;
+
+    @Override
+    public String upload(String key, InputStream inputStream, long contentLength, String contentType, Map<String, String> metadata) {
+        // 큰 파일(동영상 등)은 파트를 나눠 동시에 업로드
+        if (contentLength >= 0 && multipartUploadService.shouldUseMultipart(contentLength)) {
+            return multipartUploadService.upload(inputStream, key, contentType, metadata);
+        }
+
+        // 크기를 알면 PutObject에 Content-Length를 주고 스트림을 그대로 전송 (SDK가 길이 계산용으로 버퍼링하지 않음)
+        if (contentLength >= 0) {
+            s3Client.putObject(builder -> builder
+                            .bucket(bucketName)
+                            .key(key)
+                            .contentLength(contentLength)
+                            .contentType(contentType)
+                            .cacheControl(IMMUTABLE_CACHE_CONTROL)
+                            .metadata(metadata),
+                    RequestBody.fromInputStream(inputStream, contentLength));
+            return getUrl(key);
+        }
+
+        // 크기를 모르는 경우에만 S3Template이 임시 버퍼에 모은 뒤 업로드
+        ObjectMetadata.Builder objectMetadata = ObjectMetadata.builder().cacheControl(IMMUTABLE_CACHE_CONTROL);
+        if (contentType != null) {
+            objectMetadata.contentType(contentType);
+        }
+        metadata.forEach(objectMetadata::metadata);
+
+        try {
+            S3Resource resource = s3Template.upload(bucketName, key, inputStream, objectMetadata.build());
+            return resource.getURL().toString();
+
+        } catch (IOException e) {
+            log.error("S3 업로드 중 오류 발생: {}", e.getMessage());
+            throw new RuntimeException("파일 업로드에 실패했습니다.", e);
+        }
+    }
+
+    @Override
+    public byte[] download(String key) {
+        try (InputStream inputStream = s3Template.download(bucketName, key).getInputStream()) {
+            return inputStream.readAllBytes();
+
+        } catch (IOException e) {
+            log.error("S3 다운로드 중 오류 발생: {}", e.getMessage());
+            throw new RuntimeException("파일 다운로드에 실패했습니다.", e);
+        }
+    }
+
+    @Override
+    public InputStream openStream(String key, Long start, Long end, String ifMatch) {
+        String range = start != null ? "bytes=" + start + "-" + (end != null ? end : "") : null;
+        ResponseInputStream<GetObjectResponse> inputStream = s3Client.getObject(builder -> builder
+                .bucket(bucketName)
+                .key(key)
+                .range(range)
+                .ifMatch(ifMatch));
+        return new AbortOnEarlyCloseInputStream(inputStream);
+    }
+
+    @Override
+    public Optional<StorageObjectInfo> head(String key) {
+        try {
+            HeadObjectResponse head = s3Client.headObject(builder -> builder.bucket(bucketName).key(key));
+            return Optional.of(new StorageObjectInfo(head.contentLength(), head.contentType(), head.eTag(),
+                    head.lastModified(), head.metadata()));
+
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return Optional.empty();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        s3Template.deleteObject(bucketName, key);
+    }
+
+    @Override
+    public Map<String, String> deleteAll(List<String> keys) {
+        List<ObjectIdentifier> objects = keys.stream()
+                .map(key -> ObjectIdentifier.builder().key(key).build())
+                .toList();
+
+        // quiet 모드: 응답에 실패한 Key만 담김 (성공 목록을 받지 않음)
+        DeleteObjectsResponse response = s3Client.deleteObjects(builder -> builder
+                .bucket(bucketName)
+                .delete(delete -> delete.objects(objects).quiet(true)));
+
+        Map<String, String> failures = new LinkedHashMap<>();
+        for (S3Error error : response.errors()) {
+            failures.put(error.key(), error.code() + ": " + error.message());
+        }
+        return failures;
+    }
+
+    @Override
+    public Stream<StorageObjectSummary> list(String prefix) {
+        // Paginator는 스트림을 소비하는 만큼 다음 페이지(최대 1000개)를 요청 (continuation token 자동 처리)
+        return s3Client.listObjectsV2Paginator(builder -> builder.bucket(bucketName).prefix(prefix))
+                .contents()
+                .stream()
+                .map(object -> new StorageObjectSummary(object.key(), object.size(), object.lastModified()));
+    }
+
+    @Override
+    public URL createPresignedPutUrl(String key, String contentType, Map<String, String> metadata, Duration expiresIn) {
+        ObjectMetadata.Builder builder = ObjectMetadata.builder().contentType(contentType);
+        metadata.forEach(builder::metadata);
+        return s3Template.createSignedPutURL(bucketName, key, expiresIn, builder.build(), contentType);
+    }
+
+    @Override
+    public String getUrl(String key) {
+        return s3Client.utilities().getUrl(builder -> builder.bucket(bucketName).key(key)).toString();
+    }
+
+    @Override
+    public String toKey(String fileUrl) {
+        if (fileUrl.contains("amazonaws.com/")) {
+            // URL의 경로는 퍼센트 인코딩되어 있음 (한글 파일명 등) -> 실제 Key로 복원
+            return UriUtils.decode(fileUrl.substring(fileUrl.indexOf("amazonaws.com/") + 14), StandardCharsets.UTF_8);
+        }
+        return fileUrl;
+    }
+
+    // 끝까지 읽기 전에 닫으면 abort() -> 남은 본문을 받지 않고 커넥션 종료 (클라이언트가 탐색/취소한 경우)
+    private static class AbortOnEarlyCloseInputStream extends FilterInputStream {
+
+        private final ResponseInputStream<GetObjectResponse> response;
+        private boolean eof;
+
+        AbortOnEarlyCloseInputStream(ResponseInputStream<GetObjectResponse> response) {
+            super(response);
+            this.response = response;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            eof = b == -1;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            eof = read == -1;
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!eof) {
+                response.abort();
+            }
+            super.close();
+        }
+    }
+}
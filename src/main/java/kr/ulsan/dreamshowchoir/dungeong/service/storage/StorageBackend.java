@@ -0,0 +1,108 @@
+package kr.ulsan.dreamshowchoir.dungeong.service.storage;
+
+import java.io.InputStream;
+import java.net.URL;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 파일 저장소 추상화 (S3Service가 실제 저장소 대신 이 인터페이스를 사용)
+ * - S3StorageBackend: 운영용 (기본)
+ * - LocalStorageBackend: 로컬 파일 시스템 ("local-storage" 프로필, AWS 없이 업로드/다운로드 전체 흐름 테스트용)
+ *
+ * Key 규칙은 저장소와 무관하게 "폴더/uuid-파일명" 형식을 사용
+ */
+public interface StorageBackend {
+
+    // 일괄 삭제 한 번에 보낼 수 있는 최대 Key 수 (S3 DeleteObjects 제한)
+    int MAX_DELETE_BATCH_SIZE = 1000;
+
+    // 업로드 객체의 Cache-Control (Key에 UUID가 들어가 내용이 바뀌지 않으므로 브라우저/CDN이 오래 캐시해도 됨)
+    String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    /**
+     * 업로드 후 파일의 전체 URL 반환
+     *
+     * @param key           저장할 Key
+     * @param inputStream   업로드할 내용 (호출 측에서 닫음)
+     * @param contentLength 크기 (모르면 -1)
+     * @param contentType   Content-Type (없으면 null)
+     */
+    default String upload(String key, InputStream inputStream, long contentLength, String contentType) {
+        return upload(key, inputStream, contentLength, contentType, Map.of());
+    }
+
+    /**
+     * 사용자 메타데이터와 함께 업로드 후 파일의 전체 URL 반환
+     * 크기를 알면 버퍼링 없이 입력 스트림을 그대로 저장소로 흘려보냄
+     *
+     * @param key           저장할 Key
+     * @param inputStream   업로드할 내용 (호출 측에서 닫음)
+     * @param contentLength 크기 (모르면 -1)
+     * @param contentType   Content-Type (없으면 null)
+     * @param metadata      사용자 메타데이터 (S3의 x-amz-meta-*)
+     */
+    String upload(String key, InputStream inputStream, long contentLength, String contentType, Map<String, String> metadata);
+
+    /**
+     * 파일 전체를 읽어옴 (서버 측 후처리용, 작은 파일 대상)
+     */
+    byte[] download(String key);
+
+    /**
+     * 본문을 스트림으로 열기 (전체를 메모리에 올리지 않음)
+     * 끝까지 읽지 않고 닫으면 남은 본문은 받지 않음
+     *
+     * @param key     조회할 Key
+     * @param start   시작 위치 (전체면 null)
+     * @param end     끝 위치, 포함 (전체면 null)
+     * @param ifMatch 이 ETag와 다르면 예외 (확인하지 않으면 null)
+     */
+    InputStream openStream(String key, Long start, Long end, String ifMatch);
+
+    /**
+     * 객체 정보 조회 (본문은 읽지 않음)
+     *
+     * @return 객체 정보 (없으면 empty)
+     */
+    Optional<StorageObjectInfo> head(String key);
+
+    /**
+     * 삭제 (이미 없는 Key여도 성공)
+     */
+    void delete(String key);
+
+    /**
+     * 여러 Key를 한 번의 요청으로 삭제 (이미 없는 Key여도 성공)
+     *
+     * @param keys 삭제할 Key 목록 (최대 MAX_DELETE_BATCH_SIZE개)
+     * @return 삭제에 실패한 Key와 실패 사유 (모두 성공하면 빈 Map)
+     */
+    Map<String, String> deleteAll(List<String> keys);
+
+    /**
+     * 접두어 아래의 객체 목록 조회 (페이지 단위로 필요할 때 가져오므로 전체를 메모리에 올리지 않음)
+     * 사용 후 반드시 close 해야 함
+     *
+     * @param prefix Key 접두어 (예: "post/")
+     */
+    Stream<StorageObjectSummary> list(String prefix);
+
+    /**
+     * 클라이언트가 직접 업로드할 수 있는 서명된 PUT URL 생성
+     */
+    URL createPresignedPutUrl(String key, String contentType, Map<String, String> metadata, Duration expiresIn);
+
+    /**
+     * Key에 해당하는 파일의 전체 URL
+     */
+    String getUrl(String key);
+
+    /**
+     * 파일의 전체 URL에서 Key만 추출 (이미 Key이면 그대로 반환)
+     */
+    String toKey(String fileUrl);
+}
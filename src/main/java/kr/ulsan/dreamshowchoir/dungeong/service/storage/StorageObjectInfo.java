@@ -0,0 +1,17 @@
+package kr.ulsan.dreamshowchoir.dungeong.service.storage;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 저장소 객체 정보 (HEAD 결과)
+ *
+ * @param contentLength 크기 (byte)
+ * @param contentType   Content-Type (없으면 null)
+ * @param etag          ETag (따옴표 포함, 예: "\"abc\"")
+ * @param lastModified  최종 수정 시각
+ * @param metadata      사용자 메타데이터 (Key는 소문자, 예: "uploader-id")
+ */
+public record StorageObjectInfo(long contentLength, String contentType, String etag, Instant lastModified,
+                                Map<String, String> metadata) {
+}
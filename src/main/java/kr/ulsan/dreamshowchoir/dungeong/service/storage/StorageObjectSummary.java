@@ -0,0 +1,13 @@
+package kr.ulsan.dreamshowchoir.dungeong.service.storage;
+
+import java.time.Instant;
+
+/**
+ * 목록 조회(ListObjectsV2)로 얻는 객체 요약 정보
+ *
+ * @param key          객체 Key
+ * @param size         크기 (bytes)
+ * @param lastModified 마지막 수정 시각
+ */
+public record StorageObjectSummary(String key, long size, Instant lastModified) {
+}
@@ -0,0 +1,97 @@
+package kr.ulsan.dreamshowchoir.dungeong.util;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서(Keyset) 페이징용 커서 인코딩/디코딩 유틸
+ * (CREATED_AT, ID) 쌍을 "createdAt|id" 형태로 묶어 URL-safe Base64 문자열로 변환
+ */
+public final class CursorUtil {
+
+    public static final int DEFAULT_SIZE = 10; // 기본 페이지 크기
+    public static final int MAX_SIZE = 100;    // 한 번에 조회 가능한 최대 개수
+
+    private static final String DELIMITER = "|";
+
+    private CursorUtil() {
+    }
+
+    /**
+     * 마지막 행의 (createdAt, id)로 다음 페이지 커서 생성
+     */
+    public static String encode(LocalDateTime createdAt, Long id) {
+        String raw = createdAt.toString() + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 보낸 커서 문자열을 (createdAt, id)로 복원
+     */
+    public static Cursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+            if (idx < 0) {
+                throw new IllegalArgumentException("잘못된 커서 값입니다: " + cursor);
+            }
+            LocalDateTime createdAt = LocalDateTime.parse(raw.substring(0, idx));
+            Long id = Long.valueOf(raw.substring(idx + 1));
+            return new Cursor(createdAt, id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서 값입니다: " + cursor, e);
+        }
+    }
+
+    /**
+     * 검색 결과 마지막 행의 (score, id)로 다음 페이지 커서 생성
+     * (검색은 생성일이 아닌 관련도 점수 순으로 정렬되므로 별도 커서 사용)
+     */
+    public static String encodeScore(BigDecimal score, Long id) {
+        String raw = score.toPlainString() + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 검색 커서 문자열을 (score, id)로 복원
+     */
+    public static ScoreCursor decodeScore(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+            if (idx < 0) {
+                throw new IllegalArgumentException("잘못된 커서 값입니다: " + cursor);
+            }
+            BigDecimal score = new BigDecimal(raw.substring(0, idx));
+            Long id = Long.valueOf(raw.substring(idx + 1));
+            return new ScoreCursor(score, id);
+        } catch (IllegalArgumentException e) { // NumberFormatException 포함
+            throw new IllegalArgumentException("잘못된 커서 값입니다: " + cursor, e);
+        }
+    }
+
+    /**
+     * 요청 size를 1 ~ MAX_SIZE 범위로 보정
+     */
+    public static int normalizeSize(Integer size) {
+        if (size == null || size < 1) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+
+    /**
+     * 디코딩된 커서 값
+     */
+    public record Cursor(LocalDateTime createdAt, Long id) {
+    }
+
+    /**
+     * 디코딩된 검색 커서 값
+     */
+    public record ScoreCursor(BigDecimal score, Long id) {
+    }
+}
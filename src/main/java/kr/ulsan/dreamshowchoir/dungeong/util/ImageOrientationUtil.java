@@ -0,0 +1,120 @@
+package kr.ulsan.dreamshowchoir.dungeong.util;
+
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+
+/**
+ * JPEG EXIF 회전(Orientation) 정보 처리 유틸
+ * 휴대폰 사진은 픽셀은 가로로 저장하고 EXIF에 회전 값만 기록하는 경우가 많은데,
+ * ImageIO는 이를 무시하므로 리사이즈 전에 직접 회전시켜야 변환본이 눕지 않음
+ */
+public final class ImageOrientationUtil {
+
+    public static final int NORMAL = 1;
+
+    private static final int TAG_ORIENTATION = 0x0112;
+
+    private ImageOrientationUtil() {
+    }
+
+    /**
+     * JPEG 바이트에서 EXIF Orientation 값 읽기 (없거나 JPEG가 아니면 NORMAL)
+     */
+    public static int read(byte[] bytes) {
+        try {
+            if (bytes.length < 4 || (bytes[0] & 0xFF) != 0xFF || (bytes[1] & 0xFF) != 0xD8) {
+                return NORMAL;
+            }
+
+            // 마커를 순서대로 훑으며 APP1(Exif) 세그먼트 탐색 (SOS 이후는 이미지 데이터)
+            int pos = 2;
+            while (pos + 4 <= bytes.length && (bytes[pos] & 0xFF) == 0xFF) {
+                int marker = bytes[pos + 1] & 0xFF;
+                int length = readUnsignedShort(bytes, pos + 2, false);
+                if (marker == 0xDA) {
+                    break;
+                }
+                if (marker == 0xE1 && isExifHeader(bytes, pos + 4)) {
+                    return readOrientation(bytes, pos + 10);
+                }
+                pos += 2 + length;
+            }
+        } catch (ArrayIndexOutOfBoundsException e) {
+            // 잘린/손상된 EXIF는 회전 없음으로 처리
+        }
+        return NORMAL;
+    }
+
+    /**
+     * Orientation 값에 맞게 이미지 회전 (3: 180도, 6: 시계 90도, 8: 반시계 90도, 그 외는 그대로)
+     */
+    public static BufferedImage apply(BufferedImage image, int orientation) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+
+        AffineTransform transform = new AffineTransform();
+        BufferedImage rotated;
+        switch (orientation) {
+            case 3 -> {
+                rotated = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+                transform.translate(width, height);
+                transform.rotate(Math.PI);
+            }
+            case 6 -> {
+                rotated = new BufferedImage(height, width, BufferedImage.TYPE_INT_RGB);
+                transform.translate(height, 0);
+                transform.rotate(Math.PI / 2);
+            }
+            case 8 -> {
+                rotated = new BufferedImage(height, width, BufferedImage.TYPE_INT_RGB);
+                transform.translate(0, width);
+                transform.rotate(-Math.PI / 2);
+            }
+            default -> {
+                return image;
+            }
+        }
+
+        Graphics2D g = rotated.createGraphics();
+        try {
+            g.drawImage(image, transform, null);
+        } finally {
+            g.dispose();
+        }
+        return rotated;
+    }
+
+    private static boolean isExifHeader(byte[] bytes, int pos) {
+        return bytes[pos] == 'E' && bytes[pos + 1] == 'x' && bytes[pos + 2] == 'i' && bytes[pos + 3] == 'f'
+                && bytes[pos + 4] == 0 && bytes[pos + 5] == 0;
+    }
+
+    // TIFF 헤더(바이트 순서) -> IFD0 -> Orientation 태그
+    private static int readOrientation(byte[] bytes, int tiffStart) {
+        boolean littleEndian = bytes[tiffStart] == 'I' && bytes[tiffStart + 1] == 'I';
+        int ifdOffset = readInt(bytes, tiffStart + 4, littleEndian);
+        int ifdStart = tiffStart + ifdOffset;
+        int entryCount = readUnsignedShort(bytes, ifdStart, littleEndian);
+
+        for (int i = 0; i < entryCount; i++) {
+            int entry = ifdStart + 2 + i * 12;
+            if (readUnsignedShort(bytes, entry, littleEndian) == TAG_ORIENTATION) {
+                return readUnsignedShort(bytes, entry + 8, littleEndian);
+            }
+        }
+        return NORMAL;
+    }
+
+    private static int readUnsignedShort(byte[] bytes, int pos, boolean littleEndian) {
+        int b0 = bytes[pos] & 0xFF;
+        int b1 = bytes[pos + 1] & 0xFF;
+        return littleEndian ? (b1 << 8) | b0 : (b0 << 8) | b1;
+    }
+
+    private static int readInt(byte[] bytes, int pos, boolean littleEndian) {
+        int hi = readUnsignedShort(bytes, littleEndian ? pos + 2 : pos, littleEndian);
+        int lo = readUnsignedShort(bytes, littleEndian ? pos : pos + 2, littleEndian);
+        return (hi << 16) | lo;
+    }
+}
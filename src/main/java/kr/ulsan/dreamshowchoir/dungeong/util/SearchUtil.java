@@ -0,0 +1,38 @@
+package kr.ulsan.dreamshowchoir.dungeong.util;
+
+/**
+ * 전문 검색 검색어 처리 유틸
+ */
+public final class SearchUtil {
+
+    private static final int MAX_KEYWORD_LENGTH = 100; // 검색어 최대 길이
+
+    private SearchUtil() {
+    }
+
+    /**
+     * 검색어 공백 제거 및 검증
+     */
+    public static String normalizeKeyword(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            throw new IllegalArgumentException("검색어를 입력해주세요.");
+        }
+        String trimmed = keyword.trim();
+        if (trimmed.length() > MAX_KEYWORD_LENGTH) {
+            throw new IllegalArgumentException("검색어는 " + MAX_KEYWORD_LENGTH + "자 이하로 입력해주세요.");
+        }
+        return trimmed;
+    }
+
+    /**
+     * 부분 일치(ILIKE) 검색용 패턴 생성
+     * 검색어에 포함된 와일드카드(%, _)와 이스케이프 문자(\)는 문자 그대로 검색되도록 이스케이프
+     */
+    public static String toContainsPattern(String keyword) {
+        String escaped = keyword
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
@@ -0,0 +1,9 @@
+-- 커서(Keyset) 페이징용 복합 인덱스
+-- (CREATED_AT DESC, ID DESC) 순서로 정렬된 인덱스를 타고 바로 다음 페이지 시작점으로 이동 (OFFSET 스캔 없음)
+CREATE INDEX "IDX_POST_CREATED_AT_ID" ON "Post" ("CREATED_AT" DESC, "POST_ID" DESC) WHERE "DELETED_AT" IS NULL;
+
+CREATE INDEX "IDX_NOTICE_CREATED_AT_ID" ON "Notice" ("CREATED_AT" DESC, "NOTICE_ID" DESC) WHERE "DELETED_AT" IS NULL;
+
+CREATE INDEX "IDX_GALLERY_CREATED_AT_ID" ON "Gallery" ("CREATED_AT" DESC, "GALLERY_ID" DESC) WHERE "DELETED_AT" IS NULL;
+
+CREATE INDEX "IDX_GALLERY_TYPE_CREATED_AT_ID" ON "Gallery" ("TYPE", "CREATED_AT" DESC, "GALLERY_ID" DESC) WHERE "DELETED_AT" IS NULL;
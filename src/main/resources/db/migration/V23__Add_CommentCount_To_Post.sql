@@ -0,0 +1,13 @@
+-- Post 테이블에 댓글 수(COMMENT_COUNT) 비정규화 컬럼 추가
+-- (목록 조회 시 Comment 엔티티를 로딩하지 않고 개수를 바로 표시하기 위함)
+ALTER TABLE "Post"
+    ADD COLUMN "COMMENT_COUNT" INTEGER NOT NULL DEFAULT 0;
+
+-- 기존 게시글의 댓글 수 백필 (논리 삭제된 댓글 제외)
+UPDATE "Post" p
+SET "COMMENT_COUNT" = c.cnt
+FROM (SELECT "POST_ID", COUNT(*) AS cnt
+      FROM "Comment"
+      WHERE "DELETED_AT" IS NULL
+      GROUP BY "POST_ID") c
+WHERE p."POST_ID" = c."POST_ID";
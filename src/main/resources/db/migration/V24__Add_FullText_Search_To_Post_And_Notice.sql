@@ -0,0 +1,31 @@
+-- 게시글/공지사항 전문 검색(Full-Text Search) 지원
+
+-- 1. 부분 일치(trigram) 검색용 확장
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- 2. 검색용 tsvector 생성 컬럼 (제목 가중치 A, 본문 가중치 B)
+-- 한국어 형태소 분석기가 없으므로 'simple' 설정(공백 단위 토큰, 어간 처리 없음) 사용
+-- 조사가 붙은 단어 등 토큰이 정확히 일치하지 않는 경우는 trigram 인덱스로 보완
+ALTER TABLE "Post"
+    ADD COLUMN "SEARCH_VECTOR" tsvector
+        GENERATED ALWAYS AS (
+            setweight(to_tsvector('simple', coalesce("TITLE", '')), 'A') ||
+            setweight(to_tsvector('simple', coalesce("CONTENT", '')), 'B')
+            ) STORED;
+
+ALTER TABLE "Notice"
+    ADD COLUMN "SEARCH_VECTOR" tsvector
+        GENERATED ALWAYS AS (
+            setweight(to_tsvector('simple', coalesce("TITLE", '')), 'A') ||
+            setweight(to_tsvector('simple', coalesce("CONTENT", '')), 'B')
+            ) STORED;
+
+-- 3. tsvector GIN 인덱스
+CREATE INDEX "IDX_POST_SEARCH_VECTOR" ON "Post" USING GIN ("SEARCH_VECTOR");
+CREATE INDEX "IDX_NOTICE_SEARCH_VECTOR" ON "Notice" USING GIN ("SEARCH_VECTOR");
+
+-- 4. 제목/본문 trigram GIN 인덱스 (ILIKE '%검색어%' 부분 일치 검색용)
+CREATE INDEX "IDX_POST_TITLE_TRGM" ON "Post" USING GIN ("TITLE" gin_trgm_ops);
+CREATE INDEX "IDX_POST_CONTENT_TRGM" ON "Post" USING GIN ("CONTENT" gin_trgm_ops);
+CREATE INDEX "IDX_NOTICE_TITLE_TRGM" ON "Notice" USING GIN ("TITLE" gin_trgm_ops);
+CREATE INDEX "IDX_NOTICE_CONTENT_TRGM" ON "Notice" USING GIN ("CONTENT" gin_trgm_ops);
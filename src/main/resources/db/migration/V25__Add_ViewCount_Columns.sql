@@ -0,0 +1,10 @@
+-- 게시글/공지사항/갤러리 조회수 컬럼 추가
+-- (상세 조회 시 바로 UPDATE 하지 않고, 메모리에 모은 증가분을 주기적으로 일괄 반영)
+ALTER TABLE "Post"
+    ADD COLUMN "VIEW_COUNT" BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE "Notice"
+    ADD COLUMN "VIEW_COUNT" BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE "Gallery"
+    ADD COLUMN "VIEW_COUNT" BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,6 @@
+-- 다건 INSERT가 발생하는 테이블의 ID를 시퀀스(pooled, allocationSize = 50)로 발급하도록 변경
+-- (IDENTITY 전략은 Hibernate JDBC 배치를 비활성화하므로, 기존 BIGSERIAL 시퀀스의 증가폭을 엔티티 설정과 맞춘다)
+ALTER SEQUENCE "PostImage_IMAGE_ID_seq" INCREMENT BY 50;
+ALTER SEQUENCE "NoticeImage_IMAGE_ID_seq" INCREMENT BY 50;
+ALTER SEQUENCE "GalleryMedia_MEDIA_ID_seq" INCREMENT BY 50;
+ALTER SEQUENCE "Notification_NOTIFICATION_ID_seq" INCREMENT BY 50;
@@ -0,0 +1,8 @@
+-- V27__Add_UpdatedAt_To_History.sql
+-- 연혁 목록의 조건부 GET(ETag / Last-Modified) 판단을 위해 수정일시 컬럼 추가
+-- (기존 데이터는 생성일시로 채움)
+
+ALTER TABLE "History"
+    ADD COLUMN "UPDATED_AT" TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+UPDATE "History" SET "UPDATED_AT" = "CREATED_AT";
@@ -0,0 +1,32 @@
+-- V28__Add_Partial_Covering_Indexes.sql
+-- 실제 조회 경로에 맞춘 부분(partial)/복합 인덱스 추가
+-- (논리 삭제 테이블은 @SQLRestriction 조건과 같은 "DELETED_AT" IS NULL 조건으로 살아있는 행만 인덱싱)
+-- (Post/Notice/Gallery 목록 인덱스는 V22에서 추가됨)
+
+-- 1. 댓글: 게시글별 댓글 목록/커서/스트리밍 (POST_ID 일치 + 작성순 정렬)
+CREATE INDEX "IDX_COMMENT_POST_CREATED_AT_ID" ON "Comment" ("POST_ID", "CREATED_AT" ASC, "COMMENT_ID" ASC) WHERE "DELETED_AT" IS NULL;
+
+-- 2. 악보 / 활동자료: 최신순 목록
+CREATE INDEX "IDX_SHEET_CREATED_AT_ID" ON "Sheet" ("CREATED_AT" DESC, "SHEET_ID" DESC) WHERE "DELETED_AT" IS NULL;
+CREATE INDEX "IDX_ACTIVITYMATERIAL_CREATED_AT_ID" ON "ActivityMaterial" ("CREATED_AT" DESC, "MATERIAL_ID" DESC) WHERE "DELETED_AT" IS NULL;
+
+-- 3. 배너: 활성 배너 순서 조회 (기존 전체 인덱스는 부분 인덱스로 대체)
+DROP INDEX IF EXISTS "IDX_BANNER_ORDER_INDEX";
+CREATE INDEX "IDX_BANNER_ORDER_INDEX" ON "Banner" ("ORDER_INDEX" ASC) WHERE "DELETED_AT" IS NULL;
+CREATE INDEX "IDX_BANNER_ACTIVE_ORDER_INDEX" ON "Banner" ("ORDER_INDEX" ASC) WHERE "IS_ACTIVE" = TRUE AND "DELETED_AT" IS NULL;
+
+-- 4. 문의 / 후원 / 가입신청: 상태별 목록 및 건수 (관리자)
+CREATE INDEX "IDX_INQUIRY_STATUS_CREATED_AT" ON "Inquiry" ("STATUS", "CREATED_AT" DESC);
+CREATE INDEX "IDX_DONATION_STATUS_CREATED_AT" ON "Donation" ("STATUS", "CREATED_AT" DESC);
+CREATE INDEX "IDX_DONATION_USER_CREATED_AT" ON "Donation" ("USER_ID", "CREATED_AT" DESC);
+CREATE INDEX "IDX_JOINAPPLICATION_STATUS" ON "JoinApplication" ("STATUS");
+CREATE INDEX "IDX_JOINAPPLICATION_USER_CREATED_AT" ON "JoinApplication" ("USER_ID", "CREATED_AT" DESC);
+
+-- 5. 알림: 내 알림 최신순 목록 + 안 읽은 알림 개수 (부분 인덱스만으로 index-only scan)
+CREATE INDEX "IDX_NOTIFICATION_USER_CREATED_AT" ON "Notification" ("USER_ID", "CREATED_AT" DESC);
+CREATE INDEX "IDX_NOTIFICATION_USER_UNREAD" ON "Notification" ("USER_ID") WHERE "IS_READ" = FALSE;
+
+-- 6. 첨부 테이블 FK: 상세 조회 Fetch Join / 버전 조회 / ON DELETE CASCADE
+CREATE INDEX "IDX_POSTIMAGE_POST_ID" ON "PostImage" ("POST_ID") INCLUDE ("CREATED_AT");
+CREATE INDEX "IDX_NOTICEIMAGE_NOTICE_ID" ON "NoticeImage" ("NOTICE_ID") INCLUDE ("CREATED_AT");
+CREATE INDEX "IDX_GALLERYMEDIA_GALLERY_ID" ON "GalleryMedia" ("GALLERY_ID");
@@ -0,0 +1,22 @@
+-- V29__Create_Outbox_Table.sql
+-- 트랜잭셔널 아웃박스: S3 삭제, 이메일 발송 등 외부 부수 효과를 업무 트랜잭션과 같은 트랜잭션에 기록하고
+-- 백그라운드 디스패처가 커밋된 행만 꺼내 실행 (요청 응답 시간이 S3/SMTP에 의존하지 않도록)
+
+CREATE TABLE "OutboxEvent" (
+    "EVENT_ID"        BIGSERIAL PRIMARY KEY,
+    "EVENT_TYPE"      VARCHAR(30)  NOT NULL,
+    "PAYLOAD"         TEXT         NOT NULL,
+    "STATUS"          VARCHAR(20)  NOT NULL DEFAULT 'PENDING',
+    "ATTEMPTS"        INT          NOT NULL DEFAULT 0,
+    "NEXT_ATTEMPT_AT" TIMESTAMPTZ  NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    "LAST_ERROR"      TEXT,
+    "CREATED_AT"      TIMESTAMPTZ  NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    "PROCESSED_AT"    TIMESTAMPTZ,
+    CONSTRAINT "CHK_OUTBOX_STATUS" CHECK ("STATUS" IN ('PENDING', 'DONE', 'FAILED'))
+);
+
+-- 디스패처 폴링: 처리 대기 중인 행만 실행 예정 시각 순으로 (FOR UPDATE SKIP LOCKED 대상)
+CREATE INDEX "IDX_OUTBOX_PENDING_NEXT_ATTEMPT" ON "OutboxEvent" ("NEXT_ATTEMPT_AT" ASC, "EVENT_ID" ASC) WHERE "STATUS" = 'PENDING';
+
+-- 처리 완료 행 정리 (PROCESSED_AT 기준)
+CREATE INDEX "IDX_OUTBOX_DONE_PROCESSED_AT" ON "OutboxEvent" ("PROCESSED_AT") WHERE "STATUS" = 'DONE';
@@ -0,0 +1,17 @@
+-- V30__Add_Thumbnail_And_MediaCount_To_Gallery.sql
+-- 갤러리 목록에서 미디어를 로딩하지 않도록 썸네일 Key와 미디어 개수를 비정규화 컬럼으로 보관
+-- (값은 GalleryService에서 미디어 추가/삭제 시 갱신)
+
+ALTER TABLE "Gallery" ADD COLUMN "THUMBNAIL_KEY" VARCHAR(255);
+ALTER TABLE "Gallery" ADD COLUMN "MEDIA_COUNT" INT NOT NULL DEFAULT 0;
+
+-- 기존 데이터 백필: 썸네일은 가장 먼저 등록된 미디어
+UPDATE "Gallery" g
+SET "THUMBNAIL_KEY" = (SELECT m."FILE_KEY"
+                       FROM "GalleryMedia" m
+                       WHERE m."GALLERY_ID" = g."GALLERY_ID"
+                       ORDER BY m."CREATED_AT" ASC, m."MEDIA_ID" ASC
+                       LIMIT 1),
+    "MEDIA_COUNT"   = (SELECT COUNT(*)
+                       FROM "GalleryMedia" m
+                       WHERE m."GALLERY_ID" = g."GALLERY_ID");
@@ -0,0 +1,8 @@
+-- V31__Add_Image_Variant_Keys.sql
+-- 업로드 이미지의 리사이즈 변환본(320/800/1600px JPEG) URL 저장 컬럼
+-- 형식: "320=url,800=url,1600=url" (변환 전이거나 이미지가 아니면 NULL -> 원본 사용)
+
+ALTER TABLE "PostImage" ADD COLUMN "VARIANT_KEYS" TEXT;
+ALTER TABLE "NoticeImage" ADD COLUMN "VARIANT_KEYS" TEXT;
+ALTER TABLE "GalleryMedia" ADD COLUMN "VARIANT_KEYS" TEXT;
+ALTER TABLE "Banner" ADD COLUMN "VARIANT_KEYS" TEXT;
@@ -0,0 +1,19 @@
+-- V32__Create_Stored_Object_Table.sql
+-- 업로드 파일 내용(SHA-256) 기준 중복 제거 인덱스
+-- 같은 폴더에 같은 내용이 다시 업로드되면 새 객체를 만들지 않고 기존 객체를 참조 (REF_COUNT 증가)
+-- 참조가 모두 사라졌을 때만 S3 객체를 물리 삭제
+
+CREATE TABLE "StoredObject" (
+    "OBJECT_ID"    BIGSERIAL PRIMARY KEY,
+    "DIR_NAME"     VARCHAR(50)  NOT NULL,
+    "CONTENT_HASH" CHAR(64)     NOT NULL, -- SHA-256 (hex)
+    "OBJECT_KEY"   VARCHAR(512) NOT NULL,
+    "OBJECT_URL"   TEXT         NOT NULL,
+    "FILE_SIZE"    BIGINT       NOT NULL,
+    "REF_COUNT"    INT          NOT NULL DEFAULT 1,
+    "CREATED_AT"   TIMESTAMPTZ  NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    "UPDATED_AT"   TIMESTAMPTZ  NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT "UK_STORED_OBJECT_DIR_HASH" UNIQUE ("DIR_NAME", "CONTENT_HASH"), -- 업로드 시 조회/등록 (ON CONFLICT 대상)
+    CONSTRAINT "UK_STORED_OBJECT_KEY" UNIQUE ("OBJECT_KEY"),                    -- 삭제 시 Key로 참조 반납
+    CONSTRAINT "CHK_STORED_OBJECT_REF_COUNT" CHECK ("REF_COUNT" >= 0)
+);
@@ -0,0 +1,43 @@
+-- V33__Drop_Unique_On_File_Keys.sql
+-- 업로드 중복 제거(V32 StoredObject) 이후 같은 내용의 파일은 같은 Key를 공유하므로
+-- 파일/이미지 Key 컬럼의 UNIQUE 제약을 제거하고 일반 인덱스로 대체
+-- (V1에서 이름 없이 만든 제약이라 pg_constraint에서 이름을 찾아 삭제)
+
+DO $$
+DECLARE
+    target          RECORD;
+    constraint_name TEXT;
+BEGIN
+    FOR target IN
+        SELECT * FROM (VALUES
+            ('Banner', 'IMAGE_KEY'),
+            ('PostImage', 'IMAGE_KEY'),
+            ('NoticeImage', 'IMAGE_KEY'),
+            ('GalleryMedia', 'FILE_KEY'),
+            ('Sheet', 'FILE_KEY'),
+            ('ActivityMaterial', 'FILE_KEY')
+        ) AS t(table_name, column_name)
+    LOOP
+        FOR constraint_name IN
+            SELECT c.conname
+            FROM pg_constraint c
+            JOIN pg_class r ON r.oid = c.conrelid
+            JOIN pg_attribute a ON a.attrelid = r.oid AND a.attnum = ANY (c.conkey)
+            WHERE c.contype = 'u'
+              AND r.relname = target.table_name
+              AND r.relnamespace = current_schema()::regnamespace
+              AND a.attname = target.column_name
+              AND array_length(c.conkey, 1) = 1
+        LOOP
+            EXECUTE format('ALTER TABLE %I DROP CONSTRAINT %I', target.table_name, constraint_name);
+        END LOOP;
+    END LOOP;
+END $$;
+
+-- 삭제/참조 확인 시 Key로 조회하므로 일반 인덱스는 유지
+CREATE INDEX "IDX_BANNER_IMAGE_KEY" ON "Banner" ("IMAGE_KEY");
+CREATE INDEX "IDX_POST_IMAGE_IMAGE_KEY" ON "PostImage" ("IMAGE_KEY");
+CREATE INDEX "IDX_NOTICE_IMAGE_IMAGE_KEY" ON "NoticeImage" ("IMAGE_KEY");
+CREATE INDEX "IDX_GALLERY_MEDIA_FILE_KEY" ON "GalleryMedia" ("FILE_KEY");
+CREATE INDEX "IDX_SHEET_FILE_KEY" ON "Sheet" ("FILE_KEY");
+CREATE INDEX "IDX_ACTIVITY_MATERIAL_FILE_KEY" ON "ActivityMaterial" ("FILE_KEY");
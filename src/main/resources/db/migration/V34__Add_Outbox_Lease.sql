@@ -0,0 +1,12 @@
+-- V34__Add_Outbox_Lease.sql
+-- 아웃박스 선점을 "행 잠금 유지"에서 "상태 + 임대(lease) 만료 시각"으로 변경
+-- 디스패처는 짧은 트랜잭션으로 IN_PROGRESS 선점 후 커밋하고, 외부 호출(S3/SMTP)은 트랜잭션 밖에서 실행
+-- 임대가 만료된 IN_PROGRESS 행(처리 도중 서버 종료 등)은 다시 PENDING으로 돌려 재실행
+
+ALTER TABLE "OutboxEvent" ADD COLUMN "LOCKED_UNTIL" TIMESTAMPTZ;
+
+ALTER TABLE "OutboxEvent" DROP CONSTRAINT "CHK_OUTBOX_STATUS";
+ALTER TABLE "OutboxEvent" ADD CONSTRAINT "CHK_OUTBOX_STATUS" CHECK ("STATUS" IN ('PENDING', 'IN_PROGRESS', 'DONE', 'FAILED'));
+
+-- 임대 만료 행 회수용
+CREATE INDEX "IDX_OUTBOX_IN_PROGRESS_LOCKED_UNTIL" ON "OutboxEvent" ("LOCKED_UNTIL") WHERE "STATUS" = 'IN_PROGRESS';
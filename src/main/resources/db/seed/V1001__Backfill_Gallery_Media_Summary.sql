@@ -0,0 +1,12 @@
+-- V1001__Backfill_Gallery_Media_Summary.sql
+-- 더미 데이터(V999)는 V30 이후에 들어가므로, 더미 갤러리의 썸네일 Key / 미디어 개수를 다시 채움
+
+UPDATE "Gallery" g
+SET "THUMBNAIL_KEY" = (SELECT m."FILE_KEY"
+                       FROM "GalleryMedia" m
+                       WHERE m."GALLERY_ID" = g."GALLERY_ID"
+                       ORDER BY m."CREATED_AT" ASC, m."MEDIA_ID" ASC
+                       LIMIT 1),
+    "MEDIA_COUNT"   = (SELECT COUNT(*)
+                       FROM "GalleryMedia" m
+                       WHERE m."GALLERY_ID" = g."GALLERY_ID");
@@ -0,0 +1,318 @@
+package kr.ulsan.dreamshowchoir.dungeong.domain.common.repository;
+
+import jakarta.persistence.EntityManager;
+import kr.ulsan.dreamshowchoir.dungeong.config.JpaAuditingConfig;
+import kr.ulsan.dreamshowchoir.dungeong.domain.activity.repository.ActivityMaterialRepository;
+import kr.ulsan.dreamshowchoir.dungeong.domain.banner.repository.BannerRepository;
+import kr.ulsan.dreamshowchoir.dungeong.domain.communicate.InquiryStatus;
+import kr.ulsan.dreamshowchoir.dungeong.domain.communicate.repository.InquiryRepository;
+import kr.ulsan.dreamshowchoir.dungeong.domain.donation.DonationStatus;
+import kr.ulsan.dreamshowchoir.dungeong.domain.donation.repository.DonationRepository;
+import kr.ulsan.dreamshowchoir.dungeong.domain.gallery.Gallery;
+import kr.ulsan.dreamshowchoir.dungeong.domain.gallery.repository.GalleryMediaRepository;
+import kr.ulsan.dreamshowchoir.dungeong.domain.gallery.repository.GalleryRepository;
+import kr.ulsan.dreamshowchoir.dungeong.domain.info.repository.HistoryRepository;
+import kr.ulsan.dreamshowchoir.dungeong.domain.notice.repository.NoticeRepository;
+import kr.ulsan.dreamshowchoir.dungeong.domain.notification.repository.NotificationRepository;
+import kr.ulsan.dreamshowchoir.dungeong.domain.post.repository.CommentRepository;
+import kr.ulsan.dreamshowchoir.dungeong.domain.post.repository.PostRepository;
+import kr.ulsan.dreamshowchoir.dungeong.domain.sheet.repository.SheetRepository;
+import kr.ulsan.dreamshowchoir.dungeong.domain.user.JoinStatus;
+import kr.ulsan.dreamshowchoir.dungeong.domain.user.User;
+import kr.ulsan.dreamshowchoir.dungeong.domain.user.repository.JoinApplicationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주요 Repository 쿼리의 실행 계획 회귀 테스트
+ * - 실제 Repository 메서드를 호출해 Hibernate가 생성한 SQL과 바인딩 값을 그대로 잡아서 EXPLAIN
+ *   (손으로 옮겨 적은 SQL이 아니므로, @Query나 메서드 이름이 바뀌면 검사 대상도 함께 바뀜)
+ * - 대상 테이블이 Seq Scan으로 떨어지지 않는지 검증
+ * - 테스트 DB는 데이터가 적어 Seq Scan이 더 싸게 계산되므로, enable_seqscan을 꺼서
+ *   "사용할 수 있는 인덱스가 있는지"만 판별 (인덱스가 없으면 꺼도 Seq Scan이 선택됨)
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE) // PostgreSQL 사용
+@Import({JpaAuditingConfig.class, QueryPlanRegressionTest.SqlCaptureConfig.class})
+class QueryPlanRegressionTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private NoticeRepository noticeRepository;
+
+    @Autowired
+    private GalleryRepository galleryRepository;
+
+    @Autowired
+    private GalleryMediaRepository galleryMediaRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private SheetRepository sheetRepository;
+
+    @Autowired
+    private ActivityMaterialRepository activityMaterialRepository;
+
+    @Autowired
+    private BannerRepository bannerRepository;
+
+    @Autowired
+    private InquiryRepository inquiryRepository;
+
+    @Autowired
+    private DonationRepository donationRepository;
+
+    @Autowired
+    private JoinApplicationRepository joinApplicationRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private HistoryRepository historyRepository;
+
+    // Repository 호출 (캡처한 SQL을 EXPLAIN 하므로 결과는 사용하지 않음)
+    @FunctionalInterface
+    interface RepositoryCall {
+        void run(QueryPlanRegressionTest test);
+    }
+
+    @BeforeEach
+    void setUp() {
+        // 테스트 트랜잭션 안에서만 적용 (롤백 시 원복)
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SqlCapture.stop();
+    }
+
+    static Stream<Arguments> repositoryQueries() {
+        PageRequest latest10 = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+        return Stream.of(
+                Arguments.of("PostRepository.findFirstPageList (커서 목록)", "Post",
+                        (RepositoryCall) t -> t.postRepository.findFirstPageList(PageRequest.of(0, 11))),
+                Arguments.of("NoticeRepository.findFirstPageList (커서 목록)", "Notice",
+                        (RepositoryCall) t -> t.noticeRepository.findFirstPageList(PageRequest.of(0, 11))),
+                Arguments.of("GalleryRepository.findFirstPageList (타입 필터)", "Gallery",
+                        (RepositoryCall) t -> t.galleryRepository.findFirstPageList("REGULAR", PageRequest.of(0, 11))),
+                Arguments.of("GalleryRepository.findFirstPageList (전체)", "Gallery",
+                        (RepositoryCall) t -> t.galleryRepository.findFirstPageList(null, PageRequest.of(0, 11))),
+                Arguments.of("CommentRepository.streamAllByPostId", "Comment",
+                        (RepositoryCall) t -> {
+                            try (Stream<?> comments = t.commentRepository.streamAllByPostId(1L)) {
+                                comments.forEach(comment -> { });
+                            }
+                        }),
+                Arguments.of("SheetRepository.findSheetList (최신순)", "Sheet",
+                        (RepositoryCall) t -> t.sheetRepository.findSheetList(latest10)),
+                Arguments.of("ActivityMaterialRepository.findAll (최신순)", "ActivityMaterial",
+                        (RepositoryCall) t -> t.activityMaterialRepository.findAll(latest10)),
+                Arguments.of("BannerRepository.findAllByIsActiveTrueOrderByOrderIndexAsc", "Banner",
+                        (RepositoryCall) t -> t.bannerRepository.findAllByIsActiveTrueOrderByOrderIndexAsc()),
+                Arguments.of("InquiryRepository.findAllByStatusOrderByCreatedAtDesc", "Inquiry",
+                        (RepositoryCall) t -> t.inquiryRepository.findAllByStatusOrderByCreatedAtDesc(InquiryStatus.PENDING, PageRequest.of(0, 10))),
+                Arguments.of("DonationRepository.findDonationListByStatus", "Donation",
+                        (RepositoryCall) t -> t.donationRepository.findDonationListByStatus(DonationStatus.PENDING, latest10)),
+                Arguments.of("DonationRepository.findByUser_UserIdOrderByCreatedAtDesc", "Donation",
+                        (RepositoryCall) t -> t.donationRepository.findByUser_UserIdOrderByCreatedAtDesc(1L)),
+                Arguments.of("JoinApplicationRepository.findByStatus", "JoinApplication",
+                        (RepositoryCall) t -> t.joinApplicationRepository.findByStatus(JoinStatus.PENDING, PageRequest.of(0, 10))),
+                Arguments.of("NotificationRepository.findAllByUserOrderByCreatedAtDesc", "Notification",
+                        (RepositoryCall) t -> t.notificationRepository.findAllByUserOrderByCreatedAtDesc(t.userReference())),
+                Arguments.of("NotificationRepository.countByUserAndIsReadFalse", "Notification",
+                        (RepositoryCall) t -> t.notificationRepository.countByUserAndIsReadFalse(t.userReference())),
+                Arguments.of("PostRepository.findByIdWithUser (상세 이미지 Fetch Join)", "PostImage",
+                        (RepositoryCall) t -> t.postRepository.findByIdWithUser(1L)),
+                Arguments.of("NoticeRepository.findByIdWithUser (상세 이미지 Fetch Join)", "NoticeImage",
+                        (RepositoryCall) t -> t.noticeRepository.findByIdWithUser(1L)),
+                Arguments.of("GalleryMediaRepository.findAllByGallery", "GalleryMedia",
+                        (RepositoryCall) t -> t.galleryMediaRepository.findAllByGallery(t.entityManager.getReference(Gallery.class, 1L))),
+                Arguments.of("HistoryRepository.findAllByOrderByYearAscMonthAsc", "History",
+                        (RepositoryCall) t -> t.historyRepository.findAllByOrderByYearAscMonthAsc())
+        );
+    }
+
+    @ParameterizedTest(name = "[{index}] {0}")
+    @MethodSource("repositoryQueries")
+    @DisplayName("주요 조회 쿼리는 인덱스를 사용하고 Seq Scan으로 떨어지지 않음")
+    void queryPlanUsesIndexTest(String query, String table, RepositoryCall call) {
+        // given (Hibernate가 생성한 SQL과 바인딩 값 캡처)
+        SqlCapture.start();
+        call.run(this);
+        List<SqlCapture.CapturedStatement> statements = SqlCapture.stop().stream()
+                .filter(statement -> statement.sql().contains("\"" + table + "\""))
+                .toList();
+        assertThat(statements).as("%s 테이블을 조회하는 SQL이 실행되지 않음", table).isNotEmpty();
+
+        for (SqlCapture.CapturedStatement statement : statements) {
+            // when (실행)
+            String plan = explain(statement);
+
+            // then (검증)
+            assertThat(plan)
+                    .as("SQL:\n%s\n실행 계획:\n%s", statement.sql(), plan)
+                    .doesNotContain("Seq Scan on \"" + table + "\"");
+        }
+    }
+
+    private User userReference() {
+        return entityManager.getReference(User.class, 1L);
+    }
+
+    // 캡처한 SQL을 같은 바인딩 값으로 EXPLAIN
+    private String explain(SqlCapture.CapturedStatement statement) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + statement.sql())) {
+                for (SqlCapture.Binding binding : statement.bindings()) {
+                    SqlCapture.invoke(binding.method(), explain, binding.args());
+                }
+                List<String> lines = new ArrayList<>();
+                try (ResultSet resultSet = explain.executeQuery()) {
+                    while (resultSet.next()) {
+                        lines.add(resultSet.getString(1));
+                    }
+                }
+                return String.join("\n", lines);
+            }
+        });
+    }
+
+    /**
+     * DataSource를 감싸 SQL 캡처 (Hibernate가 실제로 실행하는 PreparedStatement와 set* 바인딩 호출 기록)
+     */
+    @TestConfiguration
+    static class SqlCaptureConfig {
+
+        @Bean
+        static BeanPostProcessor sqlCaptureDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? SqlCapture.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    static final class SqlCapture {
+
+        record Binding(Method method, Object[] args) {
+        }
+
+        record CapturedStatement(String sql, List<Binding> bindings) {
+        }
+
+        private static final List<CapturedStatement> captured = new CopyOnWriteArrayList<>();
+        private static volatile boolean active;
+
+        private SqlCapture() {
+        }
+
+        static void start() {
+            captured.clear();
+            active = true;
+        }
+
+        static List<CapturedStatement> stop() {
+            active = false;
+            return List.copyOf(captured);
+        }
+
+        static DataSource wrap(DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, (method, args, result) ->
+                    result instanceof Connection connection ? wrapConnection(connection) : result);
+        }
+
+        private static Connection wrapConnection(Connection connection) {
+            return proxy(Connection.class, connection, (method, args, result) -> {
+                if (active && result instanceof PreparedStatement statement
+                        && method.getName().equals("prepareStatement") && args[0] instanceof String sql) {
+                    CapturedStatement capturedStatement = new CapturedStatement(sql, new CopyOnWriteArrayList<>());
+                    captured.add(capturedStatement);
+                    return wrapStatement(statement, capturedStatement);
+                }
+                return result;
+            });
+        }
+
+        private static PreparedStatement wrapStatement(PreparedStatement statement, CapturedStatement capturedStatement) {
+            return proxy(PreparedStatement.class, statement, (method, args, result) -> {
+                // set*(parameterIndex, value, ...) 호출만 기록 (EXPLAIN 시 같은 순서로 다시 호출)
+                if (method.getName().startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                    capturedStatement.bindings().add(new Binding(method, args.clone()));
+                }
+                return result;
+            });
+        }
+
+        static Object invoke(Method method, Object target, Object[] args) {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw new IllegalStateException(e.getCause());
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @FunctionalInterface
+        private interface ResultHandler {
+            Object handle(Method method, Object[] args, Object result);
+        }
+
+        private static <T> T proxy(Class<T> type, T target, ResultHandler resultHandler) {
+            InvocationHandler handler = (proxy, method, args) -> {
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause(); // 원래 예외(SQLException 등)를 그대로 전달
+                }
+                return resultHandler.handle(method, args, result);
+            };
+            return type.cast(Proxy.newProxyInstance(SqlCapture.class.getClassLoader(), new Class<?>[]{type}, handler));
+        }
+    }
+}
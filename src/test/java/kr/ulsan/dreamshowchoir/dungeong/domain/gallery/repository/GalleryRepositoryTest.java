@@ -5,6 +5,7 @@ import kr.ulsan.dreamshowchoir.dungeong.domain.gallery.Gallery;
 import kr.ulsan.dreamshowchoir.dungeong.domain.user.Role;
 import kr.ulsan.dreamshowchoir.dungeong.domain.user.User;
 import kr.ulsan.dreamshowchoir.dungeong.domain.user.repository.UserRepository;
+import kr.ulsan.dreamshowchoir.dungeong.dto.gallery.GalleryListResponseDto;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -117,4 +118,30 @@ class GalleryRepositoryTest {
         // @Where(clause = "\"DELETED_AT\" IS NULL") 때문에 조회되면 안 됨
         assertThat(galleryRepository.findById(galleryId)).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("목록 프로젝션은 비정규화된 썸네일 Key와 미디어 개수를 반환함")
+    void findGalleryListProjectionTest() {
+        // given (준비)
+        Gallery gallery = Gallery.builder()
+                .user(savedTestUser)
+                .type("REGULAR")
+                .title("썸네일 갤러리")
+                .description("내용")
+                .build();
+        gallery.updateMediaSummary("gallery/thumb.jpg", 3);
+        Gallery savedGallery = galleryRepository.saveAndFlush(gallery);
+
+        // when (실행)
+        Page<GalleryListResponseDto> page = galleryRepository.findGalleryList("REGULAR", PageRequest.of(0, 10));
+
+        // then (검증)
+        GalleryListResponseDto found = page.getContent().stream()
+                .filter(dto -> dto.getGalleryId().equals(savedGallery.getGalleryId()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(found.getThumbnailUrl()).isEqualTo("gallery/thumb.jpg");
+        assertThat(found.getMediaCount()).isEqualTo(3);
+        assertThat(found.getAuthorName()).isEqualTo("갤러리담당자");
+    }
+}
@@ -5,6 +5,7 @@ import kr.ulsan.dreamshowchoir.dungeong.domain.notice.Notice;
 import kr.ulsan.dreamshowchoir.dungeong.domain.user.Role;
 import kr.ulsan.dreamshowchoir.dungeong.domain.user.User;
 import kr.ulsan.dreamshowchoir.dungeong.domain.user.repository.UserRepository;
+import kr.ulsan.dreamshowchoir.dungeong.dto.notice.NoticeListResponseDto;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,7 +15,6 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -67,8 +67,8 @@ class NoticeRepositoryTest {
     }
 
     @Test
-    @DisplayName("findAllWithUser 페이징 쿼리가 정상 동작함")
-    void findAllWithUserPagingTest() {
+    @DisplayName("findNoticeList 페이징 쿼리가 정상 동작함")
+    void findNoticeListPagingTest() {
         // given (준비) - 2개의 공지 저장
         noticeRepository.save(Notice.builder()
                 .user(savedTestAdmin)
@@ -82,10 +82,10 @@ class NoticeRepositoryTest {
                 .content("내용 2")
                 .build());
 
-        PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+        PageRequest pageRequest = PageRequest.of(0, 10);
 
         // when (실행)
-        Page<Notice> noticePage = noticeRepository.findAllWithUser(pageRequest);
+        Page<NoticeListResponseDto> noticePage = noticeRepository.findNoticeList(pageRequest);
 
         // then (검증)
         assertThat(noticePage.getTotalElements()).isEqualTo(2);
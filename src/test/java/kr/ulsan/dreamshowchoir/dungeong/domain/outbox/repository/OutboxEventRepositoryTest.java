@@ -0,0 +1,113 @@
+package kr.ulsan.dreamshowchoir.dungeong.domain.outbox.repository;
+
+import kr.ulsan.dreamshowchoir.dungeong.config.JpaAuditingConfig;
+import kr.ulsan.dreamshowchoir.dungeong.domain.outbox.OutboxEvent;
+import kr.ulsan.dreamshowchoir.dungeong.domain.outbox.OutboxEventType;
+import kr.ulsan.dreamshowchoir.dungeong.domain.outbox.OutboxStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaAuditingConfig.class)
+class OutboxEventRepositoryTest {
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    private OutboxEvent createEvent(String payload, LocalDateTime nextAttemptAt) {
+        return OutboxEvent.builder()
+                .eventType(OutboxEventType.S3_DELETE)
+                .payload(payload)
+                .nextAttemptAt(nextAttemptAt)
+                .build();
+    }
+
+    @Test
+    @DisplayName("실행 시각이 지난 PENDING 이벤트만 실행 시각 순으로 선점하고 IN_PROGRESS로 변경")
+    void claimDueEventsTest() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        OutboxEvent later = outboxEventRepository.save(createEvent("later.png", now.minusMinutes(1)));
+        OutboxEvent earlier = outboxEventRepository.save(createEvent("earlier.png", now.minusMinutes(5)));
+        outboxEventRepository.save(createEvent("future.png", now.plusMinutes(5))); // 아직 실행 시각 전
+
+        OutboxEvent done = createEvent("done.png", now.minusMinutes(10));
+        done.markAsDone(); // 이미 처리 완료
+        outboxEventRepository.saveAndFlush(done);
+
+        // when
+        List<OutboxEvent> claimed = outboxEventRepository.claimDueEvents(now, now.plusMinutes(5), 10);
+
+        // then
+        assertThat(claimed).extracting(OutboxEvent::getEventId)
+                .containsExactlyInAnyOrder(earlier.getEventId(), later.getEventId());
+        assertThat(claimed).extracting(OutboxEvent::getStatus).containsOnly(OutboxStatus.IN_PROGRESS);
+        assertThat(claimed).extracting(OutboxEvent::getLockedUntil).doesNotContainNull();
+        assertThat(outboxEventRepository.claimDueEvents(now, now.plusMinutes(5), 10)).isEmpty(); // 이미 선점됨
+    }
+
+    @Test
+    @DisplayName("배치 크기만큼만 선점")
+    void claimDueEventsBatchSizeTest() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 5; i++) {
+            outboxEventRepository.save(createEvent("file" + i + ".png", now.minusMinutes(1)));
+        }
+        outboxEventRepository.flush();
+
+        // when
+        List<OutboxEvent> claimed = outboxEventRepository.claimDueEvents(now, now.plusMinutes(5), 3);
+
+        // then
+        assertThat(claimed).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("재시도 한도에 도달하면 FAILED로 종료되고 대기 건수에서 빠짐")
+    void markAsFailedUntilMaxAttemptsTest() {
+        // given
+        OutboxEvent event = outboxEventRepository.save(createEvent("retry.png", LocalDateTime.now()));
+
+        // when
+        event.markAsFailed("timeout", LocalDateTime.now().plusSeconds(5), 2);
+        OutboxStatus afterFirst = event.getStatus();
+        event.markAsFailed("timeout", LocalDateTime.now().plusSeconds(10), 2);
+        outboxEventRepository.flush();
+
+        // then
+        assertThat(afterFirst).isEqualTo(OutboxStatus.PENDING);
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(event.getAttempts()).isEqualTo(2);
+        assertThat(outboxEventRepository.countByStatus(OutboxStatus.PENDING)).isZero();
+    }
+
+    @Test
+    @DisplayName("선점 만료 시각이 지난 IN_PROGRESS 이벤트만 다시 대기로 되돌림")
+    void releaseExpiredLeasesTest() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        outboxEventRepository.saveAndFlush(createEvent("expired.png", now.minusMinutes(10)));
+        outboxEventRepository.claimDueEvents(now, now.minusMinutes(1), 10); // 이미 만료된 선점
+        outboxEventRepository.saveAndFlush(createEvent("active.png", now.minusMinutes(10)));
+        outboxEventRepository.claimDueEvents(now, now.plusMinutes(5), 10);  // 유효한 선점
+
+        // when
+        int released = outboxEventRepository.releaseExpiredLeases(now);
+
+        // then
+        assertThat(released).isEqualTo(1);
+        assertThat(outboxEventRepository.countByStatus(OutboxStatus.PENDING)).isEqualTo(1);
+        assertThat(outboxEventRepository.countByStatus(OutboxStatus.IN_PROGRESS)).isEqualTo(1);
+    }
+}
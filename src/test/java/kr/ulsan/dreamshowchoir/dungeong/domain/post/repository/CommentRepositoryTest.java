@@ -2,6 +2,7 @@ package kr.ulsan.dreamshowchoir.dungeong.domain.post.repository;
 
 import kr.ulsan.dreamshowchoir.dungeong.config.JpaAuditingConfig;
 import kr.ulsan.dreamshowchoir.dungeong.domain.post.Comment;
+import kr.ulsan.dreamshowchoir.dungeong.domain.post.CommentProjection;
 import kr.ulsan.dreamshowchoir.dungeong.domain.post.Post;
 import kr.ulsan.dreamshowchoir.dungeong.domain.user.Role;
 import kr.ulsan.dreamshowchoir.dungeong.domain.user.User;
@@ -12,7 +13,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
 
 import java.util.List;
 
@@ -32,6 +35,9 @@ class CommentRepositoryTest {
     @Autowired
     private UserRepository userRepository; // Comment는 User에 의존
 
+    @Autowired
+    private TestEntityManager entityManager; // 벌크 UPDATE 이후 영속성 컨텍스트 초기화용
+
     private User savedTestUser;
     private Post savedTestPost;
 
@@ -124,4 +130,74 @@ class CommentRepositoryTest {
         // @Where(clause = "\"DELETED_AT\" IS NULL") 때문에 조회되면 안 됨
         assertThat(commentRepository.findById(commentId)).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("댓글 수 증가/감소 쿼리가 Post.commentCount에 반영됨")
+    void commentCountTest() {
+        // given (준비)
+        Long postId = savedTestPost.getPostId();
+
+        // when (실행) - 2번 증가, 1번 감소
+        postRepository.increaseCommentCount(postId);
+        postRepository.increaseCommentCount(postId);
+        postRepository.decreaseCommentCount(postId);
+        entityManager.clear(); // 벌크 UPDATE는 영속성 컨텍스트를 거치지 않으므로 DB에서 다시 조회
+
+        // then (검증)
+        Post foundPost = postRepository.findById(postId).orElseThrow();
+        assertThat(foundPost.getCommentCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("댓글 수는 0 미만으로 내려가지 않음")
+    void commentCountNotNegativeTest() {
+        // given (준비)
+        Long postId = savedTestPost.getPostId();
+
+        // when (실행)
+        int updated = postRepository.decreaseCommentCount(postId);
+        entityManager.clear();
+
+        // then (검증)
+        assertThat(updated).isZero(); // 조건(commentCount > 0)에 걸려 UPDATE 되지 않음
+        assertThat(postRepository.findById(postId).orElseThrow().getCommentCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("댓글 커서 조회 시 게시글 존재 여부와 댓글 목록을 한 번에 조회함")
+    void findPageByPostIdTest() {
+        // given (준비) - 3개의 댓글 저장
+        for (int i = 1; i <= 3; i++) {
+            commentRepository.save(Comment.builder()
+                    .post(savedTestPost)
+                    .user(savedTestUser)
+                    .content("댓글 " + i)
+                    .build());
+        }
+        commentRepository.flush();
+
+        // when (실행) - 페이지 크기 2 + 다음 페이지 확인용 1개
+        List<CommentProjection> firstPage = commentRepository.findFirstPageByPostId(savedTestPost.getPostId(), PageRequest.of(0, 3));
+        CommentProjection last = firstPage.get(1);
+        List<CommentProjection> nextPage = commentRepository.findNextPageByPostId(
+                savedTestPost.getPostId(), last.getCreatedAt(), last.getCommentId(), PageRequest.of(0, 3));
+
+        // then (검증)
+        assertThat(firstPage).extracting(CommentProjection::getContent).containsExactly("댓글 1", "댓글 2", "댓글 3");
+        assertThat(firstPage.get(0).getAuthorName()).isEqualTo("댓글작성자");
+        assertThat(nextPage).extracting(CommentProjection::getContent).containsExactly("댓글 3");
+    }
+
+    @Test
+    @DisplayName("댓글 커서 조회 시 댓글이 없으면 빈 행 1개, 게시글이 없으면 0행을 반환함")
+    void findPageByPostIdEmptyTest() {
+        // when (실행)
+        List<CommentProjection> noComments = commentRepository.findFirstPageByPostId(savedTestPost.getPostId(), PageRequest.of(0, 3));
+        List<CommentProjection> noPost = commentRepository.findFirstPageByPostId(-1L, PageRequest.of(0, 3));
+
+        // then (검증)
+        assertThat(noComments).hasSize(1);
+        assertThat(noComments.get(0).getCommentId()).isNull(); // 게시글만 있고 댓글은 없음
+        assertThat(noPost).isEmpty(); // 게시글 자체가 없음
+    }
+}
@@ -1,19 +1,27 @@
 package kr.ulsan.dreamshowchoir.dungeong.domain.post.repository;
 
 import kr.ulsan.dreamshowchoir.dungeong.config.JpaAuditingConfig;
+import kr.ulsan.dreamshowchoir.dungeong.domain.common.ImageVariants;
 import kr.ulsan.dreamshowchoir.dungeong.domain.post.Post;
 import kr.ulsan.dreamshowchoir.dungeong.domain.post.PostImage;
 import kr.ulsan.dreamshowchoir.dungeong.domain.user.Role;
 import kr.ulsan.dreamshowchoir.dungeong.domain.user.User;
 import kr.ulsan.dreamshowchoir.dungeong.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
@@ -30,6 +38,9 @@ class PostImageRepositoryTest {
     @Autowired
     private UserRepository userRepository; // Post는 User에 의존
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     private User savedTestUser;
     private Post savedTestPost;
 
@@ -78,4 +89,91 @@ class PostImageRepositoryTest {
         assertThat(foundImage.getPost().getTitle()).isEqualTo("이미지 테스트 게시글"); // 연관관계 조회
         assertThat(foundImage.getCreatedAt()).isNotNull(); // Auditing 검증
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("PostImage 여러 개를 saveAll로 저장하면 INSERT가 배치로 실행된다.")
+    void saveAllBatchInsertTest() {
+        // given (준비)
+        List<PostImage> images = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            images.add(PostImage.builder()
+                    .post(savedTestPost)
+                    .imageKey("s3-post-image-batch-" + i + ".png")
+                    .imageName("배치" + i + ".png")
+                    .fileSize(100L)
+                    .build());
+        }
+
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when (실행)
+        postImageRepository.saveAll(images);
+        entityManager.flush();
+
+        // then (검증)
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(10);
+        // IDENTITY였다면 INSERT마다 Statement가 준비됨 (10개), 시퀀스 + 배치는 시퀀스 조회와 배치 INSERT만 준비됨
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(5);
+        assertThat(images).allSatisfy(image -> assertThat(image.getImageId()).isNotNull());
+    }
+
+    @Test
+    @DisplayName("updateVariants는 원본 Key가 같을 때만 변환본을 저장하고, 조회 시 srcset 순서로 복원된다.")
+    void updateVariantsTest() {
+        // given (준비)
+        PostImage savedImage = postImageRepository.saveAndFlush(PostImage.builder()
+                .post(savedTestPost)
+                .imageKey("post/original.jpg")
+                .imageName("원본.jpg")
+                .fileSize(2048L)
+                .build());
+        ImageVariants variants = ImageVariants.of(Map.of(
+                800, "post/variants/a-w800.jpg",
+                320, "post/variants/a-w320.jpg"));
+
+        // when (실행)
+        int staleUpdated = postImageRepository.updateVariants(savedImage.getImageId(), "post/replaced.jpg", variants);
+        int updated = postImageRepository.updateVariants(savedImage.getImageId(), "post/original.jpg", variants);
+        entityManager.clear();
+
+        // then (검증)
+        PostImage foundImage = postImageRepository.findById(savedImage.getImageId()).orElseThrow();
+        assertThat(staleUpdated).isZero();
+        assertThat(updated).isEqualTo(1);
+        assertThat(foundImage.getVariants().toSrcset())
+                .isEqualTo("post/variants/a-w320.jpg 320w, post/variants/a-w800.jpg 800w");
+        assertThat(foundImage.getFileKeys())
+                .containsExactly("post/original.jpg", "post/variants/a-w320.jpg", "post/variants/a-w800.jpg");
+    }
+
+    @Test
+    @DisplayName("중복 제거로 같은 Key를 공유하는 PostImage 두 개를 저장할 수 있다.")
+    void saveImagesWithSameDeduplicatedKeyTest() {
+        // given (같은 내용의 이미지를 두 번 첨부 -> StoredObject가 같은 Key를 돌려줌)
+        String sharedKey = "post/shared-image-key.png";
+        PostImage first = PostImage.builder()
+                .post(savedTestPost)
+                .imageKey(sharedKey)
+                .imageName("첫번째.png")
+                .fileSize(512L)
+                .build();
+        PostImage second = PostImage.builder()
+                .post(savedTestPost)
+                .imageKey(sharedKey)
+                .imageName("두번째.png")
+                .fileSize(512L)
+                .build();
+
+        // when (실행)
+        postImageRepository.saveAllAndFlush(List.of(first, second));
+        entityManager.clear();
+
+        // then (검증)
+        assertThat(postImageRepository.findById(first.getImageId())).isPresent();
+        assertThat(postImageRepository.findById(second.getImageId())).isPresent();
+        assertThat(first.getImageId()).isNotEqualTo(second.getImageId());
+    }
+}
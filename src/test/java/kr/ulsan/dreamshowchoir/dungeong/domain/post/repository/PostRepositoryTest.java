@@ -1,26 +1,33 @@
 package kr.ulsan.dreamshowchoir.dungeong.domain.post.repository;
 
 import kr.ulsan.dreamshowchoir.dungeong.config.JpaAuditingConfig;
+import kr.ulsan.dreamshowchoir.dungeong.domain.common.SearchHit;
 import kr.ulsan.dreamshowchoir.dungeong.domain.post.Post;
 import kr.ulsan.dreamshowchoir.dungeong.domain.user.Role;
 import kr.ulsan.dreamshowchoir.dungeong.domain.user.User;
 import kr.ulsan.dreamshowchoir.dungeong.domain.user.repository.UserRepository;
+import kr.ulsan.dreamshowchoir.dungeong.dto.post.PostListResponseDto;
+import kr.ulsan.dreamshowchoir.dungeong.service.ViewCountService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE) // H2 DB 대신 PostgreSQL 사용
-@Import(JpaAuditingConfig.class) // JPA Auditing 기능(createdAt) 활성화
+@Import({JpaAuditingConfig.class, ViewCountService.class}) // JPA Auditing 기능(createdAt) 활성화 + 조회수 일괄 반영 검증용
 class PostRepositoryTest {
 
     @Autowired
@@ -29,6 +36,12 @@ class PostRepositoryTest {
     @Autowired
     private UserRepository userRepository; // Post는 User에 의존하므로 필요
 
+    @Autowired
+    private ViewCountService viewCountService;
+
+    @Autowired
+    private TestEntityManager entityManager; // 영속성 컨텍스트 초기화 및 Hibernate 통계 조회용
+
     private User savedTestUser; // 테스트 간 공유할 저장된 User
 
     @BeforeEach
@@ -69,8 +82,8 @@ class PostRepositoryTest {
     }
 
     @Test
-    @DisplayName("findAllWithUser 페이징 쿼리가 정상 동작함")
-    void findAllWithUserPagingTest() {
+    @DisplayName("findPostList 페이징 쿼리가 정상 동작함")
+    void findPostListPagingTest() {
         // given (준비) - 2개의 게시글 저장
         postRepository.save(Post.builder()
                 .user(savedTestUser)
@@ -84,13 +97,11 @@ class PostRepositoryTest {
                 .content("내용 2")
                 .build());
 
-        // PageRequest: 0번째 페이지(첫 페이지), 페이지 당 10개, createdAt 기준 내림차순
-        // (Repository의 @Query에 ORDER BY가 이미 있지만, Pageable에도 명시하는 것이 안전)
-        PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+        // PageRequest: 0번째 페이지(첫 페이지), 페이지 당 10개 (정렬은 Repository의 @Query ORDER BY)
+        PageRequest pageRequest = PageRequest.of(0, 10);
 
         // when (실행)
-        // @Where 절이 있는 findAllWithUser 쿼리 실행
-        Page<Post> postPage = postRepository.findAllWithUser(pageRequest);
+        Page<PostListResponseDto> postPage = postRepository.findPostList(pageRequest);
 
         // then (검증)
         assertThat(postPage.getTotalElements()).isEqualTo(2); // 전체 개수 검증
@@ -98,6 +109,115 @@ class PostRepositoryTest {
         assertThat(postPage.getContent().get(0).getTitle()).isEqualTo("게시글 2"); // 최신순 정렬 검증
     }
 
+    @Test
+    @DisplayName("커서 조회 시 (createdAt, postId) 기준으로 다음 페이지가 이어서 조회됨")
+    void findByCursorTest() {
+        // given (준비) - 3개의 게시글 저장
+        for (int i = 1; i <= 3; i++) {
+            postRepository.save(Post.builder()
+                    .user(savedTestUser)
+                    .title("게시글 " + i)
+                    .content("내용 " + i)
+                    .build());
+        }
+        postRepository.flush();
+
+        // when (실행) - 페이지 크기 2 + 다음 페이지 확인용 1개
+        List<PostListResponseDto> firstPage = postRepository.findFirstPageList(PageRequest.of(0, 3));
+        PostListResponseDto last = firstPage.get(1); // 첫 페이지(2개)의 마지막 행이 커서
+        List<PostListResponseDto> nextPage = postRepository.findNextPageList(last.getCreatedAt(), last.getPostId(), PageRequest.of(0, 3));
+
+        // then (검증)
+        assertThat(firstPage).hasSize(3); // size + 1개 조회 -> 다음 페이지 있음
+        assertThat(firstPage.get(0).getTitle()).isEqualTo("게시글 3"); // 최신순 정렬 검증
+        assertThat(nextPage).hasSize(1); // 커서 이후에는 1개만 남음
+        assertThat(nextPage.get(0).getTitle()).isEqualTo("게시글 1");
+    }
+
+    @Test
+    @DisplayName("findPostList 프로젝션 쿼리는 Post/User/Comment 엔티티를 로딩하지 않음")
+    void findPostListProjectionTest() {
+        // given (준비)
+        postRepository.save(Post.builder()
+                .user(savedTestUser)
+                .title("게시글 1")
+                .content("내용 1")
+                .build());
+        entityManager.flush();
+        entityManager.clear(); // 영속성 컨텍스트를 비워 DB 조회만 측정
+
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when (실행)
+        Page<PostListResponseDto> page = postRepository.findPostList(PageRequest.of(0, 10));
+
+        // then (검증)
+        assertThat(page.getContent()).hasSize(1);
+        assertThat(page.getContent().get(0).getAuthorName()).isEqualTo("테스트유저");
+        assertThat(statistics.getEntityLoadCount()).isZero(); // 엔티티 로딩 없이 DTO로 바로 조회
+    }
+
+    @Test
+    @DisplayName("전문 검색 시 제목/본문이 일치하는 게시글만 관련도 순으로 조회됨")
+    void searchTest() {
+        // given (준비)
+        Post titleMatch = postRepository.save(Post.builder()
+                .user(savedTestUser)
+                .title("정기공연 안내")
+                .content("이번 공연 일정입니다.")
+                .build());
+        Post contentMatch = postRepository.save(Post.builder()
+                .user(savedTestUser)
+                .title("연습 공지")
+                .content("다음 주 정기공연 리허설이 있습니다.")
+                .build());
+        postRepository.save(Post.builder()
+                .user(savedTestUser)
+                .title("잡담")
+                .content("관련 없는 글")
+                .build());
+        postRepository.flush(); // 네이티브 쿼리 실행 전 DB 반영
+
+        // when (실행)
+        List<SearchHit> hits = postRepository.searchFirstPage("정기공연", "%정기공연%", 10);
+
+        // then (검증)
+        assertThat(hits).extracting(SearchHit::getId)
+                .containsExactly(titleMatch.getPostId(), contentMatch.getPostId()); // 제목 일치(가중치 A)가 먼저
+    }
+
+    @Test
+    @DisplayName("메모리에 누적된 조회수가 flush 시 한 번의 UPDATE로 반영됨")
+    void viewCountFlushTest() {
+        // given (준비)
+        Post post1 = postRepository.save(Post.builder()
+                .user(savedTestUser)
+                .title("게시글 1")
+                .content("내용 1")
+                .build());
+        Post post2 = postRepository.save(Post.builder()
+                .user(savedTestUser)
+                .title("게시글 2")
+                .content("내용 2")
+                .build());
+        postRepository.flush();
+
+        // when (실행) - 게시글 1은 3번, 게시글 2는 1번 조회
+        viewCountService.increase(ViewCountService.Target.POST, post1.getPostId());
+        viewCountService.increase(ViewCountService.Target.POST, post1.getPostId());
+        viewCountService.increase(ViewCountService.Target.POST, post1.getPostId());
+        viewCountService.increase(ViewCountService.Target.POST, post2.getPostId());
+        viewCountService.flush();
+        entityManager.clear(); // JDBC UPDATE 결과를 DB에서 다시 조회
+
+        // then (검증)
+        assertThat(postRepository.findById(post1.getPostId()).orElseThrow().getViewCount()).isEqualTo(3);
+        assertThat(postRepository.findById(post2.getPostId()).orElseThrow().getViewCount()).isEqualTo(1);
+    }
+
     @Test
     @DisplayName("Post를 논리 삭제(@SQLDelete)하면 findById로 조회되지 않아야 함")
     void softDeleteTest() {
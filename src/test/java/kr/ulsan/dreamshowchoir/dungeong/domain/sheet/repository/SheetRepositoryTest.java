@@ -131,4 +131,32 @@ class SheetRepositoryTest {
         // @Where(clause = "\"DELETED_AT\" IS NULL") 어노테이션 덕분에 조회되지 않아야 함
         assertThat(sheetRepository.findById(sheetId)).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("중복 제거로 같은 fileKey를 공유하는 Sheet 두 개를 저장할 수 있다")
+    void saveSheetsWithSameDeduplicatedKeyTest() {
+        // given (같은 악보 파일을 두 번 업로드 -> 같은 Key를 공유)
+        String sharedKey = "sheet/shared-sheet-key.pdf";
+        Sheet first = Sheet.builder()
+                .user(savedTestUser)
+                .fileKey(sharedKey)
+                .fileName("꿈꾸지않으면.pdf")
+                .fileSize(2048L)
+                .build();
+        Sheet second = Sheet.builder()
+                .user(savedTestUser)
+                .fileKey(sharedKey)
+                .fileName("꿈꾸지않으면(복사본).pdf")
+                .fileSize(2048L)
+                .build();
+
+        // when
+        List<Sheet> saved = sheetRepository.saveAllAndFlush(List.of(first, second));
+
+        // then
+        assertThat(saved).hasSize(2);
+        assertThat(saved).extracting(Sheet::getFileKey).containsOnly(sharedKey);
+        assertThat(sheetRepository.findById(saved.get(0).getSheetId())).isPresent();
+        assertThat(sheetRepository.findById(saved.get(1).getSheetId())).isPresent();
+    }
+}
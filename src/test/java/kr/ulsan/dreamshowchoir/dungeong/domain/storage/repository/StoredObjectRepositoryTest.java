@@ -0,0 +1,148 @@
+package kr.ulsan.dreamshowchoir.dungeong.domain.storage.repository;
+
+import kr.ulsan.dreamshowchoir.dungeong.config.JpaAuditingConfig;
+import kr.ulsan.dreamshowchoir.dungeong.domain.sheet.Sheet;
+import kr.ulsan.dreamshowchoir.dungeong.domain.sheet.repository.SheetRepository;
+import kr.ulsan.dreamshowchoir.dungeong.domain.storage.StoredObject;
+import kr.ulsan.dreamshowchoir.dungeong.domain.user.Role;
+import kr.ulsan.dreamshowchoir.dungeong.domain.user.User;
+import kr.ulsan.dreamshowchoir.dungeong.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaAuditingConfig.class)
+class StoredObjectRepositoryTest {
+
+    private static final String HASH = "a".repeat(64);
+
+    @Autowired
+    private StoredObjectRepository storedObjectRepository;
+
+    @Autowired
+    private SheetRepository sheetRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("같은 폴더/해시로 다시 등록하면 먼저 등록된 URL을 반환하고 참조 수 증가")
+    void registerDuplicateTest() {
+        // given
+        String firstUrl = storedObjectRepository.register("sheet", HASH, "sheet/first.pdf", "https://bucket/sheet/first.pdf", 100L);
+
+        // when
+        String secondUrl = storedObjectRepository.register("sheet", HASH, "sheet/second.pdf", "https://bucket/sheet/second.pdf", 100L);
+
+        // then
+        assertThat(firstUrl).isEqualTo("https://bucket/sheet/first.pdf");
+        assertThat(secondUrl).isEqualTo(firstUrl);
+
+        StoredObject storedObject = storedObjectRepository.findByObjectKeyForUpdate("sheet/first.pdf").orElseThrow();
+        assertThat(storedObject.getRefCount()).isEqualTo(2);
+        assertThat(storedObjectRepository.findByObjectKeyForUpdate("sheet/second.pdf")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("해시가 같아도 폴더가 다르면 별도 객체로 등록")
+    void registerOtherDirectoryTest() {
+        // given
+        storedObjectRepository.register("sheet", HASH, "sheet/first.pdf", "https://bucket/sheet/first.pdf", 100L);
+
+        // when
+        String url = storedObjectRepository.register("post", HASH, "post/first.pdf", "https://bucket/post/first.pdf", 100L);
+
+        // then
+        assertThat(url).isEqualTo("https://bucket/post/first.pdf");
+    }
+
+    @Test
+    @DisplayName("해시로 기존 객체를 찾으면 참조 수를 늘리고 URL 반환, 없으면 빈 목록")
+    void acquireByContentHashTest() {
+        // given
+        storedObjectRepository.register("gallery", HASH, "gallery/photo.jpg", "https://bucket/gallery/photo.jpg", 100L);
+
+        // when
+        List<String> hit = storedObjectRepository.acquireByContentHash("gallery", HASH);
+        List<String> miss = storedObjectRepository.acquireByContentHash("gallery", "b".repeat(64));
+
+        // then
+        assertThat(hit).containsExactly("https://bucket/gallery/photo.jpg");
+        assertThat(miss).isEmpty();
+        assertThat(storedObjectRepository.findByObjectKeyForUpdate("gallery/photo.jpg").orElseThrow().getRefCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("참조 반납 시 남은 참조 수 반환")
+    void releaseTest() {
+        // given
+        storedObjectRepository.register("sheet", HASH, "sheet/first.pdf", "https://bucket/sheet/first.pdf", 100L);
+        storedObjectRepository.register("sheet", HASH, "sheet/second.pdf", "https://bucket/sheet/second.pdf", 100L);
+        StoredObject storedObject = storedObjectRepository.findByObjectKeyForUpdate("sheet/first.pdf").orElseThrow();
+
+        // when & then
+        assertThat(storedObject.release()).isEqualTo(1);
+        assertThat(storedObject.release()).isZero();
+    }
+
+    @Test
+    @DisplayName("참조 중인 파일 Key 조회 시 논리 삭제된 행의 파일은 제외")
+    void streamReferencedFileKeysTest() {
+        // given
+        User user = userRepository.saveAndFlush(User.builder()
+                .name("정리담당자")
+                .email("gc@example.com")
+                .oauthProvider("google")
+                .oauthId("google_gc_123")
+                .profileImageKey("profile/user/me.jpg")
+                .role(Role.MEMBER)
+                .build());
+        sheetRepository.save(Sheet.builder().user(user).fileKey("sheet/alive.pdf").fileName("alive.pdf").fileSize(100L).build());
+        Sheet deletedSheet = sheetRepository.save(Sheet.builder().user(user).fileKey("sheet/deleted.pdf").fileName("deleted.pdf").fileSize(100L).build());
+        sheetRepository.flush();
+        sheetRepository.delete(deletedSheet);
+        sheetRepository.flush();
+
+        // when
+        List<String> keys;
+        try (Stream<String> stream = storedObjectRepository.streamReferencedFileKeys()) {
+            keys = stream.toList();
+        }
+
+        // then
+        assertThat(keys).contains("profile/user/me.jpg", "sheet/alive.pdf");
+        assertThat(keys).doesNotContain("sheet/deleted.pdf");
+        assertThat(storedObjectRepository.countReferencedFileKeys()).isEqualTo(keys.size());
+    }
+
+    @Test
+    @DisplayName("기준 시각 이후에 사용된 행은 남기고, 실제로 지운 인덱스 행의 Key만 반환")
+    void deleteUnusedSinceTest() {
+        // given
+        storedObjectRepository.register("sheet", HASH, "sheet/first.pdf", "https://bucket/sheet/first.pdf", 100L);
+
+        // when
+        List<String> indexed = storedObjectRepository.findObjectKeysIn(List.of("sheet/first.pdf", "sheet/unknown.pdf"));
+        List<String> deletedBeforePast = storedObjectRepository.deleteUnusedSince(
+                List.of("sheet/first.pdf"), LocalDateTime.now().minusDays(1));
+        List<String> deletedBeforeFuture = storedObjectRepository.deleteUnusedSince(
+                List.of("sheet/first.pdf", "sheet/unknown.pdf"), LocalDateTime.now().plusDays(1));
+
+        // then
+        assertThat(indexed).containsExactly("sheet/first.pdf");
+        assertThat(deletedBeforePast).isEmpty(); // 기준 시각 이후에 등록됨 -> 보류
+        assertThat(deletedBeforeFuture).containsExactly("sheet/first.pdf");
+        assertThat(storedObjectRepository.findByObjectKeyForUpdate("sheet/first.pdf")).isEmpty();
+    }
+}